@@ -0,0 +1,282 @@
+```java
+package data_structures;
+
+import java.util.function.Consumer;
+
+/**
+ * A double-ended queue stored in a circular array. The elements occupy size consecutive slots starting at head,
+ * wrapping around the end of the array; adding or removing at either end moves head or the implicit tail by one slot.
+ * The array length is always a power of two, so wrapping an index is a bit mask rather than a division or a branch.
+ *
+ * Nothing is allocated per element: the array doubles when it is full (copying the elements into order at the
+ * start of the new array) and is otherwise reused, so a deque that cycles through push/pop or enqueue/dequeue at a
+ * steady size allocates nothing at all. It backs {@link Stack} and {@link Queue}.
+ *
+ * Complexity:
+ *   Space:       O(capacity), capacity < 2 * max size reached
+ *   addFirst:    O(1) amortized (O(n) when the array doubles)
+ *   addLast:     O(1) amortized (O(n) when the array doubles)
+ *   pollFirst:   O(1)
+ *   pollLast:    O(1)
+ *   peek*:       O(1)
+ *   get(index):  O(1)
+ *   size:        O(1)
+ *
+ * @param <T> the type of elements stored in the deque
+ */
+public class ArrayDeque<T> {
+    /** Default array length. */
+    private static final int DEFAULT_CAPACITY = 16;
+    /** Largest power-of-two array length. */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** Circular storage; its length is a power of two and slots outside the elements are null. */
+    private Object[] elements;
+    /** Index of the first element. */
+    private int head;
+    /** Number of elements in the deque. */
+    private int size;
+
+    /**
+     * Constructs an empty deque with room for DEFAULT_CAPACITY (16) elements.
+     */
+    public ArrayDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty deque with room for at least the given number of elements before it grows.
+     *
+     * @param initialCapacity expected number of elements (rounded up to a power of two)
+     * @throws IllegalArgumentException if initialCapacity is negative or larger than 2^30
+     */
+    public ArrayDeque(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Initial capacity must be between 0 and 2^30: " + initialCapacity);
+        }
+        int capacity = initialCapacity <= 1 ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1;
+        this.elements = new Object[capacity];
+    }
+
+    /**
+     * Inserts an element at the front of the deque.
+     *
+     * @param value the element to add (may be null)
+     * @throws IllegalStateException if the deque already holds 2^30 elements
+     */
+    public void addFirst(T value) {
+        if (size == elements.length) {
+            grow();
+        }
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = value;
+        size++;
+    }
+
+    /**
+     * Inserts an element at the end of the deque.
+     *
+     * @param value the element to add (may be null)
+     * @throws IllegalStateException if the deque already holds 2^30 elements
+     */
+    public void addLast(T value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the first element.
+     *
+     * @return the first element, or null if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+        T value = (T) elements[head];
+        elements[head] = null; // help garbage collection
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * Removes and returns the last element.
+     *
+     * @return the last element, or null if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pollLast() {
+        if (size == 0) {
+            return null;
+        }
+        size--;
+        int index = (head + size) & (elements.length - 1);
+        T value = (T) elements[index];
+        elements[index] = null; // help garbage collection
+        return value;
+    }
+
+    /**
+     * Returns (but does not remove) the first element.
+     *
+     * @return the first element, or null if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekFirst() {
+        return size == 0 ? null : (T) elements[head];
+    }
+
+    /**
+     * Returns (but does not remove) the last element.
+     *
+     * @return the last element, or null if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekLast() {
+        return size == 0 ? null : (T) elements[(head + size - 1) & (elements.length - 1)];
+    }
+
+    /**
+     * Returns the element at the given position, counting from the first element.
+     *
+     * @param index position from the front (0 ≤ index < size)
+     * @return the element at that position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (T) elements[(head + index) & (elements.length - 1)];
+    }
+
+    /**
+     * Performs the given action on every element from first to last.
+     *
+     * @param action action to perform on each element
+     * @throws NullPointerException if action is null
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException("Action must not be null");
+        }
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            action.accept((T) elements[(head + i) & mask]);
+        }
+    }
+
+    /**
+     * Returns true if the deque contains no elements.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the deque.
+     *
+     * @return the current size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the length of the backing array.
+     *
+     * @return the current capacity, a power of two
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Removes all elements. The array is kept for reuse; only the slots that held elements are cleared.
+     */
+    public void clear() {
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /** Doubles the array, copying the elements to its start in order. */
+    private void grow() {
+        int capacity = elements.length;
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("ArrayDeque is full");
+        }
+        Object[] grown = new Object[capacity << 1];
+        int firstPart = capacity - head; // elements from head to the end of the old array
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, head);
+        elements = grown;
+        head = 0;
+    }
+
+    /**
+     * Returns a string representation of the deque in the form [first, ..., last].
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        forEach(value -> sb.append(value).append(", "));
+        sb.setLength(sb.length() - 2);
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) {
+        ArrayDeque<Integer> deque = new ArrayDeque<>(4);
+
+        System.out.println("Add last 1, 2, 3; add first 0, -1");
+        deque.addLast(1);
+        deque.addLast(2);
+        deque.addLast(3);
+        deque.addFirst(0);
+        deque.addFirst(-1); // fifth element: the array doubles from 4 to 8
+        System.out.println("Deque: " + deque);                  // [-1, 0, 1, 2, 3]
+        System.out.println("Capacity: " + deque.capacity());    // 8
+        System.out.println("Get index 3: " + deque.get(3));     // 2
+
+        System.out.println("\nPoll first: " + deque.pollFirst()); // -1
+        System.out.println("Poll last: " + deque.pollLast());     // 3
+        System.out.println("Peek first: " + deque.peekFirst());   // 0
+        System.out.println("Peek last: " + deque.peekLast());     // 2
+
+        System.out.println("\nCycle 1000 add-last/poll-first pairs (wraps around, no growth)");
+        for (int i = 0; i < 1000; i++) {
+            deque.addLast(i);
+            deque.pollFirst();
+        }
+        System.out.println("Deque: " + deque);                  // [997, 998, 999]
+        System.out.println("Capacity: " + deque.capacity());    // 8
+
+        System.out.println("\nClear deque");
+        deque.clear();
+        System.out.println("Is empty? " + deque.isEmpty());     // true
+        System.out.println("Poll on empty: " + deque.pollLast()); // null
+    }
+}
+```
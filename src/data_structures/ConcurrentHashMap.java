@@ -0,0 +1,584 @@
+```java
+package data_structures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * A thread-safe hash table built on the same design as {@link HashMap}: a power-of-two array of buckets, each the head
+ * of a singly linked list of Nodes. It is safe to use from many threads at once without external locking:
+ *
+ *   - get never locks: Node values and links are volatile, so a reader walking a bucket sees fully built nodes.
+ *   - put into an empty bucket is a single compare-and-set of the bucket; any other write locks only the first node
+ *     of its bucket, so writers to different buckets never contend.
+ *   - resize is cooperative: the table is split into ranges of buckets, and every thread that notices a resize in
+ *     progress claims ranges and moves them. A moved bucket is replaced by a ForwardingNode that sends readers and
+ *     writers on to the new table, so nobody waits for the whole resize.
+ *   - size is kept in a LongAdder, so concurrent inserts do not all update one contended counter.
+ *
+ * Unlike HashMap, null keys and values are not permitted: a null returned from get must unambiguously mean "absent"
+ * when another thread may be changing the map at the same time. keys() and values() are weakly consistent: they
+ * reflect some state of each bucket during the traversal, never throw, and may miss concurrent updates.
+ *
+ * Complexity (assuming a good hash function and uniform distribution):
+ *
+ *   Algorithm   Average       Worst Case
+ *   Space       O(n + k)      O(n + k)      (where k = number of buckets)
+ *   get         O(1)          O(n)          (all keys collide into one bucket)
+ *   put         O(1)          O(n)
+ *   remove      O(1)          O(n)
+ *   size        O(c)          O(c)          (where c = number of LongAdder cells, at most the number of CPUs)
+ *
+ * @param <K> type of keys (must implement hashCode() and equals())
+ * @param <V> type of values
+ */
+public class ConcurrentHashMap<K, V> {
+    /** Default initial capacity (number of buckets). Must be a power of two. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    /** Default load factor before resizing. */
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    /** Largest power-of-two capacity the table can grow to. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    /** Hash of ForwardingNodes; hashes of real keys are masked to be non-negative. */
+    private static final int MOVED = -1;
+    /** Mask that keeps hashes of real keys non-negative. */
+    private static final int HASH_BITS = 0x7fffffff;
+    /** Minimum number of buckets a resizing thread claims at a time. */
+    private static final int MIN_TRANSFER_STRIDE = 16;
+    /** Number of CPUs, used to size the ranges claimed during a resize. */
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+    /** Array of buckets; replaced as a whole once a resize completes. */
+    private volatile AtomicReferenceArray<Node<K, V>> table;
+    /** The resize in progress, or null. */
+    private volatile Transfer<K, V> transfer;
+    /** Size at which the next resize starts, or -1 while one is in progress. */
+    private final AtomicInteger sizeCtl;
+    /** Number of key-value mappings, spread over cells to avoid contention. */
+    private final LongAdder count = new LongAdder();
+    /** Load factor for deciding when to resize. */
+    private final float loadFactor;
+
+    /**
+     * Node class for storing key-value pairs in each bucket's linked list. The value and link are volatile so that
+     * lock-free readers always see the latest write made under the bucket lock.
+     */
+    private static class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Marker placed in a bucket of the old table once its entries have been copied to the new table.
+     */
+    private static final class ForwardingNode<K, V> extends Node<K, V> {
+        final AtomicReferenceArray<Node<K, V>> nextTable;
+
+        ForwardingNode(AtomicReferenceArray<Node<K, V>> nextTable) {
+            super(MOVED, null, null, null);
+            this.nextTable = nextTable;
+        }
+    }
+
+    /**
+     * State of one table doubling, shared by every thread that helps with it.
+     */
+    private static final class Transfer<K, V> {
+        final AtomicReferenceArray<Node<K, V>> table;
+        final AtomicReferenceArray<Node<K, V>> nextTable;
+        final ForwardingNode<K, V> forward;
+        /** Buckets [0, transferIndex) have not been claimed by any thread yet. */
+        final AtomicInteger transferIndex;
+        /** Threads currently working on this transfer; once it drops to 0 nobody can join any more. */
+        final AtomicInteger helpers = new AtomicInteger(1);
+        final int stride;
+
+        Transfer(AtomicReferenceArray<Node<K, V>> table, AtomicReferenceArray<Node<K, V>> nextTable) {
+            this.table = table;
+            this.nextTable = nextTable;
+            this.forward = new ForwardingNode<>(nextTable);
+            this.transferIndex = new AtomicInteger(table.length());
+            this.stride = Math.max(MIN_TRANSFER_STRIDE, table.length() / (8 * NCPU));
+        }
+    }
+
+    /**
+     * Constructs an empty ConcurrentHashMap with default initial capacity (16) and load factor (0.75).
+     */
+    public ConcurrentHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty ConcurrentHashMap with the specified initial capacity and default load factor (0.75).
+     *
+     * @param initialCapacity initial number of buckets (will be rounded up to a power of two)
+     * @throws IllegalArgumentException if initialCapacity is non-positive
+     */
+    public ConcurrentHashMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty ConcurrentHashMap with the specified initial capacity and load factor.
+     *
+     * @param initialCapacity initial number of buckets (will be rounded up to a power of two)
+     * @param loadFactor load factor threshold for resizing
+     * @throws IllegalArgumentException if initialCapacity is non-positive or loadFactor is non-positive
+     */
+    public ConcurrentHashMap(int initialCapacity, float loadFactor) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Load factor must be positive");
+        }
+        int cap = HashMap.tableSizeFor(initialCapacity);
+        this.loadFactor = loadFactor;
+        this.table = new AtomicReferenceArray<>(cap);
+        this.sizeCtl = new AtomicInteger((int) (cap * loadFactor));
+    }
+
+    /**
+     * Computes the hash for a given key, spread like HashMap's and masked to be non-negative.
+     */
+    private static int hash(Object key) {
+        return HashMap.spread(key.hashCode()) & HASH_BITS;
+    }
+
+    /**
+     * Puts the key-value pair into the map. If the key already exists, its value is replaced.
+     *
+     * @param key key to insert
+     * @param value value to associate with the key
+     * @return the previous value associated with key, or null if none
+     * @throws NullPointerException if key or value is null
+     */
+    public V put(K key, V value) {
+        return putVal(key, value, false);
+    }
+
+    /**
+     * Associates the value with the key only if the key is not already present, as one atomic step.
+     *
+     * @param key key to insert
+     * @param value value to associate with the key
+     * @return the value already associated with key, or null if the new mapping was added
+     * @throws NullPointerException if key or value is null
+     */
+    public V putIfAbsent(K key, V value) {
+        return putVal(key, value, true);
+    }
+
+    private V putVal(K key, V value, boolean onlyIfAbsent) {
+        if (key == null || value == null) {
+            throw new NullPointerException("Keys and values must not be null");
+        }
+        int hash = hash(key);
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        while (true) {
+            int index = (tab.length() - 1) & hash;
+            Node<K, V> first = tab.get(index);
+            if (first == null) {
+                // Empty bucket: publish the new node without locking
+                if (tab.compareAndSet(index, null, new Node<>(hash, key, value, null))) {
+                    addCount(1);
+                    return null;
+                }
+            } else if (first.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) first);
+            } else {
+                V oldValue = null;
+                boolean locked = false;
+                synchronized (first) {
+                    // The bucket may have been changed or moved while we waited for its lock
+                    if (tab.get(index) == first) {
+                        locked = true;
+                        for (Node<K, V> node = first; ; node = node.next) {
+                            if (node.hash == hash && (key == node.key || key.equals(node.key))) {
+                                oldValue = node.value;
+                                if (!onlyIfAbsent) {
+                                    node.value = value;
+                                }
+                                break;
+                            }
+                            if (node.next == null) {
+                                node.next = new Node<>(hash, key, value, null);
+                                break;
+                            }
+                        }
+                    }
+                }
+                if (locked) {
+                    if (oldValue == null) {
+                        addCount(1);
+                    }
+                    return oldValue;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the value associated with the given key. Never blocks.
+     *
+     * @param key key to look up
+     * @return the value if found, or null if not found
+     * @throws NullPointerException if key is null
+     */
+    public V get(Object key) {
+        int hash = hash(key);
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        while (true) {
+            Node<K, V> node = tab.get((tab.length() - 1) & hash);
+            if (node == null) {
+                return null;
+            }
+            if (node.hash == MOVED) {
+                tab = ((ForwardingNode<K, V>) node).nextTable;
+                continue;
+            }
+            for (; node != null; node = node.next) {
+                if (node.hash == hash && (key == node.key || key.equals(node.key))) {
+                    return node.value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Removes the key (and its corresponding value) from this map if present.
+     *
+     * @param key key whose mapping is to be removed
+     * @return the previous value associated with key, or null if none
+     * @throws NullPointerException if key is null
+     */
+    public V remove(Object key) {
+        int hash = hash(key);
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        while (true) {
+            int index = (tab.length() - 1) & hash;
+            Node<K, V> first = tab.get(index);
+            if (first == null) {
+                return null;
+            }
+            if (first.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) first);
+                continue;
+            }
+            V oldValue = null;
+            boolean locked = false;
+            synchronized (first) {
+                if (tab.get(index) == first) {
+                    locked = true;
+                    Node<K, V> prev = null;
+                    for (Node<K, V> node = first; node != null; prev = node, node = node.next) {
+                        if (node.hash == hash && (key == node.key || key.equals(node.key))) {
+                            oldValue = node.value;
+                            // Readers already on the removed node can still follow its next link
+                            if (prev == null) {
+                                tab.set(index, node.next);
+                            } else {
+                                prev.next = node.next;
+                            }
+                            break;
+                        }
+                    }
+                }
+            }
+            if (locked) {
+                if (oldValue != null) {
+                    addCount(-1);
+                }
+                return oldValue;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the map contains the specified key.
+     *
+     * @param key key whose presence is to be tested
+     * @return true if the map contains a mapping for the key
+     * @throws NullPointerException if key is null
+     */
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the number of key-value mappings in this map. While other threads are modifying the map, the result
+     * is only an estimate.
+     *
+     * @return current size
+     */
+    public int size() {
+        long n = count.sum();
+        return n < 0 ? 0 : n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+    }
+
+    /**
+     * Returns true if this map contains no key-value mappings.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return count.sum() <= 0;
+    }
+
+    /**
+     * Removes all mappings from this map, one bucket at a time. The capacity remains unchanged.
+     */
+    public void clear() {
+        long removed = 0;
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        int index = 0;
+        while (index < tab.length()) {
+            Node<K, V> first = tab.get(index);
+            if (first == null) {
+                index++;
+            } else if (first.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) first);
+                index = 0;
+            } else {
+                synchronized (first) {
+                    if (tab.get(index) == first) {
+                        for (Node<K, V> node = first; node != null; node = node.next) {
+                            removed++;
+                        }
+                        tab.set(index, null);
+                        index++;
+                    }
+                }
+            }
+        }
+        if (removed != 0) {
+            count.add(-removed);
+        }
+    }
+
+    /**
+     * Returns a List of all keys in this map. Order is not guaranteed.
+     *
+     * @return List of keys
+     */
+    public List<K> keys() {
+        List<K> keyList = new ArrayList<>(size());
+        traverse((key, value) -> keyList.add(key));
+        return keyList;
+    }
+
+    /**
+     * Returns a List of all values in this map. Order corresponds to keys() order if the map is not modified in between.
+     *
+     * @return List of values
+     */
+    public List<V> values() {
+        List<V> valueList = new ArrayList<>(size());
+        traverse((key, value) -> valueList.add(value));
+        return valueList;
+    }
+
+    /** Visits every mapping, following forwarding nodes into the table a bucket was moved to. */
+    private void traverse(BiConsumer<K, V> visitor) {
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        for (int i = 0; i < tab.length(); i++) {
+            traverseBucket(tab, i, visitor);
+        }
+    }
+
+    private static <K, V> void traverseBucket(AtomicReferenceArray<Node<K, V>> tab, int index,
+                                              BiConsumer<K, V> visitor) {
+        Node<K, V> node = tab.get(index);
+        if (node != null && node.hash == MOVED) {
+            // A bucket i of a table of length n is split into buckets i and i + n of the next table
+            AtomicReferenceArray<Node<K, V>> next = ((ForwardingNode<K, V>) node).nextTable;
+            traverseBucket(next, index, visitor);
+            traverseBucket(next, index + tab.length(), visitor);
+            return;
+        }
+        for (; node != null; node = node.next) {
+            V value = node.value;
+            if (value != null) {
+                visitor.accept(node.key, value);
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Size counting and cooperative resizing
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adjusts the size count; after an insertion, helps a resize in progress or starts one if the size has reached
+     * the threshold.
+     */
+    private void addCount(long delta) {
+        count.add(delta);
+        if (delta <= 0) {
+            return;
+        }
+        while (true) {
+            Transfer<K, V> current = transfer;
+            if (current != null) {
+                if (join(current)) {
+                    runTransfer(current);
+                }
+                return;
+            }
+            int sc = sizeCtl.get();
+            // sc < 0: another thread is just setting up a resize
+            if (sc < 0 || count.sum() < sc) {
+                return;
+            }
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            if (tab.length() >= MAXIMUM_CAPACITY) {
+                return;
+            }
+            if (sizeCtl.compareAndSet(sc, -1)) {
+                Transfer<K, V> started = new Transfer<>(tab, new AtomicReferenceArray<>(tab.length() << 1));
+                transfer = started;
+                runTransfer(started);
+                // Loop: the doubled table may already be over its own threshold
+            }
+        }
+    }
+
+    /**
+     * Called by a writer that ran into a ForwardingNode: helps finish that resize if it is still running, and returns
+     * the table the writer should retry in.
+     */
+    private AtomicReferenceArray<Node<K, V>> helpTransfer(ForwardingNode<K, V> forward) {
+        Transfer<K, V> current = transfer;
+        if (current != null && current.nextTable == forward.nextTable && join(current)) {
+            runTransfer(current);
+        }
+        return forward.nextTable;
+    }
+
+    /** Registers the calling thread as a helper of the transfer, unless it has already completed. */
+    private static boolean join(Transfer<?, ?> t) {
+        while (true) {
+            int helpers = t.helpers.get();
+            if (helpers == 0 || t.transferIndex.get() <= 0) {
+                return false;
+            }
+            if (t.helpers.compareAndSet(helpers, helpers + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Claims ranges of buckets from the top of the old table and moves them until none are left. The last helper to
+     * leave publishes the new table.
+     */
+    private void runTransfer(Transfer<K, V> t) {
+        while (true) {
+            int hi = t.transferIndex.get();
+            if (hi <= 0) {
+                break;
+            }
+            int lo = Math.max(0, hi - t.stride);
+            if (t.transferIndex.compareAndSet(hi, lo)) {
+                for (int i = hi - 1; i >= lo; i--) {
+                    moveBucket(t, i);
+                }
+            }
+        }
+        if (t.helpers.decrementAndGet() == 0) {
+            // Every claimed range has been moved
+            int newCapacity = t.nextTable.length();
+            table = t.nextTable;
+            transfer = null;
+            sizeCtl.set(newCapacity >= MAXIMUM_CAPACITY ? Integer.MAX_VALUE : (int) (newCapacity * loadFactor));
+        }
+    }
+
+    /**
+     * Copies bucket i of the old table into buckets i and i + n of the new table, then replaces it by the forwarding
+     * node. Nodes are copied rather than relinked, so readers still walking the old bucket are not disturbed.
+     */
+    private static <K, V> void moveBucket(Transfer<K, V> t, int index) {
+        AtomicReferenceArray<Node<K, V>> tab = t.table;
+        int n = tab.length();
+        while (true) {
+            Node<K, V> first = tab.get(index);
+            if (first == null) {
+                if (tab.compareAndSet(index, null, t.forward)) {
+                    return;
+                }
+                continue;
+            }
+            synchronized (first) {
+                if (tab.get(index) != first) {
+                    continue;
+                }
+                Node<K, V> lo = null;
+                Node<K, V> hi = null;
+                for (Node<K, V> node = first; node != null; node = node.next) {
+                    if ((node.hash & n) == 0) {
+                        lo = new Node<>(node.hash, node.key, node.value, lo);
+                    } else {
+                        hi = new Node<>(node.hash, node.key, node.value, hi);
+                    }
+                }
+                t.nextTable.set(index, lo);
+                t.nextTable.set(index + n, hi);
+                tab.set(index, t.forward);
+                return;
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentHashMap<String, Integer> map = new ConcurrentHashMap<>();
+
+        System.out.println("Putting entries:");
+        map.put("apple", 1);
+        map.put("banana", 2);
+        System.out.println("putIfAbsent apple -> " + map.putIfAbsent("apple", 10)); // 1 (unchanged)
+        System.out.println("Size after inserts: " + map.size());                     // 2
+        System.out.println("apple -> " + map.get("apple"));                          // 1
+
+        System.out.println("\nFour threads inserting 10,000 keys each:");
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int base = t * 10_000;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    map.put("key" + (base + i), base + i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        System.out.println("Size: " + map.size());                       // 40002
+        System.out.println("key12345 -> " + map.get("key12345"));        // 12345
+        System.out.println("Capacity: " + map.table.length());
+
+        System.out.println("\nRemoving 'banana': " + map.remove("banana")); // 2
+        map.clear();
+        System.out.println("Is empty after clear? " + map.isEmpty());       // true
+    }
+}
+```
@@ -0,0 +1,277 @@
+```java
+package data_structures;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A thread-safe, lock-free FIFO queue with the API of {@link Queue}, after Michael and Scott's non-blocking queue
+ * ("Simple, Fast, and Practical Non-Blocking and Blocking Concurrent Queue Algorithms", PODC 1996).
+ *
+ * Design notes:
+ *   - The queue is a singly linked list that always starts with a dummy node. head points at the dummy; the first
+ *     element lives in head.next. Producers only touch tail and consumers only touch head, so the two ends do not
+ *     contend with each other except when the queue is nearly empty.
+ *   - enqueue links the new node with a CAS on the last node's next, then swings tail to it with a second CAS. If a
+ *     thread finds tail lagging behind the real last node (another enqueue is between its two CASes), it advances
+ *     tail itself before retrying, so no thread ever waits for another: the queue is lock-free.
+ *   - dequeue moves head one node forward with a CAS; the node that held the element becomes the new dummy.
+ *   - ABA cannot occur: nodes are never reused, and the garbage collector does not free a node while any thread still
+ *     holds a reference to it, so a CAS that sees the expected node really sees the same node it read earlier.
+ *   - A dequeued dummy is linked to itself, so that a dead node promoted to the old generation does not keep the
+ *     live nodes after it reachable. Traversals that meet such a node restart from head.
+ *   - size is not a shared counter, which would add a contended atomic update to every enqueue and dequeue. Instead
+ *     each node is numbered one past its predecessor when it is linked, and size is tail's number minus head's. It
+ *     is exact when the queue is quiescent and may miss enqueues still in progress.
+ *   - Nodes use field updaters instead of one AtomicReference each, which would double the allocations per element.
+ *     An element is stored and cleared with lazySet: the CAS that links or unlinks the node already orders it, so
+ *     the full fence of a volatile store would be wasted.
+ *   - Null elements are not allowed, because dequeue and peek return null for an empty queue.
+ *
+ * Complexity:
+ *   enqueue:    O(1) (plus retries under contention)
+ *   dequeue:    O(1) (plus retries under contention)
+ *   peek:       O(1)
+ *   isEmpty:    O(1)
+ *   size:       O(1)
+ *
+ * @param <T> the type of elements stored in the queue
+ */
+public class ConcurrentQueue<T> {
+
+    /**
+     * Inner node class for the singly linked list. data is null in the dummy node.
+     */
+    private static class Node<E> {
+        volatile E data;
+        volatile Node<E> next;
+        /** Number of nodes linked before this one since the queue was created; set before the node is published. */
+        long sequence;
+
+        Node(E data) {
+            DATA.lazySet(this, data);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Object> DATA =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "data");
+
+    /** The dummy node; the front element is in head.next. */
+    private final AtomicReference<Node<T>> head;
+    /** The last node, or a node shortly before it while an enqueue is between its two CASes. */
+    private final AtomicReference<Node<T>> tail;
+
+    /** Constructs an empty queue. */
+    public ConcurrentQueue() {
+        Node<T> dummy = new Node<>(null);
+        head = new AtomicReference<>(dummy);
+        tail = new AtomicReference<>(dummy);
+    }
+
+    /**
+     * Inserts the specified element into the rear of this queue.
+     *
+     * @param value the element to enqueue
+     * @throws NullPointerException if value is null
+     */
+    public void enqueue(T value) {
+        if (value == null) {
+            throw new NullPointerException("Element must not be null");
+        }
+        Node<T> newNode = new Node<>(value);
+        while (true) {
+            Node<T> last = tail.get();
+            Node<T> next = last.next;
+            if (last != tail.get()) {
+                continue; // tail moved while we read it
+            }
+            if (next == null) {
+                newNode.sequence = last.sequence + 1;
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    // Linked; swinging tail may fail if another thread already helped, which is fine
+                    tail.compareAndSet(last, newNode);
+                    return;
+                }
+            } else {
+                // tail is lagging behind: help the other enqueue finish before retrying
+                tail.compareAndSet(last, next);
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes the head of this queue.
+     *
+     * @return the element at the front, or null if the queue is empty
+     */
+    public T dequeue() {
+        while (true) {
+            Node<T> first = head.get();
+            Node<T> last = tail.get();
+            Node<T> next = first.next;
+            if (first != head.get()) {
+                continue; // head moved while we read it
+            }
+            if (first == last) {
+                if (next == null) {
+                    return null;
+                }
+                // An element is linked but tail has not caught up; advance it so head never passes tail
+                tail.compareAndSet(last, next);
+            } else {
+                T result = next.data;
+                if (head.compareAndSet(first, next)) {
+                    // next is the new dummy; drop its element and cut the old dummy off the live list
+                    DATA.lazySet(next, null);
+                    NEXT.lazySet(first, first);
+                    return result;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue.
+     *
+     * @return the element at the front, or null if the queue is empty
+     */
+    public T peek() {
+        while (true) {
+            Node<T> first = head.get();
+            Node<T> next = first.next;
+            if (next == null) {
+                return null;
+            }
+            T result = next.data;
+            // If head has not moved, next had not been dequeued yet when its element was read
+            if (first == head.get()) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Returns true if this queue contains no elements.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return head.get().next == null;
+    }
+
+    /**
+     * Returns the number of elements in this queue. Under concurrent updates the result is an estimate that may lag
+     * behind operations still in progress.
+     *
+     * @return the current size
+     */
+    public int size() {
+        // Read head first: tail is never behind head, so the difference cannot be negative
+        long first = head.get().sequence;
+        long last = tail.get().sequence;
+        return (int) Math.min(last - first, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes all elements from this queue. Elements enqueued concurrently may or may not be removed.
+     */
+    public void clear() {
+        while (dequeue() != null) {
+            // keep dequeuing until the queue is observed empty
+        }
+    }
+
+    /**
+     * Returns a string representation of the queue in the form [a, b, c, ...],
+     * where 'a' is the front element and 'c' is the rear. Under concurrent updates the result reflects some
+     * interleaving of them and may not match any single moment.
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        Node<T> current = head.get().next;
+        while (current != null) {
+            T data = current.data;
+            if (data != null) {
+                sb.append(data).append(", ");
+            }
+            Node<T> next = current.next;
+            // A self-link means current was dequeued meanwhile: continue from the live front
+            current = next == current ? head.get().next : next;
+        }
+        if (sb.length() > 1) {
+            sb.setLength(sb.length() - 2);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentQueue<Integer> queue = new ConcurrentQueue<>();
+
+        System.out.println("Enqueue 10, 20, 30:");
+        queue.enqueue(10);
+        queue.enqueue(20);
+        queue.enqueue(30);
+        System.out.println("Queue: " + queue);       // [10, 20, 30]
+        System.out.println("Size: " + queue.size()); // 3
+        System.out.println("Peek: " + queue.peek()); // 10
+
+        System.out.println("\nDequeue twice:");
+        System.out.println("Dequeued: " + queue.dequeue()); // 10
+        System.out.println("Dequeued: " + queue.dequeue()); // 20
+        System.out.println("Queue now: " + queue);          // [30]
+        System.out.println("Dequeued: " + queue.dequeue()); // 30
+        System.out.println("Dequeue on empty: " + queue.dequeue()); // null
+        System.out.println("IsEmpty? " + queue.isEmpty());   // true
+
+        System.out.println("\nFour producers enqueue 0 .. 99 999 each while four consumers drain:");
+        int producers = 4;
+        int perProducer = 100_000;
+        ConcurrentQueue<Integer> shared = new ConcurrentQueue<>();
+        AtomicLong consumedSum = new AtomicLong();
+        AtomicInteger consumed = new AtomicInteger();
+        Thread[] threads = new Thread[2 * producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    shared.enqueue(i);
+                }
+            });
+        }
+        for (int c = 0; c < producers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                while (consumed.get() < producers * perProducer) {
+                    Integer value = shared.dequeue();
+                    if (value != null) {
+                        consumedSum.addAndGet(value);
+                        consumed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long expected = (long) producers * perProducer * (perProducer - 1) / 2;
+        System.out.println("Consumed: " + consumed.get());                    // 400000
+        System.out.println("Sum matches: " + (consumedSum.get() == expected)); // true
+        System.out.println("Size: " + shared.size());                          // 0
+    }
+}
+```
@@ -0,0 +1,509 @@
+```java
+package data_structures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe set built on the same design as {@link Set}: a power-of-two array of buckets, each the head of a
+ * singly linked list of Nodes. Unlike {@link ConcurrentHashMap}, it never locks:
+ *
+ *   - Nodes are immutable, so a bucket's list never changes once published; contains just walks it.
+ *   - add links a new node in front of the bucket's current head with a single compare-and-set of the bucket.
+ *   - remove builds a copy of the nodes in front of the removed one, linked to the node after it, and installs the
+ *     copy with a compare-and-set of the bucket. The nodes after the removed one are shared, not copied.
+ *   - A writer whose compare-and-set fails because another thread changed the bucket first simply retries.
+ *   - resize is cooperative like ConcurrentHashMap's: threads claim ranges of buckets, copy each bucket into the new
+ *     table and then swing it to a ForwardingNode with a compare-and-set, retrying if the bucket changed meanwhile.
+ *   - size is kept in a LongAdder, so concurrent inserts do not all update one contended counter.
+ *
+ * add, contains, remove and size behave like Set's, including for null, which is stored as a private sentinel.
+ * While other threads are modifying the set, size() is an estimate and elements() is weakly consistent: it reflects
+ * some state of each bucket during the traversal, never throws, and may miss concurrent updates.
+ *
+ * Complexity (assuming a good hash function and uniform distribution):
+ *
+ *   Algorithm    Average      Worst Case
+ *   Space        O(n + k)     O(n + k)      (where k = number of buckets)
+ *   add          O(1)         O(n)          (all items hash to the same bucket)
+ *   remove       O(1)         O(n)          (copies the nodes in front of the removed one)
+ *   contains     O(1)         O(n)
+ *   size         O(c)         O(c)          (where c = number of LongAdder cells, at most the number of CPUs)
+ *
+ * @param <T> the type of elements stored in the set (must implement hashCode() and equals())
+ */
+public class ConcurrentSet<T> {
+    /** Default initial capacity (number of buckets). Must be a power of two. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    /** Default load factor before resizing. */
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    /** Largest power-of-two capacity the table can grow to. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    /** Hash of ForwardingNodes; hashes of real elements are masked to be non-negative. */
+    private static final int MOVED = -1;
+    /** Mask that keeps hashes of real elements non-negative. */
+    private static final int HASH_BITS = 0x7fffffff;
+    /** Minimum number of buckets a resizing thread claims at a time. */
+    private static final int MIN_TRANSFER_STRIDE = 16;
+    /** Number of CPUs, used to size the ranges claimed during a resize. */
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+    /** Stored in place of the null element. */
+    private static final Object NULL = new Object();
+
+    /** Array of buckets; replaced as a whole once a resize completes. */
+    private volatile AtomicReferenceArray<Node> table;
+    /** The resize in progress, or null. */
+    private volatile Transfer transfer;
+    /** Size at which the next resize starts, or -1 while one is in progress. */
+    private final AtomicInteger sizeCtl;
+    /** Number of elements, spread over cells to avoid contention. */
+    private final LongAdder count = new LongAdder();
+    /** Load factor for deciding when to resize. */
+    private final float loadFactor;
+
+    /**
+     * Immutable node of a bucket's linked list. Elements are stored masked (null replaced by NULL), so nodes are not
+     * generic.
+     */
+    private static class Node {
+        final int hash;
+        final Object value;
+        final Node next;
+
+        Node(int hash, Object value, Node next) {
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Marker placed in a bucket of the old table once its elements have been copied to the new table.
+     */
+    private static final class ForwardingNode extends Node {
+        final AtomicReferenceArray<Node> nextTable;
+
+        ForwardingNode(AtomicReferenceArray<Node> nextTable) {
+            super(MOVED, null, null);
+            this.nextTable = nextTable;
+        }
+    }
+
+    /**
+     * State of one table doubling, shared by every thread that helps with it.
+     */
+    private static final class Transfer {
+        final AtomicReferenceArray<Node> table;
+        final AtomicReferenceArray<Node> nextTable;
+        final ForwardingNode forward;
+        /** Buckets [0, transferIndex) have not been claimed by any thread yet. */
+        final AtomicInteger transferIndex;
+        /** Threads currently working on this transfer; once it drops to 0 nobody can join any more. */
+        final AtomicInteger helpers = new AtomicInteger(1);
+        final int stride;
+
+        Transfer(AtomicReferenceArray<Node> table, AtomicReferenceArray<Node> nextTable) {
+            this.table = table;
+            this.nextTable = nextTable;
+            this.forward = new ForwardingNode(nextTable);
+            this.transferIndex = new AtomicInteger(table.length());
+            this.stride = Math.max(MIN_TRANSFER_STRIDE, table.length() / (8 * NCPU));
+        }
+    }
+
+    /**
+     * Constructs an empty ConcurrentSet with default initial capacity (16) and load factor (0.75).
+     */
+    public ConcurrentSet() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty ConcurrentSet with the specified initial capacity and default load factor (0.75).
+     *
+     * @param initialCapacity initial number of buckets (will be rounded up to a power of two)
+     * @throws IllegalArgumentException if initialCapacity is non-positive
+     */
+    public ConcurrentSet(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty ConcurrentSet with the specified initial capacity and load factor.
+     *
+     * @param initialCapacity initial number of buckets (will be rounded up to a power of two)
+     * @param loadFactor load factor threshold for resizing
+     * @throws IllegalArgumentException if initialCapacity is non-positive or loadFactor is non-positive
+     */
+    public ConcurrentSet(int initialCapacity, float loadFactor) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Load factor must be positive");
+        }
+        int cap = HashMap.tableSizeFor(initialCapacity);
+        this.loadFactor = loadFactor;
+        this.table = new AtomicReferenceArray<>(cap);
+        this.sizeCtl = new AtomicInteger((int) (cap * loadFactor));
+    }
+
+    private static Object maskNull(Object value) {
+        return value == null ? NULL : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmaskNull(Object value) {
+        return value == NULL ? null : (T) value;
+    }
+
+    /**
+     * Computes the hash for a given (masked) value, spread like Set's and masked to be non-negative.
+     */
+    private static int hash(Object value) {
+        return value == NULL ? 0 : HashMap.spread(value.hashCode()) & HASH_BITS;
+    }
+
+    /** Returns the node of the list starting at first that holds the (masked) value, or null. */
+    private static Node find(Node first, int hash, Object value) {
+        for (Node node = first; node != null; node = node.next) {
+            if (node.hash == hash && (value == node.value || value.equals(node.value))) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the specified element to this set if it is not already present.
+     *
+     * @param value the element to add (may be null)
+     * @return true if the set did not already contain the specified element
+     */
+    public boolean add(T value) {
+        Object v = maskNull(value);
+        int hash = hash(v);
+        AtomicReferenceArray<Node> tab = table;
+        while (true) {
+            int index = (tab.length() - 1) & hash;
+            Node first = tab.get(index);
+            if (first != null && first.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode) first);
+                continue;
+            }
+            if (find(first, hash, v) != null) {
+                return false;
+            }
+            if (tab.compareAndSet(index, first, new Node(hash, v, first))) {
+                addCount(1);
+                return true;
+            }
+            // Another thread changed the bucket since we read it: look again
+        }
+    }
+
+    /**
+     * Returns true if this set contains the specified element. Never blocks.
+     *
+     * @param value element whose presence is to be tested (may be null)
+     * @return true if this set contains the element
+     */
+    public boolean contains(Object value) {
+        Object v = maskNull(value);
+        int hash = hash(v);
+        AtomicReferenceArray<Node> tab = table;
+        while (true) {
+            Node first = tab.get((tab.length() - 1) & hash);
+            if (first != null && first.hash == MOVED) {
+                tab = ((ForwardingNode) first).nextTable;
+                continue;
+            }
+            return find(first, hash, v) != null;
+        }
+    }
+
+    /**
+     * Removes the specified element from this set if it is present.
+     *
+     * @param value object to be removed from the set, if present (may be null)
+     * @return true if the set contained the specified element
+     */
+    public boolean remove(Object value) {
+        Object v = maskNull(value);
+        int hash = hash(v);
+        AtomicReferenceArray<Node> tab = table;
+        while (true) {
+            int index = (tab.length() - 1) & hash;
+            Node first = tab.get(index);
+            if (first != null && first.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode) first);
+                continue;
+            }
+            Node target = find(first, hash, v);
+            if (target == null) {
+                return false;
+            }
+            // Copy the nodes in front of the target onto the rest of the list; order within a bucket is irrelevant
+            Node head = target.next;
+            for (Node node = first; node != target; node = node.next) {
+                head = new Node(node.hash, node.value, head);
+            }
+            if (tab.compareAndSet(index, first, head)) {
+                addCount(-1);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in this set. While other threads are modifying the set, the result is only an
+     * estimate.
+     *
+     * @return the size of the set
+     */
+    public int size() {
+        long n = count.sum();
+        return n < 0 ? 0 : n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+    }
+
+    /**
+     * Returns true if this set contains no elements.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return count.sum() <= 0;
+    }
+
+    /**
+     * Removes all elements from this set, one bucket at a time. The capacity remains unchanged.
+     */
+    public void clear() {
+        long removed = 0;
+        AtomicReferenceArray<Node> tab = table;
+        int index = 0;
+        while (index < tab.length()) {
+            Node first = tab.get(index);
+            if (first == null) {
+                index++;
+            } else if (first.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode) first);
+                index = 0;
+            } else if (tab.compareAndSet(index, first, null)) {
+                for (Node node = first; node != null; node = node.next) {
+                    removed++;
+                }
+                index++;
+            }
+        }
+        if (removed != 0) {
+            count.add(-removed);
+        }
+    }
+
+    /**
+     * Returns a List of all elements in this set. Order is not guaranteed.
+     *
+     * @return List of elements
+     */
+    public List<T> elements() {
+        List<T> list = new ArrayList<>(size());
+        AtomicReferenceArray<Node> tab = table;
+        for (int i = 0; i < tab.length(); i++) {
+            traverseBucket(tab, i, value -> list.add(ConcurrentSet.<T>unmaskNull(value)));
+        }
+        return list;
+    }
+
+    /** Visits every element of a bucket, following a forwarding node into the buckets it was split into. */
+    private static void traverseBucket(AtomicReferenceArray<Node> tab, int index, Consumer<Object> visitor) {
+        Node node = tab.get(index);
+        if (node != null && node.hash == MOVED) {
+            AtomicReferenceArray<Node> next = ((ForwardingNode) node).nextTable;
+            traverseBucket(next, index, visitor);
+            traverseBucket(next, index + tab.length(), visitor);
+            return;
+        }
+        for (; node != null; node = node.next) {
+            visitor.accept(node.value);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Size counting and cooperative resizing
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adjusts the size count; after an insertion, helps a resize in progress or starts one if the size has reached
+     * the threshold.
+     */
+    private void addCount(long delta) {
+        count.add(delta);
+        if (delta <= 0) {
+            return;
+        }
+        while (true) {
+            Transfer current = transfer;
+            if (current != null) {
+                if (join(current)) {
+                    runTransfer(current);
+                }
+                return;
+            }
+            int sc = sizeCtl.get();
+            // sc < 0: another thread is just setting up a resize
+            if (sc < 0 || count.sum() < sc) {
+                return;
+            }
+            AtomicReferenceArray<Node> tab = table;
+            if (tab.length() >= MAXIMUM_CAPACITY) {
+                return;
+            }
+            if (sizeCtl.compareAndSet(sc, -1)) {
+                Transfer started = new Transfer(tab, new AtomicReferenceArray<>(tab.length() << 1));
+                transfer = started;
+                runTransfer(started);
+                // Loop: the doubled table may already be over its own threshold
+            }
+        }
+    }
+
+    /**
+     * Called by a writer that ran into a ForwardingNode: helps finish that resize if it is still running, and returns
+     * the table the writer should retry in.
+     */
+    private AtomicReferenceArray<Node> helpTransfer(ForwardingNode forward) {
+        Transfer current = transfer;
+        if (current != null && current.nextTable == forward.nextTable && join(current)) {
+            runTransfer(current);
+        }
+        return forward.nextTable;
+    }
+
+    /** Registers the calling thread as a helper of the transfer, unless it has already completed. */
+    private static boolean join(Transfer t) {
+        while (true) {
+            int helpers = t.helpers.get();
+            if (helpers == 0 || t.transferIndex.get() <= 0) {
+                return false;
+            }
+            if (t.helpers.compareAndSet(helpers, helpers + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Claims ranges of buckets from the top of the old table and moves them until none are left. The last helper to
+     * leave publishes the new table.
+     */
+    private void runTransfer(Transfer t) {
+        while (true) {
+            int hi = t.transferIndex.get();
+            if (hi <= 0) {
+                break;
+            }
+            int lo = Math.max(0, hi - t.stride);
+            if (t.transferIndex.compareAndSet(hi, lo)) {
+                for (int i = hi - 1; i >= lo; i--) {
+                    moveBucket(t, i);
+                }
+            }
+        }
+        if (t.helpers.decrementAndGet() == 0) {
+            // Every claimed range has been moved
+            int newCapacity = t.nextTable.length();
+            table = t.nextTable;
+            transfer = null;
+            sizeCtl.set(newCapacity >= MAXIMUM_CAPACITY ? Integer.MAX_VALUE : (int) (newCapacity * loadFactor));
+        }
+    }
+
+    /**
+     * Splits bucket i of the old table into buckets i and i + n of the new table, then swings it to the forwarding
+     * node. The new buckets are unreachable until the forwarding node is in place, so they can be written without
+     * synchronization; if a writer changes the old bucket first, the split is simply redone. The longest tail of
+     * nodes that all go to the same new bucket is shared rather than copied.
+     */
+    private static void moveBucket(Transfer t, int index) {
+        AtomicReferenceArray<Node> tab = t.table;
+        int n = tab.length();
+        while (true) {
+            Node first = tab.get(index);
+            Node lastRun = first;
+            int runBit = first == null ? 0 : first.hash & n;
+            for (Node node = lastRun; node != null; node = node.next) {
+                if ((node.hash & n) != runBit) {
+                    runBit = node.hash & n;
+                    lastRun = node;
+                }
+            }
+            Node lo = runBit == 0 ? lastRun : null;
+            Node hi = runBit == 0 ? null : lastRun;
+            for (Node node = first; node != lastRun; node = node.next) {
+                if ((node.hash & n) == 0) {
+                    lo = new Node(node.hash, node.value, lo);
+                } else {
+                    hi = new Node(node.hash, node.value, hi);
+                }
+            }
+            // Written even when both are empty: a failed earlier attempt may have left stale lists there
+            t.nextTable.set(index, lo);
+            t.nextTable.set(index + n, hi);
+            if (tab.compareAndSet(index, first, t.forward)) {
+                return;
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentSet<String> set = new ConcurrentSet<>();
+
+        System.out.println("Adding elements:");
+        System.out.println("Add \"apple\": " + set.add("apple"));       // true
+        System.out.println("Add \"apple\" again: " + set.add("apple")); // false (duplicate)
+        System.out.println("Add null: " + set.add(null));               // true
+        System.out.println("Contains null? " + set.contains(null));     // true
+
+        System.out.println("\nFour threads deduplicating overlapping event IDs:");
+        Thread[] threads = new Thread[4];
+        int[] firstSeen = new int[threads.length];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            int base = t * 5_000;
+            threads[t] = new Thread(() -> {
+                // Thread t sees events [5000t, 5000t + 10000), so every event is seen by two threads
+                for (int i = 0; i < 10_000; i++) {
+                    if (set.add("event" + ((base + i) % 20_000))) {
+                        firstSeen[id]++;
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        int total = 0;
+        for (int seen : firstSeen) {
+            total += seen;
+        }
+        System.out.println("Events added for the first time: " + total); // 20000 (each claimed by one thread)
+        System.out.println("Size: " + set.size());                        // 20002
+        System.out.println("Capacity: " + set.table.length());
+
+        System.out.println("\nRemoving elements:");
+        System.out.println("Remove \"apple\": " + set.remove("apple")); // true
+        System.out.println("Remove \"apple\" again: " + set.remove("apple")); // false
+        set.clear();
+        System.out.println("Is empty after clear? " + set.isEmpty()); // true
+    }
+}
+```
@@ -0,0 +1,532 @@
+```java
+package data_structures;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A thread-safe variant of {@link Vector} for data that is read far more often than it is written. Every write copies
+ * the elements into a new array, wraps it in an immutable {@link Snapshot} and publishes it with a single volatile
+ * write. Readers never lock and never copy:
+ *
+ *   - get, size, indexOf and contains read the current snapshot once and work on it, allocating nothing.
+ *   - snapshot() returns the current snapshot itself, a consistent view that later writes never change. A reader can
+ *     run any number of operations against it and see one point in time, which is what copying with
+ *     Vector.clone() on every read used to provide.
+ *
+ * Writers serialize on a lock, so concurrent writers never lose each other's updates; readers are never blocked by
+ * them. Because every write is O(n), apply several changes at once with addAll() or removeIf() where possible.
+ *
+ * Complexity:
+ *
+ *   Operation           Readers        Writers
+ *   get / size          O(1)
+ *   indexOf / contains  O(n)
+ *   snapshot()          O(1)           (no allocation)
+ *   add / set / remove                 O(n) (one array copy per call)
+ *   addAll / removeIf                  O(n + k) (one array copy per batch)
+ *
+ * @param <T> the type of elements stored in the vector
+ */
+public class CopyOnWriteVector<T> {
+    /** Published state; replaced (never modified) by writers. */
+    private volatile Snapshot<T> current;
+    /** Serializes writers. */
+    private final Object writeLock = new Object();
+
+    /**
+     * An immutable view of the vector at one point in time. The backing array is exactly size() long and is never
+     * written after publication, so a Snapshot can be shared between threads freely.
+     *
+     * @param <T> the type of elements
+     */
+    public static final class Snapshot<T> implements Iterable<T> {
+        private final Object[] array;
+
+        private Snapshot(Object[] array) {
+            this.array = array;
+        }
+
+        /**
+         * Returns the number of elements in this snapshot.
+         *
+         * @return the size
+         */
+        public int size() {
+            return array.length;
+        }
+
+        /**
+         * Returns true if this snapshot contains no elements.
+         *
+         * @return true if empty, false otherwise
+         */
+        public boolean isEmpty() {
+            return array.length == 0;
+        }
+
+        /**
+         * Returns the element at the specified position in this snapshot.
+         *
+         * @param index index of the element to return (0 ≤ index < size)
+         * @return the element at the specified position
+         * @throws IndexOutOfBoundsException if index is out of range
+         */
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= array.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + array.length);
+            }
+            return (T) array[index];
+        }
+
+        /**
+         * Returns the index of the first occurrence of the specified element, or -1 if there is none.
+         *
+         * @param value element to search for
+         * @return the index of the first occurrence, or -1 if not found
+         */
+        public int indexOf(Object value) {
+            return CopyOnWriteVector.indexOf(array, value);
+        }
+
+        /**
+         * Returns true if this snapshot contains the specified element.
+         *
+         * @param value element whose presence is to be tested
+         * @return true if the element is present
+         */
+        public boolean contains(Object value) {
+            return indexOf(value) >= 0;
+        }
+
+        /**
+         * Performs the given action on every element in order, without allocating.
+         *
+         * @param action action to perform on each element
+         * @throws NullPointerException if action is null
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEach(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action must not be null");
+            }
+            for (Object value : array) {
+                action.accept((T) value);
+            }
+        }
+
+        /**
+         * Returns an iterator over the elements in order. It never throws ConcurrentModificationException, since the
+         * snapshot cannot change, and does not support remove().
+         *
+         * @return iterator over the elements
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < array.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    if (index >= array.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return (T) array[index++];
+                }
+            };
+        }
+
+        /**
+         * Returns a spliterator over the elements that splits the array by index ranges.
+         *
+         * @return spliterator over the elements
+         */
+        @Override
+        public Spliterator<T> spliterator() {
+            return Spliterators.spliterator(array, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        /**
+         * Returns a sequential stream over the elements.
+         *
+         * @return stream of the elements
+         */
+        public Stream<T> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+
+        /**
+         * Returns a parallel stream over the elements.
+         *
+         * @return parallel stream of the elements
+         */
+        public Stream<T> parallelStream() {
+            return StreamSupport.stream(spliterator(), true);
+        }
+
+        /**
+         * Returns a copy of the elements.
+         *
+         * @return a new array holding the elements in order
+         */
+        public Object[] toArray() {
+            return array.clone();
+        }
+
+        /**
+         * Returns a string representation in the form [a, b, c, ...].
+         *
+         * @return string representation
+         */
+        @Override
+        public String toString() {
+            return Arrays.toString(array);
+        }
+    }
+
+    /** Snapshot of an empty vector, shared by every empty instance. */
+    private static final Snapshot<?> EMPTY = new Snapshot<>(new Object[0]);
+
+    /**
+     * Constructs an empty CopyOnWriteVector.
+     */
+    @SuppressWarnings("unchecked")
+    public CopyOnWriteVector() {
+        this.current = (Snapshot<T>) EMPTY;
+    }
+
+    /**
+     * Constructs a CopyOnWriteVector holding the given elements, in order.
+     *
+     * @param values the initial elements (copied)
+     * @throws NullPointerException if values is null
+     */
+    public CopyOnWriteVector(T[] values) {
+        if (values == null) {
+            throw new NullPointerException("Values must not be null");
+        }
+        this.current = new Snapshot<>(Arrays.copyOf(values, values.length, Object[].class));
+    }
+
+    // -------------------------------------------------------------------------
+    // Reads: lock-free, allocation-free
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the current contents as an immutable snapshot. This is a plain volatile read; nothing is copied, and
+     * later writes to the vector do not affect the returned snapshot.
+     *
+     * @return the current snapshot
+     */
+    public Snapshot<T> snapshot() {
+        return current;
+    }
+
+    /**
+     * Returns the number of elements in this vector.
+     *
+     * @return the size of the vector
+     */
+    public int size() {
+        return current.array.length;
+    }
+
+    /**
+     * Returns true if this vector contains no elements.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return current.array.length == 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this vector. To read several elements consistently, take a
+     * snapshot() and read from it instead.
+     *
+     * @param index index of the element to return (0 ≤ index < size)
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T get(int index) {
+        return current.get(index);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this vector,
+     * or -1 if this vector does not contain the element.
+     *
+     * @param value element to search for
+     * @return the index of the first occurrence, or -1 if not found
+     */
+    public int indexOf(Object value) {
+        return indexOf(current.array, value);
+    }
+
+    /**
+     * Returns true if this vector contains the specified element.
+     *
+     * @param value element whose presence in this vector is to be tested
+     * @return true if this vector contains the element
+     */
+    public boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+
+    private static int indexOf(Object[] array, Object value) {
+        for (int i = 0; i < array.length; i++) {
+            if (value == null ? array[i] == null : value.equals(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // -------------------------------------------------------------------------
+    // Writes: copy, then publish under the write lock
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adds the specified element to the end of this vector.
+     *
+     * @param value the element to add
+     * @return true (as specified by Collection.add)
+     */
+    public boolean add(T value) {
+        synchronized (writeLock) {
+            Object[] array = current.array;
+            Object[] next = Arrays.copyOf(array, array.length + 1);
+            next[array.length] = value;
+            current = new Snapshot<>(next);
+            return true;
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this vector.
+     *
+     * @param index index at which to insert the element (0 ≤ index ≤ size)
+     * @param value the element to insert
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public void add(int index, T value) {
+        synchronized (writeLock) {
+            Object[] array = current.array;
+            if (index < 0 || index > array.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + array.length);
+            }
+            Object[] next = new Object[array.length + 1];
+            System.arraycopy(array, 0, next, 0, index);
+            next[index] = value;
+            System.arraycopy(array, index, next, index + 1, array.length - index);
+            current = new Snapshot<>(next);
+        }
+    }
+
+    /**
+     * Appends all elements of the batch with a single copy and a single publication; readers see either none or all
+     * of them.
+     *
+     * @param batch the elements to append
+     * @throws NullPointerException if batch is null
+     */
+    public void addAll(T[] batch) {
+        if (batch == null) {
+            throw new NullPointerException("Batch must not be null");
+        }
+        if (batch.length == 0) {
+            return;
+        }
+        synchronized (writeLock) {
+            Object[] array = current.array;
+            Object[] next = Arrays.copyOf(array, array.length + batch.length);
+            System.arraycopy(batch, 0, next, array.length, batch.length);
+            current = new Snapshot<>(next);
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in this vector with the specified element.
+     *
+     * @param index index of the element to replace (0 ≤ index < size)
+     * @param value element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T set(int index, T value) {
+        synchronized (writeLock) {
+            Object[] array = current.array;
+            if (index < 0 || index >= array.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + array.length);
+            }
+            T oldValue = (T) array[index];
+            Object[] next = array.clone();
+            next[index] = value;
+            current = new Snapshot<>(next);
+            return oldValue;
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this vector.
+     *
+     * @param index the index of the element to be removed (0 ≤ index < size)
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        synchronized (writeLock) {
+            Object[] array = current.array;
+            if (index < 0 || index >= array.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + array.length);
+            }
+            T oldValue = (T) array[index];
+            Object[] next = new Object[array.length - 1];
+            System.arraycopy(array, 0, next, 0, index);
+            System.arraycopy(array, index + 1, next, index, array.length - index - 1);
+            current = new Snapshot<>(next);
+            return oldValue;
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this vector, if it is present.
+     *
+     * @param value element to be removed from this vector, if present
+     * @return true if the vector contained the specified element
+     */
+    public boolean remove(Object value) {
+        synchronized (writeLock) {
+            int index = indexOf(current.array, value);
+            if (index < 0) {
+                return false;
+            }
+            remove(index);
+            return true;
+        }
+    }
+
+    /**
+     * Removes every element that matches the filter, publishing the result with a single copy.
+     *
+     * @param filter predicate returning true for elements to remove
+     * @return true if any element was removed
+     * @throws NullPointerException if filter is null
+     */
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("Filter must not be null");
+        }
+        synchronized (writeLock) {
+            Object[] array = current.array;
+            Object[] kept = new Object[array.length];
+            int count = 0;
+            for (Object value : array) {
+                if (!filter.test((T) value)) {
+                    kept[count++] = value;
+                }
+            }
+            if (count == array.length) {
+                return false;
+            }
+            current = new Snapshot<>(Arrays.copyOf(kept, count));
+            return true;
+        }
+    }
+
+    /**
+     * Removes all of the elements from this vector.
+     */
+    @SuppressWarnings("unchecked")
+    public void clear() {
+        synchronized (writeLock) {
+            current = (Snapshot<T>) EMPTY;
+        }
+    }
+
+    /**
+     * Returns a string representation of the current contents in the form [a, b, c, ...].
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        return current.toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) throws InterruptedException {
+        CopyOnWriteVector<String> vector = new CopyOnWriteVector<>();
+
+        System.out.println("Add elements: A, B, C");
+        vector.addAll(new String[]{"A", "B", "C"});
+        System.out.println("Vector: " + vector);              // [A, B, C]
+
+        System.out.println("\nSnapshot isolation:");
+        Snapshot<String> before = vector.snapshot();
+        vector.set(1, "X");
+        vector.add("D");
+        System.out.println("Snapshot taken before: " + before); // [A, B, C]
+        System.out.println("Vector now: " + vector);            // [A, X, C, D]
+
+        System.out.println("\nOne writer, four readers:");
+        CopyOnWriteVector<Integer> shared = new CopyOnWriteVector<>();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                shared.add(i);
+            }
+        });
+        Thread[] readers = new Thread[4];
+        long[] inconsistent = new long[1];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                for (int round = 0; round < 1000; round++) {
+                    // Within one snapshot, element i is always i
+                    Snapshot<Integer> view = shared.snapshot();
+                    for (int i = 0; i < view.size(); i++) {
+                        if (view.get(i) != i) {
+                            synchronized (inconsistent) {
+                                inconsistent[0]++;
+                            }
+                        }
+                    }
+                }
+            });
+        }
+        writer.start();
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        System.out.println("Final size: " + shared.size());                  // 1000
+        System.out.println("Inconsistent reads: " + inconsistent[0]);        // 0
+
+        System.out.println("\nRemove odd numbers in one write");
+        shared.removeIf(i -> i % 2 == 1);
+        System.out.println("Size after removeIf: " + shared.size());         // 500
+    }
+}
+```
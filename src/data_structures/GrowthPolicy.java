@@ -0,0 +1,120 @@
+```java
+package data_structures;
+
+/**
+ * Decides how much larger {@link Vector}'s array becomes when it runs out of room. Growing by a factor keeps appends
+ * amortized O(1) but can leave up to half the array unused; growing by a fixed amount wastes at most that amount but
+ * makes n appends cost O(n²/step) in copying.
+ *
+ * Implementations must return a capacity of at least minCapacity; larger requests than the array can hold are
+ * clamped to MAX_CAPACITY.
+ *
+ *   Policy          New capacity                     Unused after growing    Copies per n appends
+ *   ONE_AND_A_HALF  capacity * 1.5                   up to 1/3               O(n), the default
+ *   DOUBLING        capacity * 2                     up to 1/2               O(n), fewer resizes
+ *   additive(k)     capacity + k                     up to k                 O(n² / k)
+ *   chunked(k)      minCapacity rounded up to k      up to k - 1             O(n² / k), capacities stay aligned
+ */
+public interface GrowthPolicy {
+
+    /** Largest capacity a policy hands out; some VMs reserve header words in arrays. */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Computes the new capacity for an array that must hold at least minCapacity elements.
+     *
+     * @param capacity current capacity of the array
+     * @param minCapacity number of elements the array must hold, larger than capacity
+     * @return the new capacity, at least minCapacity
+     */
+    int grow(int capacity, int minCapacity);
+
+    /** Grows by half of the current capacity. The default of Vector. */
+    GrowthPolicy ONE_AND_A_HALF = new GrowthPolicy() {
+        @Override
+        public int grow(int capacity, int minCapacity) {
+            return clamp((long) capacity + (capacity >> 1), minCapacity);
+        }
+
+        @Override
+        public String toString() {
+            return "ONE_AND_A_HALF";
+        }
+    };
+
+    /** Doubles the capacity: half as many resizes as ONE_AND_A_HALF over the same appends, at more unused room. */
+    GrowthPolicy DOUBLING = new GrowthPolicy() {
+        @Override
+        public int grow(int capacity, int minCapacity) {
+            return clamp((long) capacity << 1, minCapacity);
+        }
+
+        @Override
+        public String toString() {
+            return "DOUBLING";
+        }
+    };
+
+    /**
+     * Returns a policy that adds a fixed number of slots on every resize.
+     *
+     * @param increment number of slots to add, positive
+     * @return an additive policy
+     * @throws IllegalArgumentException if increment is non-positive
+     */
+    static GrowthPolicy additive(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Increment must be positive");
+        }
+        return new GrowthPolicy() {
+            @Override
+            public int grow(int capacity, int minCapacity) {
+                return clamp((long) capacity + increment, minCapacity);
+            }
+
+            @Override
+            public String toString() {
+                return "additive(" + increment + ")";
+            }
+        };
+    }
+
+    /**
+     * Returns a policy that rounds the required capacity up to the next multiple of chunkSize, so that capacities
+     * are always whole chunks (for example, whole pages of references).
+     *
+     * @param chunkSize size of a chunk in elements, positive
+     * @return a chunked policy
+     * @throws IllegalArgumentException if chunkSize is non-positive
+     */
+    static GrowthPolicy chunked(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        return new GrowthPolicy() {
+            @Override
+            public int grow(int capacity, int minCapacity) {
+                long chunks = ((long) minCapacity + chunkSize - 1) / chunkSize;
+                return clamp(chunks * chunkSize, minCapacity);
+            }
+
+            @Override
+            public String toString() {
+                return "chunked(" + chunkSize + ")";
+            }
+        };
+    }
+
+    /**
+     * Limits a proposed capacity to MAX_CAPACITY and raises it to minCapacity.
+     *
+     * @throws OutOfMemoryError if minCapacity itself exceeds MAX_CAPACITY (or overflowed)
+     */
+    static int clamp(long proposed, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        return (int) Math.max(minCapacity, Math.min(proposed, MAX_CAPACITY));
+    }
+}
+```
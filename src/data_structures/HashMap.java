@@ -2,19 +2,37 @@
 package data_structures;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * A hash table (also called a hash, hash map, map, unordered map, or dictionary) is a data structure
- * that pairs keys to values. This implementation uses separate chaining with singly linked lists for collision handling.
+ * that pairs keys to values. By default this implementation uses separate chaining with singly linked lists for
+ * collision handling. Alternatively, the {@link Layout#ROBIN_HOOD} layout stores entries in parallel key/value arrays
+ * and resolves collisions with Robin Hood linear probing, which avoids chasing Node pointers across the heap.
+ *
+ * In the chained layout, a bucket whose list grows past TREEIFY_THRESHOLD entries is converted into a balanced (AVL)
+ * tree ordered by hash, then by key class and natural order, so a flood of colliding keys cannot degrade lookups to
+ * a linear scan. Trees are converted back into lists when resize() or remove() shrinks them.
+ *
+ * With {@link ResizePolicy#INCREMENTAL}, growing the chained table does not rehash everything inside one put: the
+ * old table is kept next to the new one and each subsequent operation migrates a few buckets, which bounds the
+ * latency of any single call.
  *
  * Complexity (assuming a good hash function and uniform distribution):
  *
  *   Algorithm   Average       Worst Case
  *   Space       O(n + k)      O(n + k)      (where k = number of buckets)
- *   get         O(1)          O(n)          (all keys collide into one bucket)
- *   put         O(1)          O(n)
- *   remove      O(1)          O(n)
+ *   get         O(1)          O(log n)      (all keys collide into one treeified bucket; O(n) if they are
+ *                                            also mutually incomparable, or for the Robin Hood layout)
+ *   put         O(1)          O(log n)
+ *   remove      O(1)          O(log n)
  *
  * @param <K> type of keys (must implement hashCode() and equals())
  * @param <V> type of values
@@ -24,15 +42,75 @@ public class HashMap<K, V> {
     private static final int DEFAULT_INITIAL_CAPACITY = 16;
     /** Default load factor before resizing. */
     private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    /** Bucket list length at which the bucket is converted into a tree. */
+    private static final int TREEIFY_THRESHOLD = 8;
+    /** Tree bucket size at or below which the bucket is converted back into a list. */
+    private static final int UNTREEIFY_THRESHOLD = 6;
+    /** Smallest table for which buckets are treeified; smaller tables are resized instead. */
+    private static final int MIN_TREEIFY_CAPACITY = 64;
+    /** Number of old buckets an incremental resize migrates per map operation. */
+    private static final int MIGRATION_STEP = 8;
+    /** Stand-in for the null key in the Robin Hood layout, where a null slot key marks an empty slot. */
+    private static final Object NULL_KEY = new Object();
+
+    /**
+     * Storage layouts a HashMap can use for its entries, selected at construction.
+     */
+    public enum Layout {
+        /** Array of buckets; each bucket is the head of a singly linked list of Nodes (separate chaining). */
+        CHAINED,
+        /**
+         * Parallel key/value/hash arrays with Robin Hood linear probing: an entry being inserted takes the slot of
+         * any entry that is closer to its home slot, which keeps probe lengths short and uniform. Removal shifts the
+         * following entries back, so no tombstones are needed. Requires a load factor below 1.
+         */
+        ROBIN_HOOD
+    }
+
+    /**
+     * How the table grows once size exceeds the threshold, selected at construction.
+     */
+    public enum ResizePolicy {
+        /** Rehash every entry into the doubled table at once, inside the put that crossed the threshold. */
+        EAGER,
+        /**
+         * Allocate the doubled table but keep the old one alongside it, and let every following put, get and remove
+         * migrate MIGRATION_STEP old buckets until the old table is drained. Lookups check whichever table still
+         * holds the key's bucket. Chained layout only.
+         */
+        INCREMENTAL
+    }
 
-    /** Array of buckets; each bucket is the head of a singly linked list of Nodes. */
+    /** Storage layout chosen at construction. */
+    private final Layout layout;
+    /** Resize policy chosen at construction. */
+    private final ResizePolicy resizePolicy;
+    /** Turns keys into hashes; chosen at construction. */
+    private final HashStrategy hashStrategy;
+    /** Array of buckets; each bucket is the head of a singly linked list of Nodes (chained layout only). */
     private Node<K, V>[] table;
+    /** During an incremental resize, the previous table whose buckets are still being migrated; otherwise null. */
+    private Node<K, V>[] oldTable;
+    /** During an incremental resize, the next bucket of oldTable to migrate; all buckets below it are empty. */
+    private int migrateIndex;
+    /** Keys of each slot, with NULL_KEY standing in for null; a null entry marks an empty slot (Robin Hood only). */
+    private Object[] slotKeys;
+    /** Values of each slot, stored at the same index as their key (Robin Hood layout only). */
+    private Object[] slotValues;
+    /** Spread hash of each slot's key, used to find its home slot without calling hashCode() (Robin Hood only). */
+    private int[] slotHashes;
     /** Current number of key-value mappings in this map. */
     private int size;
+    /** Number of structural modifications (entries added or removed), used to make iterators fail fast. */
+    private int modCount;
     /** The threshold at which to resize (capacity * loadFactor). */
     private int threshold;
     /** Load factor for deciding when to resize. */
     private final float loadFactor;
+    /** Sequence number handed to the next TreeNode, the last-resort tie-break of the tree order. */
+    private int treeNodeSequence;
+    /** Counters of the opt-in statistics, or null while they are disabled. */
+    private Recorder recorder;
 
     /**
      * Node class for storing key-value pairs in each bucket's linked list.
@@ -51,11 +129,32 @@ public class HashMap<K, V> {
         }
     }
 
+    /**
+     * Node of a treeified bucket. The nodes of a tree bucket are also kept in a doubly linked list through next/prev,
+     * with the tree root always first, so code that only walks bucket lists (keys(), values(), ...) needs no changes.
+     */
+    private static final class TreeNode<K, V> extends Node<K, V> {
+        final int sequence;
+        TreeNode<K, V> left;
+        TreeNode<K, V> right;
+        TreeNode<K, V> prev;
+        int height;
+
+        TreeNode(int hash, K key, V value, Node<K, V> next, int sequence) {
+            super(hash, key, value, next);
+            this.sequence = sequence;
+            this.height = 1;
+        }
+    }
+
     /**
      * Constructs an empty HashMap with default initial capacity (16) and load factor (0.75).
      */
     @SuppressWarnings("unchecked")
     public HashMap() {
+        this.layout = Layout.CHAINED;
+        this.resizePolicy = ResizePolicy.EAGER;
+        this.hashStrategy = HashStrategy.SPREAD;
         this.loadFactor = DEFAULT_LOAD_FACTOR;
         this.table = (Node<K, V>[]) new Node[DEFAULT_INITIAL_CAPACITY];
         this.threshold = (int) (DEFAULT_INITIAL_CAPACITY * loadFactor);
@@ -74,6 +173,9 @@ public class HashMap<K, V> {
             throw new IllegalArgumentException("Initial capacity must be positive");
         }
         int cap = tableSizeFor(initialCapacity);
+        this.layout = Layout.CHAINED;
+        this.resizePolicy = ResizePolicy.EAGER;
+        this.hashStrategy = HashStrategy.SPREAD;
         this.loadFactor = DEFAULT_LOAD_FACTOR;
         this.table = (Node<K, V>[]) new Node[cap];
         this.threshold = (int) (cap * loadFactor);
@@ -96,16 +198,105 @@ public class HashMap<K, V> {
             throw new IllegalArgumentException("Load factor must be positive");
         }
         int cap = tableSizeFor(initialCapacity);
+        this.layout = Layout.CHAINED;
+        this.resizePolicy = ResizePolicy.EAGER;
+        this.hashStrategy = HashStrategy.SPREAD;
         this.loadFactor = loadFactor;
         this.table = (Node<K, V>[]) new Node[cap];
         this.threshold = (int) (cap * loadFactor);
         this.size = 0;
     }
 
+    /**
+     * Constructs an empty HashMap with the specified initial capacity, load factor and storage layout.
+     *
+     * @param initialCapacity initial number of buckets or slots (will be rounded up to a power of two)
+     * @param loadFactor load factor threshold for resizing
+     * @param layout storage layout for the entries
+     * @throws IllegalArgumentException if initialCapacity is non-positive, loadFactor is non-positive,
+     *                                  or loadFactor is not below 1 for the Robin Hood layout
+     * @throws NullPointerException if layout is null
+     */
+    public HashMap(int initialCapacity, float loadFactor, Layout layout) {
+        this(initialCapacity, loadFactor, layout, ResizePolicy.EAGER);
+    }
+
+    /**
+     * Constructs an empty HashMap with the specified initial capacity, load factor, storage layout and resize policy.
+     *
+     * @param initialCapacity initial number of buckets or slots (will be rounded up to a power of two)
+     * @param loadFactor load factor threshold for resizing
+     * @param layout storage layout for the entries
+     * @param resizePolicy how the table grows once the threshold is exceeded
+     * @throws IllegalArgumentException if initialCapacity is non-positive, loadFactor is non-positive,
+     *                                  loadFactor is not below 1 for the Robin Hood layout,
+     *                                  or an incremental resize is requested for the Robin Hood layout
+     * @throws NullPointerException if layout or resizePolicy is null
+     */
+    public HashMap(int initialCapacity, float loadFactor, Layout layout, ResizePolicy resizePolicy) {
+        this(initialCapacity, loadFactor, layout, resizePolicy, HashStrategy.SPREAD);
+    }
+
+    /**
+     * Constructs an empty HashMap with the specified initial capacity, load factor, storage layout, resize policy and
+     * hash strategy.
+     *
+     * @param initialCapacity initial number of buckets or slots (will be rounded up to a power of two)
+     * @param loadFactor load factor threshold for resizing
+     * @param layout storage layout for the entries
+     * @param resizePolicy how the table grows once the threshold is exceeded
+     * @param hashStrategy how keys are hashed, e.g. HashStrategy.seeded() for keys supplied by untrusted clients
+     * @throws IllegalArgumentException if initialCapacity is non-positive, loadFactor is non-positive,
+     *                                  loadFactor is not below 1 for the Robin Hood layout,
+     *                                  or an incremental resize is requested for the Robin Hood layout
+     * @throws NullPointerException if layout, resizePolicy or hashStrategy is null
+     */
+    @SuppressWarnings("unchecked")
+    public HashMap(int initialCapacity, float loadFactor, Layout layout, ResizePolicy resizePolicy,
+                   HashStrategy hashStrategy) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Load factor must be positive");
+        }
+        if (layout == null) {
+            throw new NullPointerException("Layout must not be null");
+        }
+        if (resizePolicy == null) {
+            throw new NullPointerException("Resize policy must not be null");
+        }
+        if (hashStrategy == null) {
+            throw new NullPointerException("Hash strategy must not be null");
+        }
+        if (layout == Layout.ROBIN_HOOD && loadFactor >= 1) {
+            throw new IllegalArgumentException("Load factor must be below 1 for the Robin Hood layout");
+        }
+        if (layout == Layout.ROBIN_HOOD && resizePolicy == ResizePolicy.INCREMENTAL) {
+            throw new IllegalArgumentException("Incremental resizing requires the chained layout");
+        }
+        int cap = tableSizeFor(initialCapacity);
+        this.layout = layout;
+        this.resizePolicy = resizePolicy;
+        this.hashStrategy = hashStrategy;
+        this.loadFactor = loadFactor;
+        if (layout == Layout.ROBIN_HOOD) {
+            cap = Math.max(2, cap); // at least one slot must always stay empty
+            this.slotKeys = new Object[cap];
+            this.slotValues = new Object[cap];
+            this.slotHashes = new int[cap];
+        } else {
+            this.table = (Node<K, V>[]) new Node[cap];
+        }
+        this.threshold = (int) (cap * loadFactor);
+        this.size = 0;
+    }
+
     /**
      * Calculates the next power-of-two capacity for the given requested capacity.
+     * Shared with the primitive-keyed maps in this package.
      */
-    private int tableSizeFor(int cap) {
+    static int tableSizeFor(int cap) {
         int n = cap - 1;
         n |= n >>> 1;
         n |= n >>> 2;
@@ -116,10 +307,18 @@ public class HashMap<K, V> {
     }
 
     /**
-     * Computes the hash for a given key, applying a supplemental mix to reduce collisions.
+     * Computes the hash for a given key with the map's hash strategy (by default, a supplemental mix to reduce
+     * collisions).
      */
     private int hash(Object key) {
-        int h = key == null ? 0 : key.hashCode();
+        return hashStrategy.hash(key);
+    }
+
+    /**
+     * Spreads the higher bits of a hash code downward so that they take part in the bucket index.
+     * Shared with the primitive-keyed maps in this package.
+     */
+    static int spread(int h) {
         // Spread bits (from Java 8 HashMap implementation)
         return h ^ (h >>> 16);
     }
@@ -132,20 +331,47 @@ public class HashMap<K, V> {
      * @return the previous value associated with key, or null if none
      */
     public V put(K key, V value) {
+        if (layout == Layout.ROBIN_HOOD) {
+            return robinHoodPut(key, value);
+        }
         int hash = hash(key);
+        if (oldTable != null) {
+            advanceMigration(hash);
+        }
         int index = (table.length - 1) & hash;
+        if (table[index] instanceof TreeNode) {
+            TreeNode<K, V> existing = findTreeNode((TreeNode<K, V>) table[index], hash, key);
+            if (existing != null) {
+                V oldValue = existing.value;
+                existing.value = value;
+                return oldValue;
+            }
+            putTreeNode(index, hash, key, value);
+            size++;
+            modCount++;
+            if (size > threshold) {
+                resize();
+            }
+            return null;
+        }
         // Traverse the bucket to check for existing key
+        int binCount = 0;
         for (Node<K, V> node = table[index]; node != null; node = node.next) {
             if (node.hash == hash && (key == node.key || (key != null && key.equals(node.key)))) {
                 V oldValue = node.value;
                 node.value = value;
                 return oldValue;
             }
+            binCount++;
         }
         // Insert new node at head of bucket
         Node<K, V> newNode = new Node<>(hash, key, value, table[index]);
         table[index] = newNode;
         size++;
+        modCount++;
+        if (binCount + 1 >= TREEIFY_THRESHOLD) {
+            treeifyBin(index);
+        }
         // Check if resizing needed
         if (size > threshold) {
             resize();
@@ -159,12 +385,39 @@ public class HashMap<K, V> {
      * @param key key to look up (may be null)
      * @return the value if found, or null if not found
      */
+    @SuppressWarnings("unchecked")
     public V get(Object key) {
+        if (recorder != null) {
+            return recordedGet(key);
+        }
+        if (layout == Layout.ROBIN_HOOD) {
+            int slot = robinHoodFind(key);
+            return slot < 0 ? null : (V) slotValues[slot];
+        }
         int hash = hash(key);
-        int index = (table.length - 1) & hash;
-        for (Node<K, V> node = table[index]; node != null; node = node.next) {
+        Node<K, V>[] tab = table;
+        if (oldTable != null) {
+            migrateStep();
+            // Until its bucket is migrated, the key can only be in the old table
+            if (oldTable != null && oldTable[(oldTable.length - 1) & hash] != null) {
+                tab = oldTable;
+            }
+        }
+        Node<K, V> node = findNode(tab, hash, key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Finds the node holding the given key in the given chained table, whether its bucket is a list or a tree.
+     */
+    private static <K, V> Node<K, V> findNode(Node<K, V>[] tab, int hash, Object key) {
+        Node<K, V> first = tab[(tab.length - 1) & hash];
+        if (first instanceof TreeNode) {
+            return findTreeNode((TreeNode<K, V>) first, hash, key);
+        }
+        for (Node<K, V> node = first; node != null; node = node.next) {
             if (node.hash == hash && (key == node.key || (key != null && key.equals(node.key)))) {
-                return node.value;
+                return node;
             }
         }
         return null;
@@ -177,8 +430,24 @@ public class HashMap<K, V> {
      * @return the previous value associated with key, or null if none
      */
     public V remove(Object key) {
+        if (layout == Layout.ROBIN_HOOD) {
+            return robinHoodRemove(key);
+        }
         int hash = hash(key);
+        if (oldTable != null) {
+            advanceMigration(hash);
+        }
         int index = (table.length - 1) & hash;
+        if (table[index] instanceof TreeNode) {
+            TreeNode<K, V> node = findTreeNode((TreeNode<K, V>) table[index], hash, key);
+            if (node == null) {
+                return null;
+            }
+            removeTreeNode(index, node);
+            size--;
+            modCount++;
+            return node.value;
+        }
         Node<K, V> prev = null;
         Node<K, V> curr = table[index];
         while (curr != null) {
@@ -189,6 +458,7 @@ public class HashMap<K, V> {
                     prev.next = curr.next;
                 }
                 size--;
+                modCount++;
                 return curr.value;
             }
             prev = curr;
@@ -207,6 +477,130 @@ public class HashMap<K, V> {
         return get(key) != null;
     }
 
+    /**
+     * Grows the table, in a single rehash, so that it can hold the given number of mappings without resizing.
+     * Does nothing if the table is already large enough.
+     *
+     * @param expectedSize number of mappings the map should be able to hold
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public void ensureCapacity(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative");
+        }
+        int current = capacity();
+        int target = current;
+        while (target < (1 << 30) && (int) (target * loadFactor) < expectedSize) {
+            target <<= 1;
+        }
+        if (target > current) {
+            resize(target);
+        }
+    }
+
+    /**
+     * Copies all mappings of the given map into this one. The table is grown once up front for the combined size,
+     * so no resize happens while the entries are inserted.
+     *
+     * @param other map whose mappings are to be added
+     * @throws NullPointerException if other is null
+     */
+    public void putAll(HashMap<? extends K, ? extends V> other) {
+        if (other == null) {
+            throw new NullPointerException("Map must not be null");
+        }
+        ensureCapacity((int) Math.min(Integer.MAX_VALUE, (long) size + other.size()));
+        other.forEach(this::put);
+    }
+
+    /**
+     * Puts keys[i] -> values[i] for every i, growing the table once up front instead of resizing along the way.
+     *
+     * @param keys keys to insert (may contain null)
+     * @param values values to associate with the keys at the same index (may contain null)
+     * @throws NullPointerException if keys or values is null
+     * @throws IllegalArgumentException if keys and values differ in length
+     */
+    public void putAll(K[] keys, V[] values) {
+        if (keys == null || values == null) {
+            throw new NullPointerException("Keys and values must not be null");
+        }
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values must have the same length");
+        }
+        ensureCapacity((int) Math.min(Integer.MAX_VALUE, (long) size + keys.length));
+        for (int i = 0; i < keys.length; i++) {
+            put(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Looks up a batch of keys, storing the value of keys[i] (or null) in out[i]. An incremental resize in progress
+     * advances by a single migration step for the whole batch; as in get(), a key whose old bucket has not moved yet
+     * is looked up in the old table, so the batch never pays for the rest of the migration.
+     *
+     * @param keys keys to look up (may contain null)
+     * @param out array receiving the values, at least as long as keys
+     * @return number of keys that were found
+     * @throws NullPointerException if keys or out is null
+     * @throws IllegalArgumentException if out is shorter than keys
+     */
+    @SuppressWarnings("unchecked")
+    public int getAll(Object[] keys, V[] out) {
+        if (keys == null || out == null) {
+            throw new NullPointerException("Keys and output must not be null");
+        }
+        if (out.length < keys.length) {
+            throw new IllegalArgumentException("Output must hold " + keys.length + " values, got " + out.length);
+        }
+        int found = 0;
+        if (recorder != null) {
+            // Look up one key at a time so that every lookup is recorded
+            long missesBefore = recorder.misses;
+            for (int i = 0; i < keys.length; i++) {
+                out[i] = recordedGet(keys[i]);
+            }
+            return keys.length - (int) (recorder.misses - missesBefore);
+        }
+        if (layout == Layout.ROBIN_HOOD) {
+            for (int i = 0; i < keys.length; i++) {
+                int slot = robinHoodFind(keys[i]);
+                if (slot >= 0) {
+                    out[i] = (V) slotValues[slot];
+                    found++;
+                } else {
+                    out[i] = null;
+                }
+            }
+            return found;
+        }
+        if (oldTable != null) {
+            migrateStep();
+        }
+        Node<K, V>[] old = oldTable;
+        for (int i = 0; i < keys.length; i++) {
+            int hash = hash(keys[i]);
+            Node<K, V>[] tab = table;
+            // Until its bucket is migrated, the key can only be in the old table
+            if (old != null && old[(old.length - 1) & hash] != null) {
+                tab = old;
+            }
+            Node<K, V> node = findNode(tab, hash, keys[i]);
+            if (node != null) {
+                out[i] = node.value;
+                found++;
+            } else {
+                out[i] = null;
+            }
+        }
+        return found;
+    }
+
+    /** Number of buckets (chained layout) or slots (Robin Hood layout). */
+    private int capacity() {
+        return layout == Layout.ROBIN_HOOD ? slotKeys.length : table.length;
+    }
+
     /**
      * Returns the number of key-value mappings in this map.
      *
@@ -230,19 +624,41 @@ public class HashMap<K, V> {
      */
     @SuppressWarnings("unchecked")
     public void clear() {
+        if (layout == Layout.ROBIN_HOOD) {
+            for (int i = 0; i < slotKeys.length; i++) {
+                slotKeys[i] = null;
+                slotValues[i] = null;
+            }
+            size = 0;
+            modCount++;
+            return;
+        }
         for (int i = 0; i < table.length; i++) {
             table[i] = null;
         }
+        oldTable = null;
         size = 0;
+        modCount++;
     }
 
     /**
      * Returns a List of all keys in this map. Order is not guaranteed.
+     * The keys are copied; use keyIterator() or forEach() to walk a large map without allocating a List.
      *
      * @return List of keys
      */
+    @SuppressWarnings("unchecked")
     public List<K> keys() {
         List<K> keyList = new ArrayList<>(size);
+        if (layout == Layout.ROBIN_HOOD) {
+            for (Object key : slotKeys) {
+                if (key != null) {
+                    keyList.add(key == NULL_KEY ? null : (K) key);
+                }
+            }
+            return keyList;
+        }
+        finishMigration();
         for (Node<K, V> bucket : table) {
             for (Node<K, V> node = bucket; node != null; node = node.next) {
                 keyList.add(node.key);
@@ -256,8 +672,18 @@ public class HashMap<K, V> {
      *
      * @return List of values
      */
+    @SuppressWarnings("unchecked")
     public List<V> values() {
         List<V> valueList = new ArrayList<>(size);
+        if (layout == Layout.ROBIN_HOOD) {
+            for (int i = 0; i < slotKeys.length; i++) {
+                if (slotKeys[i] != null) {
+                    valueList.add((V) slotValues[i]);
+                }
+            }
+            return valueList;
+        }
+        finishMigration();
         for (Node<K, V> bucket : table) {
             for (Node<K, V> node = bucket; node != null; node = node.next) {
                 valueList.add(node.value);
@@ -266,114 +692,1421 @@ public class HashMap<K, V> {
         return valueList;
     }
 
-    /** 
-     * Doubles the capacity of the table and rehashes all existing entries.
+    /**
+     * Returns an iterator over the keys of this map that walks the table in place, without copying. The iterator is
+     * fail-fast: adding or removing entries through the map while it is in use makes it throw
+     * ConcurrentModificationException. It does not support remove().
+     *
+     * @return iterator over the keys
      */
-    @SuppressWarnings("unchecked")
-    private void resize() {
-        int oldCapacity = table.length;
-        int newCapacity = oldCapacity << 1; // double capacity
-        Node<K, V>[] oldTable = table;
-        table = (Node<K, V>[]) new Node[newCapacity];
-        threshold = (int) (newCapacity * loadFactor);
+    public Iterator<K> keyIterator() {
+        return new TableIterator<>(true);
+    }
 
-        // Rehash all nodes into new table
-        for (Node<K, V> headNode : oldTable) {
-            while (headNode != null) {
-                Node<K, V> nextNode = headNode.next;
-                int index = (newCapacity - 1) & headNode.hash;
-                headNode.next = table[index];
-                table[index] = headNode;
-                headNode = nextNode;
+    /**
+     * Returns an iterator over the values of this map, in keyIterator() order. Walks the table in place and is
+     * fail-fast like keyIterator().
+     *
+     * @return iterator over the values
+     */
+    public Iterator<V> valueIterator() {
+        return new TableIterator<>(false);
+    }
+
+    /**
+     * Performs the given action on every key-value pair, walking the table in place.
+     *
+     * @param action action to perform on each mapping
+     * @throws NullPointerException if action is null
+     * @throws ConcurrentModificationException if the action adds or removes entries
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (action == null) {
+            throw new NullPointerException("Action must not be null");
+        }
+        int expectedModCount = modCount;
+        if (layout == Layout.ROBIN_HOOD) {
+            Object[] keys = slotKeys;
+            Object[] values = slotValues;
+            for (int i = 0; i < keys.length && modCount == expectedModCount; i++) {
+                if (keys[i] != null) {
+                    action.accept(keys[i] == NULL_KEY ? null : (K) keys[i], (V) values[i]);
+                }
+            }
+        } else {
+            finishMigration();
+            Node<K, V>[] tab = table;
+            for (int i = 0; i < tab.length && modCount == expectedModCount; i++) {
+                for (Node<K, V> node = tab[i]; node != null; node = node.next) {
+                    action.accept(node.key, node.value);
+                }
             }
         }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
     }
 
-    // -------------------------------------------------------------------------
-    // Example usage / quick test
-    // -------------------------------------------------------------------------
-    public static void main(String[] args) {
-        HashMap<String, Integer> map = new HashMap<>();
+    /**
+     * Returns a spliterator over the keys of this map. It splits by ranges of buckets (or slots), so that
+     * StreamSupport.stream(map.keySpliterator(), true) scans the map on several threads without copying it. The map
+     * must not be modified while the spliterator is in use.
+     *
+     * @return spliterator over the keys
+     */
+    public Spliterator<K> keySpliterator() {
+        return new TableSpliterator<>(true);
+    }
 
-        System.out.println("Putting entries:");
-        map.put("apple", 1);
-        map.put("banana", 2);
-        map.put("cherry", 3);
-        System.out.println("Size after inserts: " + map.size()); // 3
+    /**
+     * Returns a spliterator over the values of this map that splits by ranges of buckets (or slots), like
+     * keySpliterator().
+     *
+     * @return spliterator over the values
+     */
+    public Spliterator<V> valueSpliterator() {
+        return new TableSpliterator<>(false);
+    }
 
-        System.out.println("\nRetrieving values:");
-        System.out.println("apple -> " + map.get("apple"));   // 1
-        System.out.println("banana -> " + map.get("banana")); // 2
-        System.out.println("grape -> " + map.get("grape"));   // null
+    /**
+     * Walks the entries of the buckets (or Robin Hood slots) in [index, fence) of the table as it was when the walk
+     * started, exposing either the keys or the values. Base of the iterators and spliterators.
+     */
+    private abstract class TableWalker<E> {
+        /** Whether the walk yields keys (true) or values (false). */
+        final boolean keys;
+        final Node<K, V>[] tab;
+        final Object[] walkKeys;
+        final Object[] walkValues;
+        /** Next bucket or slot to visit. */
+        int index;
+        /** One past the last bucket or slot to visit. */
+        int fence;
+        /** Remaining nodes of the bucket being walked (chained layout only). */
+        Node<K, V> pending;
+        int expectedModCount;
+        /** Element found by the last successful advance(). */
+        E current;
 
-        System.out.println("\nUpdating 'banana' to 20:");
-        map.put("banana", 20);
-        System.out.println("banana -> " + map.get("banana")); // 20
+        TableWalker(boolean keys) {
+            this.keys = keys;
+            if (layout == Layout.ROBIN_HOOD) {
+                this.tab = null;
+                this.walkKeys = slotKeys;
+                this.walkValues = slotValues;
+                this.fence = slotKeys.length;
+            } else {
+                // The walk must see a single table, so an incremental resize is completed first
+                finishMigration();
+                this.tab = table;
+                this.walkKeys = null;
+                this.walkValues = null;
+                this.fence = table.length;
+            }
+            this.expectedModCount = modCount;
+        }
 
-        System.out.println("\nContains key 'cherry'? " + map.containsKey("cherry")); // true
-        System.out.println("Contains key 'date'? " + map.containsKey("date"));       // false
+        /** Moves to the next entry and stores its key or value in current; returns false once the range is done. */
+        @SuppressWarnings("unchecked")
+        final boolean advance() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (tab == null) {
+                while (index < fence) {
+                    int i = index++;
+                    Object key = walkKeys[i];
+                    if (key != null) {
+                        current = keys ? (E) (key == NULL_KEY ? null : key) : (E) walkValues[i];
+                        return true;
+                    }
+                }
+                return false;
+            }
+            while (pending == null && index < fence) {
+                pending = tab[index++];
+            }
+            if (pending == null) {
+                return false;
+            }
+            current = keys ? (E) pending.key : (E) pending.value;
+            pending = pending.next;
+            return true;
+        }
+    }
 
-        System.out.println("\nRemoving 'apple':");
-        System.out.println("Removed value: " + map.remove("apple")); // 1
-        System.out.println("Contains key 'apple'? " + map.containsKey("apple"));    // false
-        System.out.println("Size after removal: " + map.size());                     // 2
+    /** Fail-fast iterator behind keyIterator() and valueIterator(). */
+    private final class TableIterator<E> extends TableWalker<E> implements Iterator<E> {
+        /** Whether advance() has already been called for the element next() will return. */
+        private boolean lookedAhead;
+        private boolean hasNext;
 
-        System.out.println("\nIterating over keys and values:");
-        for (String key : map.keys()) {
-            System.out.println(key + " => " + map.get(key));
+        TableIterator(boolean keys) {
+            super(keys);
         }
 
-        System.out.println("\nFilling map to trigger resize:");
-        for (int i = 0; i < 20; i++) {
-            map.put("key" + i, i);
+        @Override
+        public boolean hasNext() {
+            if (!lookedAhead) {
+                hasNext = advance();
+                lookedAhead = true;
+            }
+            return hasNext;
         }
-        System.out.println("Size after bulk insert: " + map.size()); // 22 (2 existing + 20 new)
-        System.out.println("Capacity after resize (approx): " + map.table.length);
 
-        System.out.println("\nClearing map:");
-        map.clear();
-        System.out.println("Size after clear: " + map.size()); // 0
-        System.out.println("Is empty? " + map.isEmpty());     // true
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lookedAhead = false;
+            return current;
+        }
     }
-}
-```
-
----
 
-### Explanation of Key Points
+    /**
+     * Spliterator behind keySpliterator() and valueSpliterator(). trySplit() hands the lower half of the remaining
+     * bucket range to a new spliterator, so each part walks its own contiguous slice of the table.
+     */
+    private final class TableSpliterator<E> extends TableWalker<E> implements Spliterator<E> {
+        /** Estimated number of entries in the range, assuming they are spread evenly over the table. */
+        private long estimate;
 
-1. **Generic Type Parameters `<K, V>`**
-   We allow any object types for keys and values. Keys must correctly implement `hashCode()` and `equals()` so that different instances that should be treated as the same key do actually collide/compare equal.
+        TableSpliterator(boolean keys) {
+            super(keys);
+            this.estimate = size;
+        }
 
-2. **Buckets & Separate Chaining**
-   Internally, we use an array of `Node<K, V>[] table`. Each entry in that array is the head of a singly linked list (chain) of `Node<K, V>`. If two keys hash to the same bucket index, they are stored in that bucket’s linked list.
+        private TableSpliterator(TableSpliterator<E> parent, int index, int fence) {
+            super(parent.keys);
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = parent.expectedModCount;
+        }
 
-3. **Hash Computation & Indexing**
-   We compute an integer `hash` from `key.hashCode()`, then “spread” its bits via `h ^ (h >>> 16)` (borrowed from Java’s own HashMap) to reduce clustering. The actual bucket index is `hash & (table.length – 1)`. Because `table.length` is always a power of two, the bitmask operation efficiently maps the hash onto the correct range `[0, table.length - 1]`.
+        @Override
+        public Spliterator<E> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            // Only split between buckets, never inside the bucket being walked
+            if (pending != null || lo >= mid) {
+                return null;
+            }
+            TableSpliterator<E> prefix = new TableSpliterator<>(this, lo, mid);
+            index = mid;
+            estimate >>>= 1;
+            prefix.estimate = estimate;
+            return prefix;
+        }
 
-4. **Load Factor & Resizing**
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) {
+                throw new NullPointerException("Action must not be null");
+            }
+            if (!advance()) {
+                return false;
+            }
+            action.accept(current);
+            return true;
+        }
 
-   * We track `size` (number of key-value pairs) and `threshold` = `capacity * loadFactor`.
-   * Whenever `size > threshold`, we “resize”—double the bucket array’s length and rehash all existing nodes into the new table.
-   * By default, `loadFactor = 0.75`. You can override this in the constructor if you want a different threshold.
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) {
+                throw new NullPointerException("Action must not be null");
+            }
+            while (advance()) {
+                action.accept(current);
+            }
+        }
 
-5. **Put / Get / Remove**
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
 
-   * **put(K key, V value):** Compute `hash(key)`, find bucket index, traverse that list to see if the key already exists (if so, replace its value). Otherwise, insert a new `Node` at the head of the list. Increment `size` and, if necessary, call `resize()`. Returns the old value if replaced, or `null` if it was a new key.
-   * **get(Object key):** Compute hash and bucket index, then traverse that bucket’s list to find a matching key. Return the associated value, or `null` if not found.
-   * **remove(Object key):** Similarly locate the node; if found, unlink it from the list, decrement `size`, and return its old value. If not found, return `null`.
-   * **containsKey(Object key):** Just calls `get(key)` and checks for non-`null`.
+        @Override
+        public int characteristics() {
+            return keys ? Spliterator.DISTINCT : 0;
+        }
+    }
 
-6. **Utility Methods**
+    /** 
+     * Doubles the capacity of the table and rehashes all existing entries.
+     * Tree buckets are split between their two new buckets and untreeified if a half becomes small enough.
+     * With the incremental policy, only the new table is allocated here and the entries move over time.
+     */
+    private void resize() {
+        resize(capacity() << 1); // double capacity
+    }
 
-   * **size()**, **isEmpty()**, **clear()** (nulls out all buckets but keeps the same capacity), **keys()**, and **values()**.
-   * `keys()` and `values()` gather all entries in arbitrary order by scanning every bucket’s linked list.
+    /**
+     * Grows the table to the given power-of-two capacity, which must be larger than the current one. ensureCapacity()
+     * uses this to grow several times over in a single rehash.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int newCapacity) {
+        // Every layout and policy moves entries to a new table, which invalidates iterators over the old one
+        modCount++;
+        if (layout == Layout.ROBIN_HOOD) {
+            robinHoodResize(newCapacity);
+            return;
+        }
+        // A resize still in progress must be completed before the table can grow again
+        finishMigration();
+        if (recorder != null) {
+            recorder.resizes++;
+        }
+        long start = resizeTimerStart();
+        int oldCapacity = table.length;
+        Node<K, V>[] previous = table;
+        table = (Node<K, V>[]) new Node[newCapacity];
+        threshold = (int) (newCapacity * loadFactor);
+
+        if (resizePolicy == ResizePolicy.INCREMENTAL) {
+            oldTable = previous;
+            migrateIndex = 0;
+            resizeTimerStop(start);
+            return;
+        }
+        // Rehash all nodes into new table
+        for (int j = 0; j < oldCapacity; j++) {
+            transferBucket(previous, j);
+        }
+        resizeTimerStop(start);
+    }
+
+    /**
+     * Moves every entry of bucket j of the given previous (smaller) table into the current table, leaving the old
+     * bucket empty.
+     */
+    private void transferBucket(Node<K, V>[] previous, int j) {
+        Node<K, V> headNode = previous[j];
+        previous[j] = null;
+        if (headNode instanceof TreeNode) {
+            if (table.length == previous.length << 1) {
+                splitTreeBin((TreeNode<K, V>) headNode, j, previous.length);
+            } else {
+                scatterTreeBin((TreeNode<K, V>) headNode);
+            }
+            return;
+        }
+        int mask = table.length - 1;
+        while (headNode != null) {
+            Node<K, V> nextNode = headNode.next;
+            int index = mask & headNode.hash;
+            headNode.next = table[index];
+            table[index] = headNode;
+            headNode = nextNode;
+        }
+    }
+
+    /**
+     * Performs one migration step and then makes sure the bucket the given hash maps to has been moved, so that
+     * put and remove only ever need to modify the new table.
+     */
+    private void advanceMigration(int hash) {
+        migrateStep();
+        if (oldTable != null) {
+            int j = (oldTable.length - 1) & hash;
+            if (oldTable[j] != null) {
+                long start = resizeTimerStart();
+                transferBucket(oldTable, j);
+                resizeTimerStop(start);
+            }
+        }
+    }
+
+    /** Migrates up to MIGRATION_STEP buckets of the old table, dropping it once it is drained. */
+    private void migrateStep() {
+        long start = resizeTimerStart();
+        int end = Math.min(migrateIndex + MIGRATION_STEP, oldTable.length);
+        for (; migrateIndex < end; migrateIndex++) {
+            if (oldTable[migrateIndex] != null) {
+                transferBucket(oldTable, migrateIndex);
+            }
+        }
+        if (migrateIndex == oldTable.length) {
+            oldTable = null;
+        }
+        resizeTimerStop(start);
+    }
+
+    /** Migrates every remaining bucket of an incremental resize in progress, if any. */
+    private void finishMigration() {
+        while (oldTable != null) {
+            migrateStep();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Treeified buckets (chained layout)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Converts the list in the given bucket into a tree, or resizes instead while the table is still small (a long
+     * chain in a small table is more likely caused by too few buckets than by bad hashing).
+     */
+    private void treeifyBin(int index) {
+        if (table.length < MIN_TREEIFY_CAPACITY) {
+            resize();
+            return;
+        }
+        TreeNode<K, V> head = null;
+        TreeNode<K, V> tail = null;
+        for (Node<K, V> node = table[index]; node != null; node = node.next) {
+            TreeNode<K, V> treeNode = new TreeNode<>(node.hash, node.key, node.value, null, treeNodeSequence++);
+            treeNode.prev = tail;
+            if (tail == null) {
+                head = treeNode;
+            } else {
+                tail.next = treeNode;
+            }
+            tail = treeNode;
+        }
+        table[index] = head;
+        buildTree(index, head);
+    }
+
+    /**
+     * Builds a balanced tree out of the TreeNodes listed from head, which must already be the bucket's list.
+     */
+    private void buildTree(int index, TreeNode<K, V> head) {
+        TreeNode<K, V> root = null;
+        for (TreeNode<K, V> node = head; node != null; node = (TreeNode<K, V>) node.next) {
+            node.left = null;
+            node.right = null;
+            node.height = 1;
+            root = treeInsert(root, node);
+        }
+        moveRootToFront(index, root);
+    }
+
+    /**
+     * Converts the list of TreeNodes starting at head back into plain Nodes, keeping their order.
+     */
+    private static <K, V> Node<K, V> untreeify(Node<K, V> head) {
+        Node<K, V> newHead = null;
+        Node<K, V> tail = null;
+        for (Node<K, V> node = head; node != null; node = node.next) {
+            Node<K, V> plain = new Node<>(node.hash, node.key, node.value, null);
+            if (tail == null) {
+                newHead = plain;
+            } else {
+                tail.next = plain;
+            }
+            tail = plain;
+        }
+        return newHead;
+    }
+
+    /**
+     * Splits a tree bucket of the old table between the buckets j and j + bit of the resized table. Each half is
+     * rebuilt as a tree, or untreeified if it holds UNTREEIFY_THRESHOLD entries or fewer.
+     */
+    private void splitTreeBin(TreeNode<K, V> first, int j, int bit) {
+        TreeNode<K, V> loHead = null, loTail = null, hiHead = null, hiTail = null;
+        int loCount = 0, hiCount = 0;
+        for (TreeNode<K, V> node = first, next; node != null; node = next) {
+            next = (TreeNode<K, V>) node.next;
+            node.next = null;
+            if ((node.hash & bit) == 0) {
+                node.prev = loTail;
+                if (loTail == null) {
+                    loHead = node;
+                } else {
+                    loTail.next = node;
+                }
+                loTail = node;
+                loCount++;
+            } else {
+                node.prev = hiTail;
+                if (hiTail == null) {
+                    hiHead = node;
+                } else {
+                    hiTail.next = node;
+                }
+                hiTail = node;
+                hiCount++;
+            }
+        }
+        placeSplitHalf(j, loHead, loCount);
+        placeSplitHalf(j + bit, hiHead, hiCount);
+    }
+
+    /**
+     * Spreads a tree bucket of the old table over the buckets of a table that grew more than twofold. The entries
+     * are inserted as plain Nodes, and any new bucket that still collects TREEIFY_THRESHOLD of them is treeified again.
+     */
+    private void scatterTreeBin(TreeNode<K, V> first) {
+        int mask = table.length - 1;
+        for (Node<K, V> node = untreeify(first), next; node != null; node = next) {
+            next = node.next;
+            int index = mask & node.hash;
+            node.next = table[index];
+            table[index] = node;
+        }
+        for (Node<K, V> node = first; node != null; node = node.next) {
+            int index = mask & node.hash;
+            if (!(table[index] instanceof TreeNode) && chainLength(table[index]) >= TREEIFY_THRESHOLD) {
+                treeifyBin(index);
+            }
+        }
+    }
+
+    /** Counts the nodes of a bucket list, stopping early once TREEIFY_THRESHOLD is reached. */
+    private static int chainLength(Node<?, ?> head) {
+        int count = 0;
+        for (Node<?, ?> node = head; node != null && count < TREEIFY_THRESHOLD; node = node.next) {
+            count++;
+        }
+        return count;
+    }
+
+    /** Stores one half of a split tree bucket in the given (empty) bucket of the current table. */
+    private void placeSplitHalf(int index, TreeNode<K, V> head, int count) {
+        if (head == null) {
+            return;
+        }
+        if (count <= UNTREEIFY_THRESHOLD) {
+            table[index] = untreeify(head);
+        } else {
+            table[index] = head;
+            buildTree(index, head);
+        }
+    }
+
+    /**
+     * Adds a new entry to a tree bucket: it is linked into the list right after the root and inserted into the tree.
+     */
+    private void putTreeNode(int index, int hash, K key, V value) {
+        TreeNode<K, V> root = (TreeNode<K, V>) table[index];
+        TreeNode<K, V> node = new TreeNode<>(hash, key, value, root.next, treeNodeSequence++);
+        node.prev = root;
+        if (root.next != null) {
+            ((TreeNode<K, V>) root.next).prev = node;
+        }
+        root.next = node;
+        moveRootToFront(index, treeInsert(root, node));
+    }
+
+    /**
+     * Unlinks a node from a tree bucket's list and tree, untreeifying the bucket if it has become small enough.
+     */
+    private void removeTreeNode(int index, TreeNode<K, V> node) {
+        TreeNode<K, V> root = (TreeNode<K, V>) table[index];
+        TreeNode<K, V> next = (TreeNode<K, V>) node.next;
+        if (node.prev == null) {
+            table[index] = next;
+        } else {
+            node.prev.next = next;
+        }
+        if (next != null) {
+            next.prev = node.prev;
+        }
+        root = treeRemove(root, node);
+        if (root == null) {
+            table[index] = null;
+            return;
+        }
+        int count = 0;
+        for (Node<K, V> e = table[index]; e != null && count <= UNTREEIFY_THRESHOLD; e = e.next) {
+            count++;
+        }
+        if (count <= UNTREEIFY_THRESHOLD) {
+            table[index] = untreeify(table[index]);
+        } else {
+            moveRootToFront(index, root);
+        }
+    }
+
+    /** Makes the tree root the first node of the bucket's list, which is what table[index] must point to. */
+    private void moveRootToFront(int index, TreeNode<K, V> root) {
+        TreeNode<K, V> first = (TreeNode<K, V>) table[index];
+        if (root == first) {
+            return;
+        }
+        TreeNode<K, V> next = (TreeNode<K, V>) root.next;
+        root.prev.next = next; // root is not first, so it has a predecessor
+        if (next != null) {
+            next.prev = root.prev;
+        }
+        root.prev = null;
+        root.next = first;
+        first.prev = root;
+        table[index] = root;
+    }
+
+    /**
+     * Finds the node holding the given key in the tree rooted at p. When neither the hash nor the natural order can
+     * decide the direction (equal hashes and keys that are not of one Comparable class), both subtrees are searched,
+     * since an equal key of another class may sit on either side.
+     */
+    private static <K, V> TreeNode<K, V> findTreeNode(TreeNode<K, V> p, int hash, Object key) {
+        while (p != null) {
+            if (hash < p.hash) {
+                p = p.left;
+            } else if (hash > p.hash) {
+                p = p.right;
+            } else if (key == p.key || (key != null && key.equals(p.key))) {
+                return p;
+            } else {
+                int cmp = compareComparables(key, p.key);
+                if (cmp < 0) {
+                    p = p.left;
+                } else if (cmp > 0) {
+                    p = p.right;
+                } else {
+                    TreeNode<K, V> found = findTreeNode(p.right, hash, key);
+                    if (found != null) {
+                        return found;
+                    }
+                    p = p.left;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compares two keys by natural order if both are of the same Comparable class, otherwise returns 0.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareComparables(Object a, Object b) {
+        if (a == null || b == null || a.getClass() != b.getClass() || !(a instanceof Comparable)) {
+            return 0;
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+
+    /**
+     * Orders two keys with equal hashes for insertion: null first, then by class name, then by natural order when
+     * both keys are of the same Comparable class. Returns 0 when the keys cannot be told apart this way.
+     */
+    private static int compareKeys(Object a, Object b) {
+        if (a == null || b == null) {
+            return a == b ? 0 : (a == null ? -1 : 1);
+        }
+        Class<?> ca = a.getClass();
+        Class<?> cb = b.getClass();
+        if (ca != cb) {
+            return ca.getName().compareTo(cb.getName());
+        }
+        return compareComparables(a, b);
+    }
+
+    /**
+     * Total order of tree nodes: by hash, then compareKeys, then identity hash code of the key, and finally creation
+     * sequence, so every node has exactly one position and removal can navigate straight to it.
+     */
+    private static int compareNodes(TreeNode<?, ?> a, TreeNode<?, ?> b) {
+        if (a.hash != b.hash) {
+            return a.hash < b.hash ? -1 : 1;
+        }
+        int cmp = compareKeys(a.key, b.key);
+        if (cmp != 0) {
+            return cmp;
+        }
+        cmp = Integer.compare(System.identityHashCode(a.key), System.identityHashCode(b.key));
+        return cmp != 0 ? cmp : Integer.compare(a.sequence, b.sequence);
+    }
+
+    private static int height(TreeNode<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <K, V> TreeNode<K, V> rotateRight(TreeNode<K, V> node) {
+        TreeNode<K, V> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        left.height = 1 + Math.max(height(left.left), height(left.right));
+        return left;
+    }
+
+    private static <K, V> TreeNode<K, V> rotateLeft(TreeNode<K, V> node) {
+        TreeNode<K, V> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        right.height = 1 + Math.max(height(right.left), height(right.right));
+        return right;
+    }
+
+    /** Restores the AVL invariant at node after one of its subtrees changed height by at most one. */
+    private static <K, V> TreeNode<K, V> rebalance(TreeNode<K, V> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /** Inserts node into the subtree rooted at root and returns the new subtree root. */
+    private static <K, V> TreeNode<K, V> treeInsert(TreeNode<K, V> root, TreeNode<K, V> node) {
+        if (root == null) {
+            return node;
+        }
+        if (compareNodes(node, root) < 0) {
+            root.left = treeInsert(root.left, node);
+        } else {
+            root.right = treeInsert(root.right, node);
+        }
+        return rebalance(root);
+    }
+
+    /** Removes node from the subtree rooted at root and returns the new subtree root. */
+    private static <K, V> TreeNode<K, V> treeRemove(TreeNode<K, V> root, TreeNode<K, V> node) {
+        if (root == node) {
+            if (root.left == null) {
+                return root.right;
+            }
+            if (root.right == null) {
+                return root.left;
+            }
+            // Keys are final, so the in-order successor node itself takes the removed node's place
+            TreeNode<K, V> successor = root.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(root.right);
+            successor.left = root.left;
+            return rebalance(successor);
+        }
+        if (compareNodes(node, root) < 0) {
+            root.left = treeRemove(root.left, node);
+        } else {
+            root.right = treeRemove(root.right, node);
+        }
+        return rebalance(root);
+    }
+
+    /** Unlinks the leftmost node of the subtree rooted at root and returns the new subtree root. */
+    private static <K, V> TreeNode<K, V> removeMin(TreeNode<K, V> root) {
+        if (root.left == null) {
+            return root.right;
+        }
+        root.left = removeMin(root.left);
+        return rebalance(root);
+    }
+
+    /**
+     * Returns the layout this map stores its entries in.
+     *
+     * @return the storage layout chosen at construction
+     */
+    public Layout layout() {
+        return layout;
+    }
+
+    /**
+     * Returns the policy this map grows its table with.
+     *
+     * @return the resize policy chosen at construction
+     */
+    public ResizePolicy resizePolicy() {
+        return resizePolicy;
+    }
+
+    /**
+     * Returns the strategy this map hashes its keys with.
+     *
+     * @return the hash strategy chosen at construction
+     */
+    public HashStrategy hashStrategy() {
+        return hashStrategy;
+    }
+
+    /**
+     * Immutable snapshot of how many probes successful lookups need, used to compare layouts and key distributions.
+     * For the chained layout the probe length of an entry is its 1-based position in its bucket's list (or its depth
+     * in a treeified bucket); for the Robin Hood layout it is its distance from its home slot plus one.
+     */
+    public static final class ProbeStats {
+        private final int entries;
+        private final int capacity;
+        private final int maxProbeLength;
+        private final double averageProbeLength;
+        private final long[] histogram;
+
+        private ProbeStats(int entries, int capacity, long[] histogram) {
+            long total = 0;
+            int max = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                total += histogram[i] * (i + 1);
+                if (histogram[i] != 0) {
+                    max = i + 1;
+                }
+            }
+            this.entries = entries;
+            this.capacity = capacity;
+            this.maxProbeLength = max;
+            this.averageProbeLength = entries == 0 ? 0.0 : (double) total / entries;
+            this.histogram = Arrays.copyOf(histogram, max);
+        }
+
+        /** @return number of entries in the map when the snapshot was taken */
+        public int entries() {
+            return entries;
+        }
+
+        /** @return number of buckets or slots when the snapshot was taken */
+        public int capacity() {
+            return capacity;
+        }
+
+        /** @return the longest probe sequence any entry needs */
+        public int maxProbeLength() {
+            return maxProbeLength;
+        }
+
+        /** @return the mean number of probes per successful lookup */
+        public double averageProbeLength() {
+            return averageProbeLength;
+        }
+
+        /** @return a copy of the histogram, where element i counts the entries found after i + 1 probes */
+        public long[] histogram() {
+            return histogram.clone();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ProbeStats{entries=%d, capacity=%d, avg=%.3f, max=%d, histogram=%s}",
+                    entries, capacity, averageProbeLength, maxProbeLength, Arrays.toString(histogram));
+        }
+    }
+
+    /**
+     * Computes probe-length statistics by scanning the whole table. Costs O(n + k); an incremental resize in progress
+     * is completed first.
+     *
+     * @return a snapshot of the current probe-length distribution
+     */
+    public ProbeStats probeStats() {
+        long[] histogram = new long[8];
+        if (layout == Layout.ROBIN_HOOD) {
+            int mask = slotKeys.length - 1;
+            for (int i = 0; i < slotKeys.length; i++) {
+                if (slotKeys[i] != null) {
+                    histogram = countProbe(histogram, (i - (slotHashes[i] & mask)) & mask);
+                }
+            }
+            return new ProbeStats(size, slotKeys.length, histogram);
+        }
+        finishMigration();
+        for (Node<K, V> bucket : table) {
+            if (bucket instanceof TreeNode) {
+                histogram = countTreeProbes(histogram, (TreeNode<K, V>) bucket, 0);
+                continue;
+            }
+            int position = 0;
+            for (Node<K, V> node = bucket; node != null; node = node.next) {
+                histogram = countProbe(histogram, position++);
+            }
+        }
+        return new ProbeStats(size, table.length, histogram);
+    }
+
+    /** Counts the nodes of a tree bucket by depth, which is their probe length. */
+    private static long[] countTreeProbes(long[] histogram, TreeNode<?, ?> node, int depth) {
+        if (node == null) {
+            return histogram;
+        }
+        histogram = countProbe(histogram, depth);
+        histogram = countTreeProbes(histogram, node.left, depth + 1);
+        return countTreeProbes(histogram, node.right, depth + 1);
+    }
+
+    /** Increments histogram[index], growing the histogram if needed. */
+    private static long[] countProbe(long[] histogram, int index) {
+        if (index >= histogram.length) {
+            histogram = Arrays.copyOf(histogram, Math.max(index + 1, histogram.length << 1));
+        }
+        histogram[index]++;
+        return histogram;
+    }
+
+    // -------------------------------------------------------------------------
+    // Opt-in statistics
+    // -------------------------------------------------------------------------
+
+    /** Counters updated while statistics are enabled. */
+    private static final class Recorder {
+        long resizes;
+        long resizeNanos;
+        long gets;
+        long probes;
+        long misses;
+    }
+
+    /**
+     * Snapshot of the counters recorded since statistics were enabled, plus the current shape of the table. Meant to
+     * be scraped periodically into a metrics system to tune initialCapacity and loadFactor.
+     */
+    public static final class Statistics {
+        private final int size;
+        private final int capacity;
+        private final long resizeCount;
+        private final long resizeNanos;
+        private final long getCount;
+        private final long probes;
+        private final long misses;
+        private final long[] chainLengthHistogram;
+
+        private Statistics(int size, int capacity, Recorder recorder, long[] chainLengthHistogram) {
+            this.size = size;
+            this.capacity = capacity;
+            this.resizeCount = recorder.resizes;
+            this.resizeNanos = recorder.resizeNanos;
+            this.getCount = recorder.gets;
+            this.probes = recorder.probes;
+            this.misses = recorder.misses;
+            int length = chainLengthHistogram.length;
+            while (length > 1 && chainLengthHistogram[length - 1] == 0) {
+                length--;
+            }
+            this.chainLengthHistogram = Arrays.copyOf(chainLengthHistogram, length);
+        }
+
+        /** @return number of entries in the map when the snapshot was taken */
+        public int size() {
+            return size;
+        }
+
+        /** @return number of buckets or slots when the snapshot was taken */
+        public int capacity() {
+            return capacity;
+        }
+
+        /** @return number of times the table has grown */
+        public long resizeCount() {
+            return resizeCount;
+        }
+
+        /** @return nanoseconds spent growing the table, including incremental migration steps */
+        public long resizeNanos() {
+            return resizeNanos;
+        }
+
+        /** @return number of get (and containsKey) calls */
+        public long getCount() {
+            return getCount;
+        }
+
+        /**
+         * @return mean number of entries compared per get; an empty bucket counts 0, and a tree bucket counts the
+         *         depth of the node found (or its height on a miss)
+         */
+        public double averageProbesPerGet() {
+            return getCount == 0 ? 0.0 : (double) probes / getCount;
+        }
+
+        /** @return fraction of gets whose key was absent */
+        public double missRatio() {
+            return getCount == 0 ? 0.0 : (double) misses / getCount;
+        }
+
+        /**
+         * @return a copy of the chain-length histogram, where element i counts the buckets holding i entries (for the
+         *         Robin Hood layout, the home slots that i entries hash to)
+         */
+        public long[] chainLengthHistogram() {
+            return chainLengthHistogram.clone();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Statistics{size=%d, capacity=%d, resizes=%d, resizeMs=%.3f, gets=%d, "
+                            + "avgProbes=%.3f, missRatio=%.3f, chainLengths=%s}",
+                    size, capacity, resizeCount, resizeNanos / 1e6, getCount, averageProbesPerGet(), missRatio(),
+                    Arrays.toString(chainLengthHistogram));
+        }
+    }
+
+    /**
+     * Starts recording resizes and lookups. While statistics are disabled (the default), the only cost is a null
+     * check on get and resize. Enabling them again after they were enabled has no effect.
+     */
+    public void enableStatistics() {
+        if (recorder == null) {
+            recorder = new Recorder();
+        }
+    }
+
+    /**
+     * Stops recording and discards the counters recorded so far.
+     */
+    public void disableStatistics() {
+        recorder = null;
+    }
+
+    /**
+     * Returns whether statistics are being recorded.
+     *
+     * @return true if enableStatistics() was called and disableStatistics() was not called since
+     */
+    public boolean statisticsEnabled() {
+        return recorder != null;
+    }
+
+    /**
+     * Takes a snapshot of the recorded counters and of the table's chain lengths. Costs O(n + k), but unlike
+     * probeStats() it does not complete an incremental resize: buckets still waiting in the old table are counted as
+     * they are.
+     *
+     * @return a snapshot of the statistics
+     * @throws IllegalStateException if statistics are not enabled
+     */
+    public Statistics statistics() {
+        if (recorder == null) {
+            throw new IllegalStateException("Statistics are not enabled");
+        }
+        long[] histogram = new long[8];
+        if (layout == Layout.ROBIN_HOOD) {
+            int mask = slotKeys.length - 1;
+            int[] perHomeSlot = new int[slotKeys.length];
+            for (int i = 0; i < slotKeys.length; i++) {
+                if (slotKeys[i] != null) {
+                    perHomeSlot[slotHashes[i] & mask]++;
+                }
+            }
+            for (int count : perHomeSlot) {
+                histogram = countProbe(histogram, count);
+            }
+            return new Statistics(size, slotKeys.length, recorder, histogram);
+        }
+        for (Node<K, V> bucket : table) {
+            histogram = countProbe(histogram, chainLengthOf(bucket));
+        }
+        if (oldTable != null) {
+            for (Node<K, V> bucket : oldTable) {
+                if (bucket != null) {
+                    histogram = countProbe(histogram, chainLengthOf(bucket));
+                }
+            }
+        }
+        return new Statistics(size, table.length, recorder, histogram);
+    }
+
+    private static int chainLengthOf(Node<?, ?> bucket) {
+        int length = 0;
+        for (Node<?, ?> node = bucket; node != null; node = node.next) {
+            length++;
+        }
+        return length;
+    }
+
+    /** Variant of get used while statistics are enabled: same lookup, but counts the entries compared. */
+    @SuppressWarnings("unchecked")
+    private V recordedGet(Object key) {
+        int probes = 0;
+        V value = null;
+        boolean found = false;
+        if (layout == Layout.ROBIN_HOOD) {
+            int hash = robinHoodHash(key);
+            Object k = maskNull(key);
+            int mask = slotKeys.length - 1;
+            int index = hash & mask;
+            for (int dist = 0; ; dist++) {
+                Object slotKey = slotKeys[index];
+                if (slotKey == null || ((index - (slotHashes[index] & mask)) & mask) < dist) {
+                    break;
+                }
+                probes++;
+                if (slotHashes[index] == hash && (slotKey == k || k.equals(slotKey))) {
+                    value = (V) slotValues[index];
+                    found = true;
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+        } else {
+            int hash = hash(key);
+            Node<K, V>[] tab = table;
+            if (oldTable != null) {
+                migrateStep();
+                if (oldTable != null && oldTable[(oldTable.length - 1) & hash] != null) {
+                    tab = oldTable;
+                }
+            }
+            Node<K, V> first = tab[(tab.length - 1) & hash];
+            if (first instanceof TreeNode) {
+                TreeNode<K, V> root = (TreeNode<K, V>) first;
+                TreeNode<K, V> node = findTreeNode(root, hash, key);
+                probes = node == null ? root.height : treeDepth(root, node);
+                if (node != null) {
+                    value = node.value;
+                    found = true;
+                }
+            } else {
+                for (Node<K, V> node = first; node != null; node = node.next) {
+                    probes++;
+                    if (node.hash == hash && (key == node.key || (key != null && key.equals(node.key)))) {
+                        value = node.value;
+                        found = true;
+                        break;
+                    }
+                }
+            }
+        }
+        Recorder r = recorder;
+        r.gets++;
+        r.probes += probes;
+        if (!found) {
+            r.misses++;
+        }
+        return value;
+    }
+
+    /** Number of nodes on the path from root to target (inclusive), following the tree's total order. */
+    private static int treeDepth(TreeNode<?, ?> root, TreeNode<?, ?> target) {
+        int depth = 1;
+        for (TreeNode<?, ?> p = root; p != target; depth++) {
+            p = compareNodes(target, p) < 0 ? p.left : p.right;
+        }
+        return depth;
+    }
+
+    /** Returns System.nanoTime() if statistics are enabled, for timing work that grows the table. */
+    private long resizeTimerStart() {
+        return recorder == null ? 0L : System.nanoTime();
+    }
+
+    private void resizeTimerStop(long start) {
+        if (recorder != null) {
+            recorder.resizeNanos += System.nanoTime() - start;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Robin Hood layout
+    // -------------------------------------------------------------------------
+
+    /** Replaces the null key by its stand-in so that null can mark empty slots. */
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    /**
+     * Computes the hash used by the Robin Hood layout. Linear probing is far more sensitive than chaining to runs of
+     * nearby hash codes (such as those of "key0", "key1", ...), so the strategy's hash is scrambled with a Fibonacci
+     * multiplier before the usual spread.
+     */
+    private int robinHoodHash(Object key) {
+        return spread(hashStrategy.hash(key) * 0x9E3779B9);
+    }
+
+    /**
+     * Returns the slot holding the given key, or -1 if the key is absent. The probe stops as soon as it meets an
+     * entry closer to its home slot than the searched key would be, since Robin Hood insertion would have placed
+     * the key before such an entry.
+     */
+    private int robinHoodFind(Object key) {
+        int hash = robinHoodHash(key);
+        Object k = maskNull(key);
+        int mask = slotKeys.length - 1;
+        int index = hash & mask;
+        for (int dist = 0; ; dist++) {
+            Object slotKey = slotKeys[index];
+            if (slotKey == null || ((index - (slotHashes[index] & mask)) & mask) < dist) {
+                return -1;
+            }
+            if (slotHashes[index] == hash && (slotKey == k || k.equals(slotKey))) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /** Robin Hood counterpart of put. */
+    @SuppressWarnings("unchecked")
+    private V robinHoodPut(K key, V value) {
+        int slot = robinHoodFind(key);
+        if (slot >= 0) {
+            V oldValue = (V) slotValues[slot];
+            slotValues[slot] = value;
+            return oldValue;
+        }
+        robinHoodInsert(robinHoodHash(key), maskNull(key), value);
+        size++;
+        modCount++;
+        if (size > threshold) {
+            resize();
+        }
+        return null;
+    }
+
+    /**
+     * Inserts an entry known to be absent. Walking from the home slot, the entry swaps places with the first entry
+     * that is closer to its own home slot, and the displaced entry continues the walk, until an empty slot is found.
+     */
+    private void robinHoodInsert(int hash, Object key, Object value) {
+        int mask = slotKeys.length - 1;
+        int index = hash & mask;
+        int dist = 0;
+        while (slotKeys[index] != null) {
+            int slotDist = (index - (slotHashes[index] & mask)) & mask;
+            if (slotDist < dist) {
+                Object displacedKey = slotKeys[index];
+                Object displacedValue = slotValues[index];
+                int displacedHash = slotHashes[index];
+                slotKeys[index] = key;
+                slotValues[index] = value;
+                slotHashes[index] = hash;
+                key = displacedKey;
+                value = displacedValue;
+                hash = displacedHash;
+                dist = slotDist;
+            }
+            index = (index + 1) & mask;
+            dist++;
+        }
+        slotKeys[index] = key;
+        slotValues[index] = value;
+        slotHashes[index] = hash;
+    }
+
+    /** Robin Hood counterpart of remove, using backward-shift deletion instead of tombstones. */
+    @SuppressWarnings("unchecked")
+    private V robinHoodRemove(Object key) {
+        int index = robinHoodFind(key);
+        if (index < 0) {
+            return null;
+        }
+        V oldValue = (V) slotValues[index];
+        int mask = slotKeys.length - 1;
+        int next = (index + 1) & mask;
+        // Shift following entries back by one until an empty slot or an entry already at its home slot
+        while (slotKeys[next] != null && ((next - (slotHashes[next] & mask)) & mask) != 0) {
+            slotKeys[index] = slotKeys[next];
+            slotValues[index] = slotValues[next];
+            slotHashes[index] = slotHashes[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        slotKeys[index] = null;
+        slotValues[index] = null; // help garbage collection
+        size--;
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Grows the slot arrays to the given power-of-two capacity and reinserts all existing entries.
+     */
+    private void robinHoodResize(int newCapacity) {
+        if (recorder != null) {
+            recorder.resizes++;
+        }
+        long start = resizeTimerStart();
+        Object[] oldKeys = slotKeys;
+        Object[] oldValues = slotValues;
+        int[] oldHashes = slotHashes;
+        slotKeys = new Object[newCapacity];
+        slotValues = new Object[newCapacity];
+        slotHashes = new int[newCapacity];
+        threshold = (int) (newCapacity * loadFactor);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                robinHoodInsert(oldHashes[i], oldKeys[i], oldValues[i]);
+            }
+        }
+        resizeTimerStop(start);
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) {
+        HashMap<String, Integer> map = new HashMap<>();
+
+        System.out.println("Putting entries:");
+        map.put("apple", 1);
+        map.put("banana", 2);
+        map.put("cherry", 3);
+        System.out.println("Size after inserts: " + map.size()); // 3
+
+        System.out.println("\nRetrieving values:");
+        System.out.println("apple -> " + map.get("apple"));   // 1
+        System.out.println("banana -> " + map.get("banana")); // 2
+        System.out.println("grape -> " + map.get("grape"));   // null
+
+        System.out.println("\nUpdating 'banana' to 20:");
+        map.put("banana", 20);
+        System.out.println("banana -> " + map.get("banana")); // 20
+
+        System.out.println("\nContains key 'cherry'? " + map.containsKey("cherry")); // true
+        System.out.println("Contains key 'date'? " + map.containsKey("date"));       // false
+
+        System.out.println("\nRemoving 'apple':");
+        System.out.println("Removed value: " + map.remove("apple")); // 1
+        System.out.println("Contains key 'apple'? " + map.containsKey("apple"));    // false
+        System.out.println("Size after removal: " + map.size());                     // 2
+
+        System.out.println("\nIterating over keys and values:");
+        for (String key : map.keys()) {
+            System.out.println(key + " => " + map.get(key));
+        }
+
+        System.out.println("\nFilling map to trigger resize:");
+        for (int i = 0; i < 20; i++) {
+            map.put("key" + i, i);
+        }
+        System.out.println("Size after bulk insert: " + map.size()); // 22 (2 existing + 20 new)
+        System.out.println("Capacity after resize (approx): " + map.table.length);
+        System.out.println("Probe stats: " + map.probeStats());
+
+        System.out.println("\nScanning in place:");
+        long[] total = {0};
+        map.forEach((key, value) -> total[0] += value);
+        System.out.println("Sum of values via forEach: " + total[0]); // 213
+        int keyCount = 0;
+        for (Iterator<String> it = map.keyIterator(); it.hasNext(); it.next()) {
+            keyCount++;
+        }
+        System.out.println("Keys via keyIterator: " + keyCount);     // 22
+        long parallelCount = java.util.stream.StreamSupport.stream(map.keySpliterator(), true)
+                .filter(key -> key.startsWith("key")).count();
+        System.out.println("Keys starting with 'key' (parallel stream): " + parallelCount); // 20
+
+        System.out.println("\nBatch operations:");
+        HashMap<String, Integer> batch = new HashMap<>();
+        batch.putAll(new String[]{"x", "y", "z"}, new Integer[]{24, 25, 26});
+        batch.putAll(map);
+        Integer[] found = new Integer[3];
+        int hits = batch.getAll(new String[]{"x", "key3", "nope"}, found);
+        System.out.println("getAll(x, key3, nope) -> " + Arrays.toString(found) + ", " + hits + " found"); // [24, 3, null]
+        Iterator<String> stale = batch.keyIterator();
+        batch.ensureCapacity(10_000);
+        try {
+            stale.next();
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Iterator after ensureCapacity: ConcurrentModificationException");
+        }
+
+        System.out.println("\nSame entries in the Robin Hood layout:");
+        HashMap<String, Integer> robinHood = new HashMap<>(16, 0.75f, Layout.ROBIN_HOOD);
+        for (String key : map.keys()) {
+            robinHood.put(key, map.get(key));
+        }
+        System.out.println("key7 -> " + robinHood.get("key7"));               // 7
+        System.out.println("Removed 'cherry': " + robinHood.remove("cherry")); // 3
+        System.out.println("Size: " + robinHood.size());                      // 21
+        System.out.println("Probe stats: " + robinHood.probeStats());
+
+        System.out.println("\nStatistics:");
+        HashMap<String, Integer> observed = new HashMap<>(4);
+        observed.enableStatistics();
+        for (int i = 0; i < 100; i++) {
+            observed.put("key" + i, i);
+        }
+        for (int i = 0; i < 200; i++) {
+            observed.get("key" + i); // half of these miss
+        }
+        System.out.println(observed.statistics()); // resizes=6, gets=200, missRatio=0.500
+
+        System.out.println("\nClearing map:");
+        map.clear();
+        System.out.println("Size after clear: " + map.size()); // 0
+        System.out.println("Is empty? " + map.isEmpty());     // true
+    }
+}
+```
+
+---
+
+### Explanation of Key Points
+
+1. **Generic Type Parameters `<K, V>`**
+   We allow any object types for keys and values. Keys must correctly implement `hashCode()` and `equals()` so that different instances that should be treated as the same key do actually collide/compare equal.
+
+2. **Buckets & Separate Chaining**
+   Internally, we use an array of `Node<K, V>[] table`. Each entry in that array is the head of a singly linked list (chain) of `Node<K, V>`. If two keys hash to the same bucket index, they are stored in that bucket’s linked list.
+
+3. **Hash Computation & Indexing**
+   We compute an integer `hash` from `key.hashCode()`, then “spread” its bits via `h ^ (h >>> 16)` (borrowed from Java’s own HashMap) to reduce clustering. The actual bucket index is `hash & (table.length – 1)`. Because `table.length` is always a power of two, the bitmask operation efficiently maps the hash onto the correct range `[0, table.length - 1]`.
+
+4. **Load Factor & Resizing**
+
+   * We track `size` (number of key-value pairs) and `threshold` = `capacity * loadFactor`.
+   * Whenever `size > threshold`, we “resize”—double the bucket array’s length and rehash all existing nodes into the new table.
+   * By default, `loadFactor = 0.75`. You can override this in the constructor if you want a different threshold.
+
+5. **Put / Get / Remove**
+
+   * **put(K key, V value):** Compute `hash(key)`, find bucket index, traverse that list to see if the key already exists (if so, replace its value). Otherwise, insert a new `Node` at the head of the list. Increment `size` and, if necessary, call `resize()`. Returns the old value if replaced, or `null` if it was a new key.
+   * **get(Object key):** Compute hash and bucket index, then traverse that bucket’s list to find a matching key. Return the associated value, or `null` if not found.
+   * **remove(Object key):** Similarly locate the node; if found, unlink it from the list, decrement `size`, and return its old value. If not found, return `null`.
+   * **containsKey(Object key):** Just calls `get(key)` and checks for non-`null`.
+
+6. **Utility Methods**
+
+   * **size()**, **isEmpty()**, **clear()** (nulls out all buckets but keeps the same capacity), **keys()**, and **values()**.
+   * `keys()` and `values()` gather all entries in arbitrary order by scanning every bucket’s linked list.
 
 7. **Amortized Complexity**
 
-   * Thanks to resizing, the average cost of `put`, `get`, and `remove` remains $O(1)$. In the worst case (all keys collide), each operation degrades to $O(n)$, but with a good hash function and load factor, that rarely happens.
+   * Thanks to resizing, the average cost of `put`, `get`, and `remove` remains $O(1)$. In the worst case (all keys collide), each operation degrades to $O(\log n)$ once the bucket is treeified (see below), or $O(n)$ if the colliding keys are not mutually `Comparable`.
+
+8. **Robin Hood Layout**
+
+   * `new HashMap<>(capacity, loadFactor, HashMap.Layout.ROBIN_HOOD)` keeps the same public API but stores entries in parallel `slotKeys`/`slotValues`/`slotHashes` arrays instead of `Node` chains.
+   * On insert, an entry that has travelled further from its home slot takes the place of one that is closer to home; lookups can stop early, and removal shifts the following entries back instead of leaving tombstones.
+   * `probeStats()` reports the probe-length distribution of either layout so the two can be compared on real key distributions.
+
+9. **Treeified Buckets**
+
+   * When a bucket's chain reaches `TREEIFY_THRESHOLD` (8) entries in a table of at least `MIN_TREEIFY_CAPACITY` (64) buckets, its nodes are replaced by `TreeNode`s forming an AVL tree ordered by hash, key class and natural order (a smaller table is simply resized instead).
+   * The tree nodes stay linked through `next`, with the root first, so `keys()`, `values()` and `resize()` still walk plain lists.
+   * `resize()` splits a tree in two and `remove()` shrinks it; either converts the bucket back into a list at `UNTREEIFY_THRESHOLD` (6) entries or fewer.
+
+10. **Incremental Resizing**
+
+   * `new HashMap<>(capacity, loadFactor, HashMap.Layout.CHAINED, HashMap.ResizePolicy.INCREMENTAL)` spreads each rehash over later operations instead of doing it all inside the `put` that crossed `threshold`.
+   * `resize()` only allocates the doubled table; the previous one is kept in `oldTable`, and every `put`, `get` and `remove` migrates `MIGRATION_STEP` buckets (plus, for `put`/`remove`, the bucket it is about to modify).
+   * `get` looks in `oldTable` while the key's old bucket is not yet migrated; whole-table scans such as `keys()` simply finish the migration first.
+
+11. **In-Place Iteration**
+
+   * `keys()` and `values()` copy into a new `List`; `keyIterator()`, `valueIterator()` and `forEach(BiConsumer)` walk the table directly and allocate nothing per entry.
+   * `keySpliterator()` and `valueSpliterator()` split by bucket (or slot) range, so `StreamSupport.stream(map.keySpliterator(), true)` scans the map on several threads.
+   * Every put of a new key, every remove and every resize bumps `modCount`; iterators and spliterators compare it on each step and throw `ConcurrentModificationException` if the map was structurally modified under them.
+
+12. **Batch Operations**
+
+   * `ensureCapacity(expectedSize)` grows the table to its final size in one rehash instead of doubling repeatedly; `putAll(HashMap)` and `putAll(K[], V[])` call it for the combined size before inserting.
+   * `getAll(keys, out)` resolves a batch of keys in one call; during an incremental resize it takes one migration step for the whole batch and reads unmigrated buckets from `oldTable`, like `get`.
+
+13. **Hash Strategies**
+
+   * The last constructor takes a `HashStrategy` that turns keys into hashes: `IDENTITY` (raw `hashCode()`), `SPREAD` (the default `h ^ (h >>> 16)`), `MURMUR3` (the murmur3 `fmix32` finalizer) or `HashStrategy.seeded()`.
+   * A seeded strategy draws a random seed per instance and hashes `String` contents with seeded murmur3, so clients cannot precompute keys that share a bucket, not even keys with equal `hashCode()`s such as `"Aa"` and `"BB"`.
+   * The Robin Hood layout still scrambles the strategy's hash with its Fibonacci multiplier, since linear probing needs well-spread home slots.
+
+14. **Statistics**
+
+   * `enableStatistics()` starts counting resizes (and the time spent in them, incremental steps included), gets, entries compared per get and misses; `statistics()` returns a snapshot with those counters plus a chain-length histogram of the current table.
+   * While disabled (the default) the counters are a `null` field, so `get` pays a single null check; taking a snapshot does not complete an incremental resize.
+   * A long tail in the histogram or a high average probe count suggests a lower load factor or a different hash strategy; frequent resizes suggest a larger initial capacity.
 
-8. **Example `main(...)`**
+15. **Example `main(...)`**
    Demonstrates basic insertion, lookup, update, removal, iteration over keys, bulk insertion (triggering a resize), and clearing.
 
 You can place this file as `HashMap.java` in your `data_structures/` directory. It compiles under Java 8+ (or any modern Java release). From other classes, simply do:
@@ -0,0 +1,630 @@
+package data_structures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public class HashMapBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /** Keeps results alive so the JIT cannot eliminate the measured loops. */
+    private static long sink;
+
+    private static void report(String label, int ops, long nanos) {
+        System.out.printf("  %-40s %8.2f ns/op%n", label, (double) nanos / ops);
+    }
+
+    private static long time(Runnable body) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            body.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            body.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static void benchIntKeys(int n) {
+        int[] keys = new Random(42).ints(n).toArray();
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("int keys, n = " + n);
+        System.out.println("*********************");
+
+        report("HashMap<Integer,Integer>.put", n, time(() -> {
+            HashMap<Integer, Integer> map = new HashMap<>();
+            for (int k : keys) {
+                map.put(k, k);
+            }
+            sink += map.size();
+        }));
+        report("IntIntHashMap.put", n, time(() -> {
+            IntIntHashMap map = new IntIntHashMap();
+            for (int k : keys) {
+                map.put(k, k);
+            }
+            sink += map.size();
+        }));
+
+        HashMap<Integer, Integer> boxed = new HashMap<>();
+        IntIntHashMap primitive = new IntIntHashMap();
+        for (int k : keys) {
+            boxed.put(k, k);
+            primitive.put(k, k);
+        }
+        report("HashMap<Integer,Integer>.get", n, time(() -> {
+            long sum = 0;
+            for (int k : keys) {
+                sum += boxed.get(k);
+            }
+            sink += sum;
+        }));
+        report("IntIntHashMap.get", n, time(() -> {
+            long sum = 0;
+            for (int k : keys) {
+                sum += primitive.get(k);
+            }
+            sink += sum;
+        }));
+    }
+
+    private static void benchLongKeys(int n) {
+        long[] keys = new Random(42).longs(n).toArray();
+        String value = "value";
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("long keys, n = " + n);
+        System.out.println("*********************");
+
+        report("HashMap<Long,String>.put", n, time(() -> {
+            HashMap<Long, String> map = new HashMap<>();
+            for (long k : keys) {
+                map.put(k, value);
+            }
+            sink += map.size();
+        }));
+        report("LongObjectHashMap.put", n, time(() -> {
+            LongObjectHashMap<String> map = new LongObjectHashMap<>();
+            for (long k : keys) {
+                map.put(k, value);
+            }
+            sink += map.size();
+        }));
+
+        HashMap<Long, String> boxed = new HashMap<>();
+        LongObjectHashMap<String> primitive = new LongObjectHashMap<>();
+        for (long k : keys) {
+            boxed.put(k, value);
+            primitive.put(k, value);
+        }
+        report("HashMap<Long,String>.get", n, time(() -> {
+            long hits = 0;
+            for (long k : keys) {
+                if (boxed.get(k) != null) {
+                    hits++;
+                }
+            }
+            sink += hits;
+        }));
+        report("LongObjectHashMap.get", n, time(() -> {
+            long hits = 0;
+            for (long k : keys) {
+                if (primitive.get(k) != null) {
+                    hits++;
+                }
+            }
+            sink += hits;
+        }));
+    }
+
+    private static <K> void benchLayout(String distribution, K[] keys) {
+        int n = keys.length;
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Layouts, " + distribution + " keys, n = " + n);
+        System.out.println("*********************");
+
+        for (HashMap.Layout layout : HashMap.Layout.values()) {
+            report(layout + " put", n, time(() -> {
+                HashMap<K, K> map = new HashMap<>(16, 0.75f, layout);
+                for (K k : keys) {
+                    map.put(k, k);
+                }
+                sink += map.size();
+            }));
+
+            HashMap<K, K> map = new HashMap<>(16, 0.75f, layout);
+            for (K k : keys) {
+                map.put(k, k);
+            }
+            report(layout + " get", n, time(() -> {
+                long hits = 0;
+                for (K k : keys) {
+                    if (map.get(k) != null) {
+                        hits++;
+                    }
+                }
+                sink += hits;
+            }));
+            HashMap.ProbeStats stats = map.probeStats();
+            System.out.printf("  %-40s avg %.3f, max %d%n", layout + " probe length", stats.averageProbeLength(),
+                    stats.maxProbeLength());
+        }
+    }
+
+    /** Builds 2^blocks distinct strings that all share one hashCode, since "Aa" and "BB" hash alike. */
+    private static String[] collidingStrings(int blocks) {
+        String[] keys = {""};
+        for (int b = 0; b < blocks; b++) {
+            String[] next = new String[keys.length * 2];
+            for (int i = 0; i < keys.length; i++) {
+                next[2 * i] = keys[i] + "Aa";
+                next[2 * i + 1] = keys[i] + "BB";
+            }
+            keys = next;
+        }
+        return keys;
+    }
+
+    private static void benchCollisions() {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("All keys in one bucket (treeified), get cost as the bucket grows");
+        System.out.println("*********************");
+
+        for (int blocks = 8; blocks <= 16; blocks += 2) {
+            String[] keys = collidingStrings(blocks);
+            HashMap<String, String> map = new HashMap<>();
+            for (String k : keys) {
+                map.put(k, k);
+            }
+            report("get, " + keys.length + " colliding keys", keys.length, time(() -> {
+                long hits = 0;
+                for (String k : keys) {
+                    if (map.get(k) != null) {
+                        hits++;
+                    }
+                }
+                sink += hits;
+            }));
+        }
+    }
+
+    private static void benchPutLatency(int n) {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Per-put latency while filling to " + n + " entries");
+        System.out.println("*********************");
+
+        for (HashMap.ResizePolicy policy : HashMap.ResizePolicy.values()) {
+            long[] latencies = new long[n];
+            for (int round = 0; round < WARMUP_ROUNDS + 1; round++) {
+                HashMap<Integer, Integer> map = new HashMap<>(16, 0.75f, HashMap.Layout.CHAINED, policy);
+                for (int i = 0; i < n; i++) {
+                    Integer key = i;
+                    long start = System.nanoTime();
+                    map.put(key, key);
+                    latencies[i] = System.nanoTime() - start;
+                }
+                sink += map.size();
+            }
+            Arrays.sort(latencies);
+            System.out.printf("  %-12s p50 %6d ns  p99 %6d ns  p99.9 %8d ns  max %10d ns%n", policy,
+                    latencies[n / 2], latencies[(int) (n * 0.99)], latencies[(int) (n * 0.999)], latencies[n - 1]);
+        }
+    }
+
+    private static void benchScan(int n) {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Full scans of " + n + " entries");
+        System.out.println("*********************");
+
+        HashMap<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            map.put(i, i);
+        }
+        report("values() copy", n, time(() -> {
+            long sum = 0;
+            for (Integer v : map.values()) {
+                sum += v;
+            }
+            sink += sum;
+        }));
+        report("valueIterator()", n, time(() -> {
+            long sum = 0;
+            for (Iterator<Integer> it = map.valueIterator(); it.hasNext(); ) {
+                sum += it.next();
+            }
+            sink += sum;
+        }));
+        report("forEach(BiConsumer)", n, time(() -> {
+            long[] sum = {0};
+            map.forEach((k, v) -> sum[0] += v);
+            sink += sum[0];
+        }));
+        report("valueSpliterator(), sequential stream", n, time(() ->
+                sink += StreamSupport.stream(map.valueSpliterator(), false).mapToLong(Integer::longValue).sum()));
+        report("valueSpliterator(), parallel stream", n, time(() ->
+                sink += StreamSupport.stream(map.valueSpliterator(), true).mapToLong(Integer::longValue).sum()));
+    }
+
+    private static void benchBatch(int n) {
+        Integer[] keys = new Random(42).ints(n).boxed().toArray(Integer[]::new);
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Batch vs one-at-a-time, n = " + n);
+        System.out.println("*********************");
+
+        report("put loop", n, time(() -> {
+            HashMap<Integer, Integer> map = new HashMap<>();
+            for (Integer k : keys) {
+                map.put(k, k);
+            }
+            sink += map.size();
+        }));
+        report("putAll(K[], V[])", n, time(() -> {
+            HashMap<Integer, Integer> map = new HashMap<>();
+            map.putAll(keys, keys);
+            sink += map.size();
+        }));
+
+        HashMap<Integer, Integer> map = new HashMap<>();
+        map.putAll(keys, keys);
+        for (int batch : new int[]{16, 256, 4096}) {
+            Integer[][] batches = new Integer[n / batch][];
+            Random random = new Random(7);
+            for (int b = 0; b < batches.length; b++) {
+                batches[b] = new Integer[batch];
+                for (int i = 0; i < batch; i++) {
+                    batches[b][i] = keys[random.nextInt(n)];
+                }
+            }
+            int ops = batches.length * batch;
+            Integer[] out = new Integer[batch];
+            // Both variants store the values into out, as a caller collecting a batch of results would
+            report("get loop, batches of " + batch, ops, time(() -> {
+                long hits = 0;
+                for (Integer[] lookups : batches) {
+                    for (int i = 0; i < batch; i++) {
+                        out[i] = map.get(lookups[i]);
+                        if (out[i] != null) {
+                            hits++;
+                        }
+                    }
+                }
+                sink += hits;
+            }));
+            report("getAll, batches of " + batch, ops, time(() -> {
+                long hits = 0;
+                for (Integer[] lookups : batches) {
+                    hits += map.getAll(lookups, out);
+                }
+                sink += hits;
+            }));
+        }
+    }
+
+    private static void benchStatistics(int n) {
+        Integer[] keys = new Random(42).ints(n).boxed().toArray(Integer[]::new);
+        Integer[] lookups = new Integer[n];
+        Random random = new Random(7);
+        for (int i = 0; i < n; i++) {
+            // Three hits for every miss
+            lookups[i] = random.nextInt(4) == 0 ? random.nextInt() : keys[random.nextInt(n)];
+        }
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Statistics overhead and snapshots, n = " + n);
+        System.out.println("*********************");
+
+        HashMap<Integer, Integer> map = new HashMap<>();
+        map.putAll(keys, keys);
+        Runnable gets = () -> {
+            long hits = 0;
+            for (Integer k : lookups) {
+                if (map.get(k) != null) {
+                    hits++;
+                }
+            }
+            sink += hits;
+        };
+        report("get, statistics disabled", n, time(gets));
+        map.enableStatistics();
+        report("get, statistics enabled", n, time(gets));
+        System.out.printf("  %-40s %8.2f ms%n", "statistics() snapshot",
+                time(() -> sink += map.statistics().size()) / 1e6);
+
+        for (float loadFactor : new float[]{0.5f, 0.75f, 1.0f, 2.0f}) {
+            HashMap<Integer, Integer> loaded = new HashMap<>(16, loadFactor);
+            loaded.enableStatistics();
+            for (Integer k : keys) {
+                loaded.put(k, k);
+            }
+            for (Integer k : lookups) {
+                sink += loaded.containsKey(k) ? 1 : 0;
+            }
+            HashMap.Statistics stats = loaded.statistics();
+            System.out.printf("load factor %.2f: resizes %d (%.1f ms), %.2f probes/get, chain lengths %s%n",
+                    loadFactor, stats.resizeCount(), stats.resizeNanos() / 1e6, stats.averageProbesPerGet(),
+                    Arrays.toString(stats.chainLengthHistogram()));
+        }
+    }
+
+    private static <K> void benchHashStrategies(String distribution, K[] keys) {
+        int n = keys.length;
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Hash strategies, " + distribution + " keys, n = " + n);
+        System.out.println("*********************");
+
+        HashStrategy[] strategies = {HashStrategy.IDENTITY, HashStrategy.SPREAD, HashStrategy.MURMUR3,
+                HashStrategy.seeded()};
+        for (HashStrategy strategy : strategies) {
+            String name = strategy.toString().startsWith("seeded") ? "SEEDED" : strategy.toString();
+            HashMap<K, K> map = new HashMap<>(16, 0.75f, HashMap.Layout.CHAINED, HashMap.ResizePolicy.EAGER, strategy);
+            for (K k : keys) {
+                map.put(k, k);
+            }
+            report(name + " get", n, time(() -> {
+                long hits = 0;
+                for (K k : keys) {
+                    if (map.get(k) != null) {
+                        hits++;
+                    }
+                }
+                sink += hits;
+            }));
+            HashMap.ProbeStats stats = map.probeStats();
+            long[] histogram = stats.histogram();
+            System.out.printf("  %-40s avg %.3f, max %d, first buckets %s%n", name + " chain length",
+                    stats.averageProbeLength(), stats.maxProbeLength(),
+                    Arrays.toString(Arrays.copyOf(histogram, Math.min(6, histogram.length))));
+        }
+    }
+
+    /** Resident set size of this process in kB, read from /proc/self/status, or -1 where that is unavailable. */
+    private static long residentKilobytes() {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // not Linux
+        }
+        return -1;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void writeLong(byte[] bytes, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static void benchOffHeap(int n) throws IOException {
+        long[] keys = new Random(42).longs(n).toArray();
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("On-heap HashMap<Long,Long> vs off-heap MappedHashMap (8-byte keys and values), n = " + n);
+        System.out.println("*********************");
+
+        Path file = Files.createTempFile("mapped-hash-map-bench", ".bin");
+        try {
+            report("MappedHashMap.put", n, time(() -> {
+                try {
+                    Files.deleteIfExists(file);
+                    try (MappedHashMap map = new MappedHashMap(file, 8, 8)) {
+                        byte[] key = new byte[8];
+                        for (long k : keys) {
+                            writeLong(key, k);
+                            map.put(key, key);
+                        }
+                        sink += map.size();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+            report("HashMap<Long,Long>.put", n, time(() -> {
+                HashMap<Long, Long> map = new HashMap<>();
+                for (long k : keys) {
+                    map.put(k, k);
+                }
+                sink += map.size();
+            }));
+
+            long heapBefore = usedHeap();
+            long rssBefore = residentKilobytes();
+            try (MappedHashMap mapped = new MappedHashMap(file, 8, 8)) {
+                report("MappedHashMap.get", n, time(() -> {
+                    byte[] key = new byte[8];
+                    byte[] value = new byte[8];
+                    long hits = 0;
+                    for (long k : keys) {
+                        writeLong(key, k);
+                        if (mapped.get(key, value)) {
+                            hits++;
+                        }
+                    }
+                    sink += hits;
+                }));
+                System.out.printf("  %-40s heap +%,d kB, RSS +%,d kB%n", "MappedHashMap footprint",
+                        (usedHeap() - heapBefore) / 1024, residentKilobytes() - rssBefore);
+            }
+
+            heapBefore = usedHeap();
+            rssBefore = residentKilobytes();
+            HashMap<Long, Long> boxed = new HashMap<>();
+            for (long k : keys) {
+                boxed.put(k, k);
+            }
+            report("HashMap<Long,Long>.get", n, time(() -> {
+                long hits = 0;
+                for (long k : keys) {
+                    if (boxed.get(k) != null) {
+                        hits++;
+                    }
+                }
+                sink += hits;
+            }));
+            System.out.printf("  %-40s heap +%,d kB, RSS +%,d kB%n", "HashMap footprint",
+                    (usedHeap() - heapBefore) / 1024, residentKilobytes() - rssBefore);
+            sink += boxed.size();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /** The operations the concurrent benchmark needs, so both maps can run the same workload. */
+    private interface SharedMap {
+        Integer get(Integer key);
+
+        void put(Integer key, Integer value);
+    }
+
+    /** Runs totalOps operations (90% get, 10% put) split across the given number of threads; returns elapsed nanos. */
+    private static long runThreads(SharedMap map, int threads, int totalOps, int keyRange) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        int opsPerThread = totalOps / threads;
+        long[] hits = new long[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            Thread worker = new Thread(() -> {
+                Random random = new Random(id);
+                long found = 0;
+                try {
+                    start.await();
+                    for (int i = 0; i < opsPerThread; i++) {
+                        Integer key = random.nextInt(keyRange);
+                        if (random.nextInt(10) == 0) {
+                            map.put(key, i);
+                        } else if (map.get(key) != null) {
+                            found++;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                hits[id] = found;
+                done.countDown();
+            });
+            worker.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        for (long h : hits) {
+            sink += h;
+        }
+        return elapsed;
+    }
+
+    private static void benchConcurrent(int n) throws InterruptedException {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Concurrent throughput, 90% get / 10% put, " + n + " ops over " + (n / 4) + " keys");
+        System.out.println("*********************");
+
+        int keyRange = Math.max(1, n / 4);
+        for (int threads : new int[]{1, 4, 16, 64}) {
+            long lockedBest = Long.MAX_VALUE;
+            long concurrentBest = Long.MAX_VALUE;
+            for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                HashMap<Integer, Integer> plain = new HashMap<>();
+                Object lock = new Object();
+                long locked = runThreads(new SharedMap() {
+                    public Integer get(Integer key) {
+                        synchronized (lock) {
+                            return plain.get(key);
+                        }
+                    }
+
+                    public void put(Integer key, Integer value) {
+                        synchronized (lock) {
+                            plain.put(key, value);
+                        }
+                    }
+                }, threads, n, keyRange);
+
+                ConcurrentHashMap<Integer, Integer> concurrent = new ConcurrentHashMap<>();
+                long lockFree = runThreads(new SharedMap() {
+                    public Integer get(Integer key) {
+                        return concurrent.get(key);
+                    }
+
+                    public void put(Integer key, Integer value) {
+                        concurrent.put(key, value);
+                    }
+                }, threads, n, keyRange);
+
+                if (round >= WARMUP_ROUNDS) {
+                    lockedBest = Math.min(lockedBest, locked);
+                    concurrentBest = Math.min(concurrentBest, lockFree);
+                }
+            }
+            System.out.printf("  %2d threads  synchronized HashMap %8.2f Mops/s   ConcurrentHashMap %8.2f Mops/s%n",
+                    threads, n * 1e3 / lockedBest, n * 1e3 / concurrentBest);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        benchIntKeys(n);
+        benchLongKeys(n);
+
+        benchLayout("random int", new Random(42).ints(n).boxed().toArray(Integer[]::new));
+        benchLayout("sequential int", IntStream.range(0, n).boxed().toArray(Integer[]::new));
+        benchLayout("string", IntStream.range(0, n).mapToObj(i -> "key" + i).toArray(String[]::new));
+
+        benchCollisions();
+        benchPutLatency(n);
+        benchScan(n);
+        benchBatch(n);
+        benchStatistics(n);
+        benchHashStrategies("string", IntStream.range(0, n).mapToObj(i -> "user-" + i + "@example.com")
+                .toArray(String[]::new));
+        benchHashStrategies("random UUID", IntStream.range(0, n).mapToObj(i -> UUID.randomUUID())
+                .toArray(UUID[]::new));
+        benchHashStrategies("high-bit int", IntStream.range(0, n).mapToObj(i -> i << 12).toArray(Integer[]::new));
+        benchHashStrategies("colliding string", collidingStrings(12));
+        benchOffHeap(n);
+        benchConcurrent(n);
+
+        System.out.println();
+        System.out.println("(sink " + sink + ")");
+    }
+}
@@ -0,0 +1,136 @@
+```java
+package data_structures;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Turns a key into the 32-bit hash that {@link HashMap} and {@link Set} use to pick a bucket. The hash tables only
+ * look at the low bits of the result (hash & (capacity - 1)), so a strategy's job is to make those bits depend on
+ * every bit of the key.
+ *
+ * Implementations must return equal hashes for keys that are equal(), must accept null, and must always return the
+ * same hash for the same key.
+ *
+ *   Strategy        Cost            Notes
+ *   IDENTITY        none            hashCode() as is; keys that differ only in high bits share a bucket
+ *   SPREAD          1 shift/xor     the default; folds the high half into the low half
+ *   MURMUR3         5 mix steps     murmur3's fmix32 finalizer; every input bit affects every output bit
+ *   seeded()        O(key length)   hashes String contents with a random per-instance seed, so bucket collisions
+ *                                   cannot be precomputed (see below)
+ */
+public interface HashStrategy {
+
+    /**
+     * Computes the hash of the given key.
+     *
+     * @param key key to hash (may be null)
+     * @return the hash
+     */
+    int hash(Object key);
+
+    /** Uses hashCode() unchanged. Cheapest, but weak for hash codes whose low bits vary little. */
+    HashStrategy IDENTITY = new HashStrategy() {
+        @Override
+        public int hash(Object key) {
+            return key == null ? 0 : key.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "IDENTITY";
+        }
+    };
+
+    /** Spreads the high half of hashCode() into the low half, h ^ (h >>> 16). The default of HashMap and Set. */
+    HashStrategy SPREAD = new HashStrategy() {
+        @Override
+        public int hash(Object key) {
+            return key == null ? 0 : HashMap.spread(key.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return "SPREAD";
+        }
+    };
+
+    /** Applies the murmur3 finalizer (fmix32) to hashCode(), which avalanches every bit. */
+    HashStrategy MURMUR3 = new HashStrategy() {
+        @Override
+        public int hash(Object key) {
+            return key == null ? 0 : fmix32(key.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return "MURMUR3";
+        }
+    };
+
+    /**
+     * Returns a strategy with a freshly drawn random seed. See {@link #seeded(int)}.
+     *
+     * @return a seeded strategy
+     */
+    static HashStrategy seeded() {
+        return seeded(ThreadLocalRandom.current().nextInt());
+    }
+
+    /**
+     * Returns a strategy that mixes the given seed into every hash, so that which keys share a bucket differs
+     * between instances and cannot be worked out in advance by whoever supplies the keys.
+     *
+     * Strings are hashed from their characters with seeded murmur3, which also separates
+     * strings whose hashCode() is equal, such as "Aa" and "BB". Other keys are hashed as fmix32(hashCode() ^ seed):
+     * that defeats keys chosen to collide in the low bits, but keys with equal hashCode() still collide.
+     *
+     * @param seed seed mixed into every hash
+     * @return a seeded strategy
+     */
+    static HashStrategy seeded(int seed) {
+        return new HashStrategy() {
+            @Override
+            public int hash(Object key) {
+                if (key == null) {
+                    return 0;
+                }
+                if (key instanceof String) {
+                    return murmur3(seed, (String) key);
+                }
+                return fmix32(key.hashCode() ^ seed);
+            }
+
+            @Override
+            public String toString() {
+                return "seeded(" + seed + ")";
+            }
+        };
+    }
+
+    /** The murmur3 32-bit finalizer: a bijective mix in which every input bit affects every output bit. */
+    static int fmix32(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /** Seeded murmur3_32 over the UTF-16 code units of the sequence, two per 32-bit block. */
+    static int murmur3(int seed, CharSequence chars) {
+        int h = seed;
+        int length = chars.length();
+        for (int i = 1; i < length; i += 2) {
+            int k = (chars.charAt(i - 1) | (chars.charAt(i) << 16)) * 0xcc9e2d51;
+            h ^= Integer.rotateLeft(k, 15) * 0x1b873593;
+            h = Integer.rotateLeft(h, 13) * 5 + 0xe6546b64;
+        }
+        if ((length & 1) == 1) {
+            int k = chars.charAt(length - 1) * 0xcc9e2d51;
+            h ^= Integer.rotateLeft(k, 15) * 0x1b873593;
+        }
+        return fmix32(h ^ (2 * length));
+    }
+}
+```
@@ -0,0 +1,460 @@
+```java
+package data_structures;
+
+import java.util.function.Consumer;
+
+/**
+ * A list with the operations of {@link LinkedList} in which positional access, insertion and removal take O(log n)
+ * expected time instead of walking from the head.
+ *
+ * It is an indexable skip list: every element sits on the bottom level of linked nodes, and a random quarter of the
+ * nodes on each level are also linked on the level above, so the upper levels are express lanes that skip many
+ * elements at a time. Each link records its width, the number of bottom-level steps it spans; a search for position i
+ * follows a link only while the widths passed so far stay within i, descending a level when the next link would
+ * overshoot. Inserting or removing an element adjusts the widths of the one link per level that passes over it.
+ *
+ * Complexity (expected; the worst case of every positional operation is O(n) with negligible probability):
+ *
+ *   Operation        Expected
+ *   addFirst         O(log n)
+ *   addLast          O(log n)
+ *   removeFirst      O(log n)
+ *   removeLast       O(log n)
+ *   get(index)       O(log n)
+ *   set(index)       O(log n)
+ *   add(index)       O(log n)
+ *   removeAt(index)  O(log n)
+ *   contains/search  O(n)
+ *   remove(value)    O(n)
+ *   size             O(1)
+ *   isEmpty          O(1)
+ *
+ * Each node carries two small arrays, its links and their widths (4/3 entries each on average), so the list needs
+ * about three times the memory per element of LinkedList in exchange for the logarithmic positional operations.
+ *
+ * @param <T> the type of elements stored in the list
+ */
+public class IndexedSkipList<T> {
+    /** Number of levels; with one node in four promoted per level this covers any int-sized list. */
+    private static final int MAX_LEVEL = 16;
+
+    /**
+     * Inner class representing a node. next[l] is the following node on level l, and width[l] is the number of
+     * bottom-level steps from this node to next[l] (or to one past the last element when next[l] is null).
+     */
+    private static class Node<T> {
+        T data;
+        final Node<T>[] next;
+        final int[] width;
+
+        @SuppressWarnings("unchecked")
+        Node(T data, int levels) {
+            this.data = data;
+            this.next = (Node<T>[]) new Node[levels];
+            this.width = new int[levels];
+        }
+    }
+
+    /** Sentinel before the first element, linked on every level; it sits at position 0 and element i at i + 1. */
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    /** Number of levels currently in use (at least 1). */
+    private int level = 1;
+    /** Number of elements currently in the list. */
+    private int size;
+    /** State of the xorshift generator that picks node levels. */
+    private int seed = 0x2545F491;
+
+    // Scratch arrays for insert and remove: the last node visited on each level and its position. The node slots are
+    // cleared after use so that they do not keep removed nodes reachable.
+    @SuppressWarnings("unchecked")
+    private final Node<T>[] update = (Node<T>[]) new Node[MAX_LEVEL];
+    private final int[] updatePosition = new int[MAX_LEVEL];
+
+    /** Constructs an empty list. */
+    public IndexedSkipList() {
+        head.width[0] = 1;
+    }
+
+    /**
+     * Inserts an element at the front of the list.
+     *
+     * @param value the element to add
+     */
+    public void addFirst(T value) {
+        insert(0, value);
+    }
+
+    /**
+     * Inserts an element at the end of the list.
+     *
+     * @param value the element to add
+     */
+    public void addLast(T value) {
+        insert(size, value);
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * @return the removed element, or null if the list is empty
+     */
+    public T removeFirst() {
+        if (isEmpty()) {
+            return null;  // nothing to remove
+        }
+        return delete(0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * @return the removed element, or null if the list is empty
+     */
+    public T removeLast() {
+        if (isEmpty()) {
+            return null;
+        }
+        return delete(size - 1);
+    }
+
+    /**
+     * Returns (but does not remove) the first element.
+     *
+     * @return the first element, or null if empty
+     */
+    public T peekFirst() {
+        return isEmpty() ? null : head.next[0].data;
+    }
+
+    /**
+     * Returns (but does not remove) the last element.
+     *
+     * @return the last element, or null if empty
+     */
+    public T peekLast() {
+        return isEmpty() ? null : nodeAt(size - 1).data;
+    }
+
+    /**
+     * Returns true if the list contains the specified value.
+     *
+     * @param value the value to search for
+     * @return true if found, false otherwise
+     */
+    public boolean contains(T value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value,
+     * or -1 if the list does not contain the value.
+     *
+     * @param value the value to search for
+     * @return index of the value, or -1 if not found
+     */
+    public int indexOf(T value) {
+        Node<T> current = head.next[0];
+        int index = 0;
+        while (current != null) {
+            if (value == null ? current.data == null : value.equals(current.data)) {
+                return index;
+            }
+            current = current.next[0];
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the first occurrence of the specified value from the list.
+     *
+     * @param value the value to remove
+     * @return true if an element was removed, false if not found
+     */
+    public boolean remove(T value) {
+        int index = indexOf(value);
+        if (index == -1) {
+            return false;
+        }
+        delete(index);
+        return true;
+    }
+
+    /**
+     * Returns the element at the specified index (0-based).
+     *
+     * @param index 0-based position
+     * @return the element, or throws IndexOutOfBoundsException if index < 0 or >= size
+     */
+    public T get(int index) {
+        checkElementIndex(index);
+        return nodeAt(index).data;
+    }
+
+    /**
+     * Replaces the element at the specified index (0-based).
+     *
+     * @param index 0-based position
+     * @param value the element to store
+     * @return the element previously at that position
+     * @throws IndexOutOfBoundsException if index < 0 or index ≥ size
+     */
+    public T set(int index, T value) {
+        checkElementIndex(index);
+        Node<T> node = nodeAt(index);
+        T oldValue = node.data;
+        node.data = value;
+        return oldValue;
+    }
+
+    /**
+     * Inserts the specified value at the given index (0-based).
+     * Shifts the element currently at that position (if any) and any subsequent elements to the right.
+     *
+     * @param index 0-based position where to insert (0 ≤ index ≤ size)
+     * @param value the element to insert
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public void add(int index, T value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        insert(index, value);
+    }
+
+    /**
+     * Removes the element at the specified index and returns it.
+     *
+     * @param index 0-based position to remove (0 ≤ index < size)
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if index < 0 or index ≥ size
+     */
+    public T removeAt(int index) {
+        checkElementIndex(index);
+        return delete(index);
+    }
+
+    /**
+     * Performs the given action on every element in order.
+     *
+     * @param action action to perform on each element
+     * @throws NullPointerException if action is null
+     */
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException("Action must not be null");
+        }
+        for (Node<T> current = head.next[0]; current != null; current = current.next[0]) {
+            action.accept(current.data);
+        }
+    }
+
+    /** Returns the node holding the element at index, which must be in range. */
+    private Node<T> nodeAt(int index) {
+        int target = index + 1;
+        Node<T> current = head;
+        int position = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (current.next[l] != null && position + current.width[l] <= target) {
+                position += current.width[l];
+                current = current.next[l];
+            }
+            if (position == target) {
+                return current;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Fills update and updatePosition with, on each level in use, the last node before position index + 1 and its
+     * position.
+     */
+    private void findPredecessors(int index) {
+        Node<T> current = head;
+        int position = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (current.next[l] != null && position + current.width[l] <= index) {
+                position += current.width[l];
+                current = current.next[l];
+            }
+            update[l] = current;
+            updatePosition[l] = position;
+        }
+    }
+
+    /** Links a new node for value at index (0 ≤ index ≤ size). */
+    private void insert(int index, T value) {
+        findPredecessors(index);
+        int levels = randomLevel();
+        if (levels > level) {
+            // The head's link on a new level reaches past the last element
+            for (int l = level; l < levels; l++) {
+                update[l] = head;
+                updatePosition[l] = 0;
+                head.width[l] = size + 1;
+            }
+            level = levels;
+        }
+        Node<T> node = new Node<>(value, levels);
+        for (int l = 0; l < levels; l++) {
+            Node<T> before = update[l];
+            int stepsToNode = index + 1 - updatePosition[l];
+            node.next[l] = before.next[l];
+            node.width[l] = before.width[l] - stepsToNode + 1;
+            before.next[l] = node;
+            before.width[l] = stepsToNode;
+            update[l] = null;
+        }
+        for (int l = levels; l < level; l++) {
+            // Links above the new node now pass over one more element
+            update[l].width[l]++;
+            update[l] = null;
+        }
+        size++;
+    }
+
+    /** Unlinks the node at index (0 ≤ index < size) and returns its element. */
+    private T delete(int index) {
+        findPredecessors(index);
+        Node<T> node = update[0].next[0];
+        for (int l = 0; l < level; l++) {
+            Node<T> before = update[l];
+            if (before.next[l] == node) {
+                before.next[l] = node.next[l];
+                before.width[l] += node.width[l] - 1;
+            } else {
+                before.width[l]--;
+            }
+            update[l] = null;
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        T oldValue = node.data;
+        node.data = null; // help garbage collection
+        return oldValue;
+    }
+
+    /** Draws a level in [1, MAX_LEVEL], each level above the first with probability 1/4. */
+    private int randomLevel() {
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        return Math.min(1 + (Integer.numberOfTrailingZeros(x) >>> 1), MAX_LEVEL);
+    }
+
+    /** Helper to check if index is in [0, size-1]. */
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the current size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the list contains no elements.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements from the list. After calling this, size() returns 0.
+     */
+    public void clear() {
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            head.next[l] = null;
+            head.width[l] = 0;
+        }
+        head.width[0] = 1;
+        level = 1;
+        size = 0;
+    }
+
+    /**
+     * Returns a string representation of the list in the form [a, b, c, ...].
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        Node<T> current = head.next[0];
+        while (current != null) {
+            sb.append(current.data);
+            current = current.next[0];
+            if (current != null) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) {
+        IndexedSkipList<Integer> list = new IndexedSkipList<>();
+
+        System.out.println("Add at end: 10, 20, 30");
+        list.addLast(10);
+        list.addLast(20);
+        list.addLast(30);
+        System.out.println("List: " + list);        // [10, 20, 30]
+        System.out.println("Size: " + list.size()); // 3
+
+        System.out.println("\nAdd at front: 5");
+        list.addFirst(5);
+        System.out.println("List: " + list);        // [5, 10, 20, 30]
+
+        System.out.println("\nAdd at index 2: 15");
+        list.add(2, 15);
+        System.out.println("List: " + list);        // [5, 10, 15, 20, 30]
+
+        System.out.println("\nGet element at index 3: " + list.get(3)); // 20
+        System.out.println("Set index 3 to 25: replaced " + list.set(3, 25)); // 20
+        System.out.println("Index of 25: " + list.indexOf(25));          // 3
+
+        System.out.println("\nRemove first: " + list.removeFirst());      // 5
+        System.out.println("Remove last: " + list.removeLast());          // 30
+        System.out.println("Remove at index 1: " + list.removeAt(1));     // 15
+        System.out.println("List now: " + list);                           // [10, 25]
+
+        System.out.println("\nInsert 0 .. 99 999 at the middle, then read back");
+        for (int i = 0; i < 100_000; i++) {
+            list.add(list.size() / 2, i);
+        }
+        System.out.println("Size: " + list.size());                        // 100002
+        System.out.println("First: " + list.peekFirst());                  // 10
+        System.out.println("Last: " + list.peekLast());                    // 25
+        System.out.println("Get index 50 001: " + list.get(50_001));       // 99998
+
+        try {
+            list.get(list.size());
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println("get(size): " + e.getMessage());           // Index: 100002, Size: 100002
+        }
+
+        System.out.println("\nClear list");
+        list.clear();
+        System.out.println("List after clear: " + list); // []
+        System.out.println("Is empty? " + list.isEmpty()); // true
+    }
+}
+```
@@ -0,0 +1,357 @@
+```java
+package data_structures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A hash table specialized for primitive int keys and object values. Keys are never boxed and no per-entry Node
+ * objects are allocated: entries live in a key array and a parallel value array, and collisions are resolved with
+ * open addressing (linear probing). Deletion uses backward shifting, so no tombstones are left behind.
+ *
+ * The key 0 is used to mark empty slots, so its mapping (if any) is stored in dedicated fields next to the arrays.
+ *
+ * Complexity (assuming a good hash function and uniform distribution):
+ *
+ *   Algorithm   Average       Worst Case
+ *   Space       O(k)          O(k)          (where k = number of slots, a power of two)
+ *   get         O(1)          O(n)          (one long cluster of probed slots)
+ *   put         O(1)          O(n)
+ *   remove      O(1)          O(n)
+ *
+ * @param <V> type of values
+ */
+public class IntObjectHashMap<V> {
+    /** Default initial capacity (number of slots). Must be a power of two. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    /** Default load factor before resizing. */
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    /** Largest power-of-two capacity the arrays can grow to. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** Keys of the table; 0 marks an empty slot. */
+    private int[] keys;
+    /** Values of the table, stored at the same index as their key. */
+    private V[] values;
+    /** Whether the map holds a mapping for the key 0. */
+    private boolean hasZeroKey;
+    /** Value mapped to the key 0, valid only if hasZeroKey is set. */
+    private V zeroValue;
+    /** Current number of key-value mappings in this map. */
+    private int size;
+    /** The threshold at which to resize (capacity * loadFactor). */
+    private int threshold;
+    /** Load factor for deciding when to resize. */
+    private final float loadFactor;
+
+    /**
+     * Constructs an empty IntObjectHashMap with default initial capacity (16) and load factor (0.75).
+     */
+    public IntObjectHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty IntObjectHashMap with the specified initial capacity and default load factor (0.75).
+     *
+     * @param initialCapacity initial number of slots (will be rounded up to a power of two)
+     * @throws IllegalArgumentException if initialCapacity is non-positive
+     */
+    public IntObjectHashMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty IntObjectHashMap with the specified initial capacity and load factor.
+     *
+     * @param initialCapacity initial number of slots (will be rounded up to a power of two)
+     * @param loadFactor load factor threshold for resizing; must be below 1 so a free slot always exists
+     * @throws IllegalArgumentException if initialCapacity is non-positive or loadFactor is not in (0, 1)
+     */
+    @SuppressWarnings("unchecked")
+    public IntObjectHashMap(int initialCapacity, float loadFactor) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        if (loadFactor <= 0 || loadFactor >= 1 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1 (exclusive)");
+        }
+        int cap = Math.max(2, HashMap.tableSizeFor(initialCapacity));
+        this.loadFactor = loadFactor;
+        this.keys = new int[cap];
+        this.values = (V[]) new Object[cap];
+        this.threshold = (int) (cap * loadFactor);
+        this.size = 0;
+    }
+
+    /**
+     * Computes the hash for a given key. Linear probing is sensitive to clustered keys, so the key is scrambled
+     * with a Fibonacci multiplier before the usual spread.
+     */
+    private static int hash(int key) {
+        return HashMap.spread(key * 0x9E3779B9);
+    }
+
+    /**
+     * Puts the key-value pair into the map. If the key already exists, its value is replaced.
+     *
+     * @param key key to insert
+     * @param value value to associate with the key (may be null)
+     * @return the previous value associated with key, or null if none
+     */
+    public V put(int key, V value) {
+        if (key == 0) {
+            V oldValue = zeroValue;
+            zeroValue = value;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return oldValue;
+        }
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        // Probe until we find the key or an empty slot
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                V oldValue = values[index];
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        if (size > threshold) {
+            resize();
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the value associated with the given key.
+     *
+     * @param key key to look up
+     * @return the value if found, or null if not found
+     */
+    public V get(int key) {
+        if (key == 0) {
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    /**
+     * Removes the key (and its corresponding value) from this map if present.
+     *
+     * @param key key whose mapping is to be removed
+     * @return the previous value associated with key, or null if none
+     */
+    public V remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                return null;
+            }
+            V oldValue = zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            size--;
+            return oldValue;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V oldValue = values[index];
+        shiftKeys(index);
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Checks whether the map contains the specified key.
+     *
+     * @param key key whose presence is to be tested
+     * @return true if the map contains a mapping for the key
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns the number of key-value mappings in this map.
+     *
+     * @return current size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this map contains no key-value mappings.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all mappings from this map. The capacity remains unchanged.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    /**
+     * Returns an array of all keys in this map. Order is not guaranteed.
+     *
+     * @return array of keys
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int n = 0;
+        if (hasZeroKey) {
+            result[n++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a List of all values in this map. Order corresponds to keys() order.
+     *
+     * @return List of values
+     */
+    public List<V> values() {
+        List<V> valueList = new ArrayList<>(size);
+        if (hasZeroKey) {
+            valueList.add(zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                valueList.add(values[i]);
+            }
+        }
+        return valueList;
+    }
+
+    /**
+     * Returns the slot holding the given non-zero key, or -1 if the key is absent.
+     */
+    private int indexOf(int key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        int k;
+        while ((k = keys[index]) != 0) {
+            if (k == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Empties the given slot and shifts later entries of the same probe cluster back into the gap, so that every
+     * remaining key is still reachable from its home slot without tombstones.
+     */
+    private void shiftKeys(int pos) {
+        int mask = keys.length - 1;
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int k;
+            while (true) {
+                if ((k = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    values[last] = null; // help garbage collection
+                    return;
+                }
+                int home = hash(k) & mask;
+                // The entry may move into the gap only if its home slot is not cyclically within (last, pos]
+                if (last <= pos ? (last >= home || home > pos) : (last >= home && home > pos)) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = k;
+            values[last] = values[pos];
+        }
+    }
+
+    /**
+     * Doubles the capacity of the arrays and reinserts all existing entries.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize() {
+        int oldCapacity = keys.length;
+        if (oldCapacity == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("IntObjectHashMap cannot grow beyond " + MAXIMUM_CAPACITY + " slots");
+        }
+        int newCapacity = oldCapacity << 1; // double capacity
+        int[] oldKeys = keys;
+        V[] oldValues = values;
+        keys = new int[newCapacity];
+        values = (V[]) new Object[newCapacity];
+        threshold = (int) (newCapacity * loadFactor);
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldCapacity; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int index = hash(key) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+        System.out.println("Putting entries:");
+        map.put(7, "seven");
+        map.put(11, "eleven");
+        map.put(0, "zero");
+        System.out.println("Size after inserts: " + map.size()); // 3
+
+        System.out.println("\nRetrieving values:");
+        System.out.println("7 -> " + map.get(7));   // seven
+        System.out.println("0 -> " + map.get(0));   // zero
+        System.out.println("9 -> " + map.get(9));   // null
+
+        System.out.println("\nUpdating 11 to 'ELEVEN': previous = " + map.put(11, "ELEVEN")); // eleven
+        System.out.println("Removing 7: " + map.remove(7));                                   // seven
+        System.out.println("Values: " + map.values());
+
+        System.out.println("\nFilling map to trigger resize:");
+        for (int i = 1; i <= 100; i++) {
+            map.put(-i, "v" + i);
+        }
+        System.out.println("Size after bulk insert: " + map.size()); // 102
+        System.out.println("-42 -> " + map.get(-42));                // v42
+
+        System.out.println("\nClearing map:");
+        map.clear();
+        System.out.println("Is empty? " + map.isEmpty()); // true
+    }
+}
+```
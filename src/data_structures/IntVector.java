@@ -0,0 +1,337 @@
+```java
+package data_structures;
+
+import java.util.Arrays;
+
+/**
+ * A growable array specialized for primitive int elements. Unlike {@link Vector}, elements are stored unboxed in a
+ * single int[], so there is no Integer object per element and scans read contiguous memory.
+ *
+ * Complexity (amortized for resizable array):
+ *
+ *   Operation           Average        Worst Case
+ *   add(element)        O(1)           O(n)       (when resizing occurs)
+ *   add(index, element) O(n)           O(n)
+ *   addAll(int[])       O(m)           O(n + m)   (m = number of added elements)
+ *   remove(index)       O(n)           O(n)
+ *   get(index)          O(1)           O(1)
+ *   set(index, element) O(1)           O(1)
+ *   sort()              O(n log n)     O(n log n)
+ *   binarySearch        O(log n)       O(log n)
+ *   clear()             O(1)           O(1)       (no references to null out)
+ */
+public class IntVector implements Cloneable {
+    /** Default initial capacity of the underlying array. */
+    private static final int DEFAULT_CAPACITY = 10;
+    /** Underlying array storing the elements. */
+    private int[] elements;
+    /** Number of elements currently in the vector. */
+    private int size;
+
+    /**
+     * Constructs an empty IntVector with default initial capacity.
+     */
+    public IntVector() {
+        this.elements = new int[DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Constructs an empty IntVector with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the vector
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public IntVector(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must be non-negative: " + initialCapacity);
+        }
+        this.elements = new int[Math.max(initialCapacity, DEFAULT_CAPACITY)];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of elements in this vector.
+     *
+     * @return the size of the vector
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this vector contains no elements.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Ensures that the vector can hold at least the specified number of elements without further resizing.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = elements.length + (elements.length >> 1); // 1.5× growth
+            if (newCapacity < minCapacity) {
+                newCapacity = minCapacity;
+            }
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    /**
+     * Adds the specified element to the end of this vector.
+     *
+     * @param value the element to add
+     * @return true (as specified by Collection.add)
+     */
+    public boolean add(int value) {
+        if (size == elements.length) {
+            ensureCapacity(size + 1);
+        }
+        elements[size++] = value;
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this vector.
+     * Shifts the element currently at that position (if any) and any subsequent elements to the right.
+     *
+     * @param index index at which to insert the element (0 ≤ index ≤ size)
+     * @param value the element to insert
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public void add(int index, int value) {
+        rangeCheckForAdd(index);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    /**
+     * Appends all of the given values, growing the array at most once and copying them in one block.
+     *
+     * @param values the elements to add
+     * @throws NullPointerException if values is null
+     */
+    public void addAll(int[] values) {
+        if (values == null) {
+            throw new NullPointerException("Values must not be null");
+        }
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Returns the element at the specified position in this vector.
+     *
+     * @param index index of the element to return (0 ≤ index < size)
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int get(int index) {
+        rangeCheck(index);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at the specified position in this vector with the specified element.
+     *
+     * @param index index of the element to replace (0 ≤ index < size)
+     * @param value element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int set(int index, int value) {
+        rangeCheck(index);
+        int oldValue = elements[index];
+        elements[index] = value;
+        return oldValue;
+    }
+
+    /**
+     * Removes the element at the specified position in this vector. Shifts any subsequent elements to the left.
+     *
+     * @param index the index of the element to be removed (0 ≤ index < size)
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int remove(int index) {
+        rangeCheck(index);
+        int oldValue = elements[index];
+        int numMoved = size - index - 1;
+        if (numMoved > 0) {
+            System.arraycopy(elements, index + 1, elements, index, numMoved);
+        }
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Removes the first occurrence of the specified value from this vector, if it is present. Named apart from
+     * remove(int index) so that a value is never mistaken for an index.
+     *
+     * @param value element to be removed from this vector, if present
+     * @return true if the vector contained the specified element
+     */
+    public boolean removeValue(int value) {
+        int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Returns true if this vector contains the specified element.
+     *
+     * @param value element whose presence in this vector is to be tested
+     * @return true if this vector contains the element
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this vector,
+     * or -1 if this vector does not contain the element.
+     *
+     * @param value element to search for
+     * @return the index of the first occurrence, or -1 if not found
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sorts the elements into ascending order, in place on the underlying array.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Searches the vector for the specified value with binary search over the underlying array. The vector must be
+     * sorted (for example by sort()); otherwise the result is undefined.
+     *
+     * @param value the value to search for
+     * @return index of the value if it is present; otherwise (-(insertion point) - 1), as in Arrays.binarySearch
+     */
+    public int binarySearch(int value) {
+        return Arrays.binarySearch(elements, 0, size, value);
+    }
+
+    /**
+     * Removes all of the elements from this vector. The capacity remains unchanged.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a copy of this vector with its own array.
+     *
+     * @return a new IntVector containing the same elements in the same order
+     */
+    @Override
+    public IntVector clone() {
+        try {
+            IntVector cloned = (IntVector) super.clone();
+            cloned.elements = Arrays.copyOf(this.elements, this.elements.length);
+            return cloned;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+    /**
+     * Returns an array containing all of the elements in this vector in proper sequence.
+     *
+     * @return an array containing all elements of this vector
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns a string representation of the vector in the form [a, b, c, ...].
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(elements[i]);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /** Checks if the given index is in range for get/set/remove (0 ≤ index < size). */
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /** Checks if the given index is in range for add (0 ≤ index ≤ size). */
+    private void rangeCheckForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) {
+        IntVector vector = new IntVector();
+
+        System.out.println("Add elements: 30, 10, 20");
+        vector.add(30);
+        vector.add(10);
+        vector.add(20);
+        System.out.println("Vector: " + vector);             // [30, 10, 20]
+        System.out.println("Get index 1: " + vector.get(1)); // 10
+
+        System.out.println("\nAdd all: 50, 40");
+        vector.addAll(new int[]{50, 40});
+        System.out.println("Vector: " + vector);             // [30, 10, 20, 50, 40]
+
+        System.out.println("\nSort and binary search");
+        vector.sort();
+        System.out.println("Vector: " + vector);                        // [10, 20, 30, 40, 50]
+        System.out.println("Index of 40: " + vector.binarySearch(40)); // 3
+        System.out.println("Search 35: " + vector.binarySearch(35));   // -4 (insertion point 3)
+
+        System.out.println("\nRemove index 0: " + vector.remove(0));     // 10
+        System.out.println("Remove value 50: " + vector.removeValue(50)); // true
+        System.out.println("Vector: " + vector);                         // [20, 30, 40]
+        System.out.println("Array: " + Arrays.toString(vector.toArray()));
+
+        System.out.println("\nClear vector");
+        vector.clear();
+        System.out.println("Is empty? " + vector.isEmpty()); // true
+    }
+}
+```
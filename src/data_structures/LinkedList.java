@@ -1,6 +1,9 @@
 ```java
 package data_structures;
 
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
 /**
  * A linear collection of data elements, in which linear order is not given by their physical placement in memory.
  * Instead, each element points to the next. It is a data structure consisting of a group of nodes which together
@@ -20,6 +23,14 @@ package data_structures;
  *   isEmpty          O(1)
  *   get(index)       O(n)
  *
+ * A list constructed with a pool capacity keeps up to that many removed nodes on a free list and reuses them for
+ * later insertions, so a list whose size stays roughly steady (a work queue fed by addLast and drained by
+ * removeFirst) stops allocating once the pool is warm. Without a pool capacity, removed nodes are left to the
+ * garbage collector as before.
+ *
+ * A {@link ListCursor} walks the list and inserts or removes at its position in O(1), for edits that would otherwise
+ * need an indexOf pass followed by another walk in add(index) or removeAt.
+ *
  * @param <T> the type of elements stored in the list
  */
 public class LinkedList<T> {
@@ -43,12 +54,60 @@ public class LinkedList<T> {
     private Node<T> tail;
     /** Number of elements currently in the list. */
     private int size;
+    /** Number of structural modifications, so that cursors can detect edits made behind their back. */
+    private int modCount;
+
+    /** Removed nodes kept for reuse, linked through next. */
+    private Node<T> freeList;
+    /** Number of nodes on the free list. */
+    private int pooledNodes;
+    /** Most nodes the free list may hold; 0 disables pooling. */
+    private final int poolCapacity;
 
     /** Constructs an empty list. */
     public LinkedList() {
         head = null;
         tail = null;
         size = 0;
+        poolCapacity = 0;
+    }
+
+    /**
+     * Constructs an empty list that recycles up to poolCapacity removed nodes.
+     *
+     * @param poolCapacity most nodes kept for reuse; 0 disables pooling
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public LinkedList(int poolCapacity) {
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException("Pool capacity must be non-negative: " + poolCapacity);
+        }
+        this.poolCapacity = poolCapacity;
+    }
+
+    /** Returns a node holding value, taken from the free list if it has one. */
+    private Node<T> newNode(T value) {
+        Node<T> node = freeList;
+        if (node == null) {
+            return new Node<>(value);
+        }
+        freeList = node.next;
+        pooledNodes--;
+        node.data = value;
+        node.next = null;
+        return node;
+    }
+
+    /** Returns an unlinked node to the free list, or drops it if the pool is full. */
+    private void recycle(Node<T> node) {
+        node.data = null; // help garbage collection
+        if (pooledNodes < poolCapacity) {
+            node.next = freeList;
+            freeList = node;
+            pooledNodes++;
+        } else {
+            node.next = null;
+        }
     }
 
     /**
@@ -57,7 +116,7 @@ public class LinkedList<T> {
      * @param value the element to add
      */
     public void addFirst(T value) {
-        Node<T> newNode = new Node<>(value);
+        Node<T> newNode = newNode(value);
         newNode.next = head;
         head = newNode;
         if (tail == null) {
@@ -65,6 +124,7 @@ public class LinkedList<T> {
             tail = newNode;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -73,7 +133,7 @@ public class LinkedList<T> {
      * @param value the element to add
      */
     public void addLast(T value) {
-        Node<T> newNode = new Node<>(value);
+        Node<T> newNode = newNode(value);
         if (isEmpty()) {
             // If the list is empty, head and tail both point to new node
             head = newNode;
@@ -83,6 +143,7 @@ public class LinkedList<T> {
             tail = newNode;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -94,13 +155,16 @@ public class LinkedList<T> {
         if (isEmpty()) {
             return null;  // nothing to remove
         }
-        T removedData = head.data;
-        head = head.next;
+        Node<T> removed = head;
+        T removedData = removed.data;
+        head = removed.next;
         size--;
+        modCount++;
         if (head == null) {
             // List became empty, so tail must also become null
             tail = null;
         }
+        recycle(removed);
         return removedData;
     }
 
@@ -113,23 +177,25 @@ public class LinkedList<T> {
         if (isEmpty()) {
             return null;
         }
+        Node<T> removed = tail;
+        T removedData = removed.data;
         if (head == tail) {
             // Only one element in the list
-            T removedData = head.data;
             head = null;
             tail = null;
             size = 0;
-            return removedData;
-        }
-        // Traverse to the node just before tail
-        Node<T> current = head;
-        while (current.next != tail) {
-            current = current.next;
+        } else {
+            // Traverse to the node just before tail
+            Node<T> current = head;
+            while (current.next != tail) {
+                current = current.next;
+            }
+            current.next = null;
+            tail = current;
+            size--;
         }
-        T removedData = tail.data;
-        current.next = null;
-        tail = current;
-        size--;
+        modCount++;
+        recycle(removed);
         return removedData;
     }
 
@@ -204,12 +270,7 @@ public class LinkedList<T> {
         while (current != null) {
             if ( (current.data == null && value == null) ||
                  (current.data != null && current.data.equals(value)) ) {
-                prev.next = current.next;
-                if (current == tail) {
-                    // If removing the tail, update tail pointer
-                    tail = prev;
-                }
-                size--;
+                unlinkAfter(prev, current);
                 return true;
             }
             prev = current;
@@ -253,15 +314,12 @@ public class LinkedList<T> {
             addLast(value);
             return;
         }
-        Node<T> newNode = new Node<>(value);
         Node<T> current = head;
         // Traverse to node just before the insertion point
         for (int i = 0; i < index - 1; i++) {
             current = current.next;
         }
-        newNode.next = current.next;
-        current.next = newNode;
-        size++;
+        linkAfter(current, value);
     }
 
     /**
@@ -280,13 +338,34 @@ public class LinkedList<T> {
         for (int i = 0; i < index - 1; i++) {
             prev = prev.next;
         }
-        Node<T> toRemove = prev.next;
+        return unlinkAfter(prev, prev.next);
+    }
+
+    /** Links a new node for value right after prev, which must be in the list, and returns it. */
+    private Node<T> linkAfter(Node<T> prev, T value) {
+        Node<T> newNode = newNode(value);
+        newNode.next = prev.next;
+        prev.next = newNode;
+        if (prev == tail) {
+            tail = newNode;
+        }
+        size++;
+        modCount++;
+        return newNode;
+    }
+
+    /** Unlinks toRemove, which must directly follow prev, recycles it and returns its element. */
+    private T unlinkAfter(Node<T> prev, Node<T> toRemove) {
+        T removedData = toRemove.data;
         prev.next = toRemove.next;
         if (toRemove == tail) {
+            // If removing the tail, update tail pointer
             tail = prev;
         }
         size--;
-        return toRemove.data;
+        modCount++;
+        recycle(toRemove);
+        return removedData;
     }
 
     /** Helper to check if index is in [0, size-1]. */
@@ -314,21 +393,183 @@ public class LinkedList<T> {
         return size == 0;
     }
 
+    /**
+     * Returns the number of removed nodes currently kept for reuse.
+     *
+     * @return the number of pooled nodes, at most the pool capacity
+     */
+    public int pooledNodes() {
+        return pooledNodes;
+    }
+
     /**
      * Removes all elements from the list. After calling this, size() returns 0.
+     * Up to the pool capacity of the removed nodes are kept for reuse.
      */
     public void clear() {
         // Help GC by unlinking all nodes
         Node<T> current = head;
         while (current != null) {
             Node<T> next = current.next;
-            current.data = null;
-            current.next = null;
+            recycle(current);
             current = next;
         }
         head = null;
         tail = null;
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a cursor positioned on the first element (or past the end, if the list is empty).
+     *
+     * @return a new cursor
+     */
+    public ListCursor cursor() {
+        return new ListCursor();
+    }
+
+    /**
+     * A position in the list from which elements can be read, inserted and removed in O(1). The cursor rests on an
+     * element, or past the last element once it has moved off the end. It remembers the node before its position, so
+     * inserting before the current element or removing it needs no search.
+     *
+     * Edits made through the cursor keep it valid; any other structural change to the list makes the cursor throw
+     * ConcurrentModificationException on its next use. This also keeps a stale cursor from reaching a node that has
+     * been recycled into another position.
+     */
+    public final class ListCursor {
+        /** Node before the current one, or null when the current node is the head. */
+        private Node<T> prev;
+        /** Node the cursor rests on, or null when past the end. */
+        private Node<T> current;
+        /** Position of the current node (size when past the end). */
+        private int index;
+        private int expectedModCount;
+
+        private ListCursor() {
+            this.current = head;
+            this.expectedModCount = modCount;
+        }
+
+        /**
+         * Returns true if the cursor rests on an element, false if it is past the end.
+         *
+         * @return whether there is a current element
+         */
+        public boolean hasCurrent() {
+            checkForComodification();
+            return current != null;
+        }
+
+        /**
+         * Returns the position of the cursor: the index of the current element, or size() past the end.
+         *
+         * @return the current index
+         */
+        public int index() {
+            checkForComodification();
+            return index;
+        }
+
+        /**
+         * Returns the element the cursor rests on.
+         *
+         * @return the current element
+         * @throws NoSuchElementException if the cursor is past the end
+         */
+        public T current() {
+            checkForComodification();
+            checkCurrent();
+            return current.data;
+        }
+
+        /**
+         * Moves the cursor to the next element (or past the end, after the last one).
+         *
+         * @throws NoSuchElementException if the cursor is already past the end
+         */
+        public void moveNext() {
+            checkForComodification();
+            checkCurrent();
+            prev = current;
+            current = current.next;
+            index++;
+        }
+
+        /**
+         * Replaces the element the cursor rests on.
+         *
+         * @param value the element to store
+         * @return the element previously at the cursor
+         * @throws NoSuchElementException if the cursor is past the end
+         */
+        public T set(T value) {
+            checkForComodification();
+            checkCurrent();
+            T oldValue = current.data;
+            current.data = value;
+            return oldValue;
+        }
+
+        /**
+         * Inserts an element before the cursor's position; the cursor stays on the same element, whose index grows by
+         * one. Past the end, this appends to the list.
+         *
+         * @param value the element to insert
+         */
+        public void insertBefore(T value) {
+            checkForComodification();
+            if (prev == null) {
+                addFirst(value);
+                prev = head;
+            } else {
+                prev = linkAfter(prev, value);
+            }
+            index++;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Inserts an element after the current one; the cursor stays where it is.
+         *
+         * @param value the element to insert
+         * @throws NoSuchElementException if the cursor is past the end
+         */
+        public void insertAfter(T value) {
+            checkForComodification();
+            checkCurrent();
+            linkAfter(current, value);
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Removes the current element and moves the cursor to the element that followed it.
+         *
+         * @return the removed element
+         * @throws NoSuchElementException if the cursor is past the end
+         */
+        public T remove() {
+            checkForComodification();
+            checkCurrent();
+            Node<T> next = current.next;
+            T removedData = prev == null ? removeFirst() : unlinkAfter(prev, current);
+            current = next;
+            expectedModCount = modCount;
+            return removedData;
+        }
+
+        private void checkCurrent() {
+            if (current == null) {
+                throw new NoSuchElementException("Cursor is past the end of the list");
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
     }
 
     /**
@@ -396,6 +637,33 @@ public class LinkedList<T> {
         list.clear();
         System.out.println("List after clear: " + list); // []
         System.out.println("Is empty? " + list.isEmpty()); // true
+
+        System.out.println("\nCursor over 1 .. 10: drop odd numbers, put a marker before each multiple of 4");
+        LinkedList<Integer> numbers = new LinkedList<>(16);
+        for (int i = 1; i <= 10; i++) {
+            numbers.addLast(i);
+        }
+        LinkedList<Integer>.ListCursor cursor = numbers.cursor();
+        while (cursor.hasCurrent()) {
+            int value = cursor.current();
+            if (value % 2 != 0) {
+                cursor.remove();
+                continue;
+            }
+            if (value % 4 == 0) {
+                cursor.insertBefore(-value);
+            }
+            cursor.moveNext();
+        }
+        System.out.println("List: " + numbers);                        // [2, -4, 4, 6, -8, 8, 10]
+        System.out.println("Pooled nodes: " + numbers.pooledNodes());  // 3 (five removed, two reused by the markers)
+
+        numbers.addLast(12);
+        try {
+            cursor.hasCurrent();
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Cursor after addLast: ConcurrentModificationException");
+        }
     }
 }
 ```
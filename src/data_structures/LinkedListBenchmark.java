@@ -0,0 +1,302 @@
+package data_structures;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+public class LinkedListBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /** Keeps results alive so the JIT cannot eliminate the measured loops. */
+    private static long sink;
+
+    private static void report(String label, int ops, long nanos) {
+        System.out.printf("  %-40s %10.2f ns/op%n", label, (double) nanos / ops);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /** Bytes the current thread allocates while running body once, after warming it up. */
+    private static long allocatedBytes(Runnable body) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long id = Thread.currentThread().getId();
+        body.run();
+        long before = threads.getThreadAllocatedBytes(id);
+        body.run();
+        return threads.getThreadAllocatedBytes(id) - before;
+    }
+
+    private static void reportAllocating(String label, int ops, Runnable body) {
+        long nanos = time(body);
+        System.out.printf("  %-40s %10.2f ns/op %8.2f bytes/op%n", label, (double) nanos / ops,
+                (double) allocatedBytes(body) / ops);
+    }
+
+    private static long time(Runnable body) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            body.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            body.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static LinkedList<Integer> linkedList(int n) {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < n; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    private static UnrolledLinkedList<Integer> unrolledList(int n, int nodeCapacity) {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(nodeCapacity);
+        for (int i = 0; i < n; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    /**
+     * Compares LinkedList with UnrolledLinkedList for full scans (indexOf of a missing value), random get(index) and
+     * footprint.
+     */
+    private static void benchTraversal(int n, int probes) {
+        int[] positions = new Random(7).ints(probes, 0, n).toArray();
+        Integer missing = -1;
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Traversal, n = " + n);
+        System.out.println("*********************");
+
+        LinkedList<Integer> linked = linkedList(n);
+        report("LinkedList.indexOf (full scan)", n, time(() -> sink += linked.indexOf(missing)));
+        report("LinkedList.get (random index)", probes, time(() -> {
+            for (int position : positions) {
+                sink += linked.get(position);
+            }
+        }));
+
+        for (int nodeCapacity : new int[] {32, 64, 128}) {
+            UnrolledLinkedList<Integer> unrolled = unrolledList(n, nodeCapacity);
+            String name = "Unrolled(" + nodeCapacity + ")";
+            report(name + ".indexOf (full scan)", n, time(() -> sink += unrolled.indexOf(missing)));
+            report(name + ".forEach", n, time(() -> unrolled.forEach(value -> sink += value)));
+            report(name + ".get (random index)", probes, time(() -> {
+                for (int position : positions) {
+                    sink += unrolled.get(position);
+                }
+            }));
+        }
+
+        // Heap per element beyond the Integer values themselves, which both lists share
+        Integer[] values = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        long heapBefore = usedHeap();
+        LinkedList<Integer> linkedFootprint = new LinkedList<>();
+        for (Integer value : values) {
+            linkedFootprint.addLast(value);
+        }
+        long linkedBytes = usedHeap() - heapBefore;
+        heapBefore = usedHeap();
+        UnrolledLinkedList<Integer> unrolledFootprint = new UnrolledLinkedList<>();
+        for (Integer value : values) {
+            unrolledFootprint.addLast(value);
+        }
+        long unrolledBytes = usedHeap() - heapBefore;
+        System.out.printf("  %-40s %10.1f bytes/element%n", "LinkedList heap", (double) linkedBytes / n);
+        System.out.printf("  %-40s %10.1f bytes/element%n", "Unrolled(64) heap", (double) unrolledBytes / n);
+        sink += linkedFootprint.size() + unrolledFootprint.size();
+    }
+
+    /** Inserts k elements at the middle of an n-element list, then removes them from the middle again (2k ops). */
+    private static void benchMiddleInsertion(int n, int k) {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Middle insertion and removal, n = " + n + ", k = " + k);
+        System.out.println("*********************");
+
+        LinkedList<Integer> linked = linkedList(n);
+        report("LinkedList.add/removeAt(size / 2)", 2 * k, time(() -> {
+            for (int i = 0; i < k; i++) {
+                linked.add(linked.size() >> 1, i);
+            }
+            for (int i = 0; i < k; i++) {
+                sink += linked.removeAt(linked.size() >> 1);
+            }
+        }));
+
+        for (int nodeCapacity : new int[] {32, 64, 128}) {
+            UnrolledLinkedList<Integer> unrolled = unrolledList(n, nodeCapacity);
+            report("Unrolled(" + nodeCapacity + ").add/removeAt(size / 2)", 2 * k, time(() -> {
+                for (int i = 0; i < k; i++) {
+                    unrolled.add(unrolled.size() >> 1, i);
+                }
+                for (int i = 0; i < k; i++) {
+                    sink += unrolled.removeAt(unrolled.size() >> 1);
+                }
+            }));
+        }
+    }
+
+    /**
+     * Random-index get and add/removeAt on lists from 10K elements up to maxSize. LinkedList walks O(n) per operation
+     * and UnrolledLinkedList O(n / 64), so they are only measured on the sizes where that finishes in reasonable time.
+     */
+    private static void benchRandomIndex(int maxSize, int ops) {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Random-index workloads, " + ops + " ops per round");
+        System.out.println("*********************");
+
+        for (int n = 10_000; n <= maxSize; n *= 10) {
+            int size = n;
+            Random random = new Random(n);
+            int[] positions = random.ints(ops, 0, size).toArray();
+            System.out.println("n = " + size);
+
+            long heapBefore = usedHeap();
+            IndexedSkipList<Integer> skipList = new IndexedSkipList<>();
+            for (int i = 0; i < size; i++) {
+                skipList.addLast(i);
+            }
+            long skipListBytes = usedHeap() - heapBefore;
+            report("IndexedSkipList.get", ops, time(() -> {
+                for (int position : positions) {
+                    sink += skipList.get(position);
+                }
+            }));
+            // Each insert is undone by a removal at the same index, so the size and the positions stay valid
+            report("IndexedSkipList.add/removeAt", 2 * ops, time(() -> {
+                for (int position : positions) {
+                    skipList.add(position, position);
+                    sink += skipList.removeAt(position);
+                }
+            }));
+            System.out.printf("  %-40s %10.1f bytes/element%n", "IndexedSkipList heap", (double) skipListBytes / size);
+
+            if (size <= 1_000_000) {
+                UnrolledLinkedList<Integer> unrolled = unrolledList(size, 64);
+                report("Unrolled(64).get", ops, time(() -> {
+                    for (int position : positions) {
+                        sink += unrolled.get(position);
+                    }
+                }));
+                report("Unrolled(64).add/removeAt", 2 * ops, time(() -> {
+                    for (int position : positions) {
+                        unrolled.add(position, position);
+                        sink += unrolled.removeAt(position);
+                    }
+                }));
+            }
+            if (size <= 100_000) {
+                LinkedList<Integer> linked = linkedList(size);
+                report("LinkedList.get", ops, time(() -> {
+                    for (int position : positions) {
+                        sink += linked.get(position);
+                    }
+                }));
+                report("LinkedList.add/removeAt", 2 * ops, time(() -> {
+                    for (int position : positions) {
+                        linked.add(position, position);
+                        sink += linked.removeAt(position);
+                    }
+                }));
+            }
+        }
+    }
+
+    /**
+     * Producer/consumer churn: a queue of the given depth fed by addLast and drained by removeFirst, with and without
+     * a node pool. The values are small cached Integers, so the only allocation left is the list's own nodes.
+     */
+    private static void benchChurn(int depth, int ops) {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("addLast/removeFirst churn, depth = " + depth + ", " + ops + " pairs");
+        System.out.println("*********************");
+
+        for (int poolCapacity : new int[] {0, 64, depth}) {
+            LinkedList<Integer> queue = new LinkedList<>(poolCapacity);
+            for (int i = 0; i < depth; i++) {
+                queue.addLast(i & 127);
+            }
+            reportAllocating("LinkedList(pool " + poolCapacity + ")", 2 * ops, () -> {
+                for (int i = 0; i < ops; i++) {
+                    queue.addLast(i & 127);
+                    sink += queue.removeFirst();
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes every multiple of three from an n-element list and inserts a copy of every multiple of five next to
+     * it: with positional calls (a walk per edit) and in one pass with a ListCursor.
+     */
+    private static void benchCursor(int n) {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Filter-and-insert edit pass, n = " + n);
+        System.out.println("*********************");
+
+        report("get/removeAt/add(index)", n, time(() -> {
+            LinkedList<Integer> list = linkedList(n);
+            for (int i = 0; i < list.size(); ) {
+                int value = list.get(i);
+                if (value % 3 == 0) {
+                    list.removeAt(i);
+                    continue;
+                }
+                if (value % 5 == 0) {
+                    list.add(i, value);
+                    i++;
+                }
+                i++;
+            }
+            sink += list.size();
+        }));
+        report("ListCursor", n, time(() -> {
+            LinkedList<Integer> list = linkedList(n);
+            LinkedList<Integer>.ListCursor cursor = list.cursor();
+            while (cursor.hasCurrent()) {
+                int value = cursor.current();
+                if (value % 3 == 0) {
+                    cursor.remove();
+                    continue;
+                }
+                if (value % 5 == 0) {
+                    cursor.insertBefore(value);
+                }
+                cursor.moveNext();
+            }
+            sink += list.size();
+        }));
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        benchTraversal(n, 1_000);
+        benchMiddleInsertion(n / 10, 1_000);
+        benchRandomIndex(10 * n, 10_000);
+        benchChurn(1_000, n);
+        benchCursor(n / 100);
+
+        System.out.println();
+        System.out.println("(sink " + sink + ")");
+    }
+}
@@ -0,0 +1,572 @@
+```java
+package data_structures;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * An off-heap hash table for fixed-width byte[] keys and values, stored in a memory-mapped file. Entries never live on
+ * the Java heap: the table is an array of fixed-size slots inside the file, and collisions are resolved with open
+ * addressing (linear probing) and backward-shift deletion, like {@link IntIntHashMap}. Only the operating system's
+ * page cache holds the data, so tens of millions of records add no garbage-collection pressure.
+ *
+ * File layout: a HEADER_SIZE-byte header (magic, version, key width, value width, capacity, size) followed by
+ * capacity slots. Each slot is a 4-byte tag (0 for an empty slot, otherwise the key's hash with the top bit set),
+ * then the key bytes, then the value bytes. The slots are mapped in chunks of at most 1 GiB, since a single
+ * MappedByteBuffer cannot exceed 2 GiB.
+ *
+ * Opening an existing file remaps it and continues with the entries it holds, so the map survives a process restart.
+ * Writes reach the file through the page cache; call force() to flush them to the storage device. A crash in the
+ * middle of an update may leave the file inconsistent.
+ *
+ * Growing the table writes all entries into a new file of twice the capacity, which then replaces the old one. The
+ * old mapping is released when its buffers are garbage collected.
+ *
+ * Complexity (assuming a good hash function and uniform distribution):
+ *
+ *   Algorithm   Average       Worst Case
+ *   Space       O(k)          O(k)          (where k = number of slots, a power of two; on disk, not on the heap)
+ *   get         O(1)          O(n)          (one long cluster of probed slots)
+ *   put         O(1)          O(n)
+ *   remove      O(1)          O(n)
+ */
+public class MappedHashMap implements Closeable {
+    /** Default initial capacity (number of slots). Must be a power of two. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+    /** Default load factor before resizing. */
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    /** Largest power-of-two capacity the table can grow to. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    /** Identifies files written by this class ("MHM1"). */
+    private static final int MAGIC = 0x4D484D31;
+    private static final int VERSION = 1;
+    /** Bytes reserved at the start of the file for the header. */
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int KEY_SIZE_OFFSET = 8;
+    private static final int VALUE_SIZE_OFFSET = 12;
+    private static final int CAPACITY_OFFSET = 16;
+    private static final int SIZE_OFFSET = 20;
+    /** Bytes of the tag at the start of each slot. */
+    private static final int TAG_SIZE = 4;
+    /** Set in the tag of every occupied slot, so that no occupied tag is 0. */
+    private static final int OCCUPIED = 0x80000000;
+    /** Upper bound on the bytes mapped by one chunk of slots. */
+    private static final long MAX_CHUNK_BYTES = 1L << 30;
+
+    /** File holding the table. */
+    private final Path file;
+    /** Width of every key, in bytes. */
+    private final int keySize;
+    /** Width of every value, in bytes. */
+    private final int valueSize;
+    /** Bytes per slot: tag, key and value. */
+    private final int slotSize;
+    /** Load factor for deciding when to resize. */
+    private final float loadFactor;
+    private FileChannel channel;
+    /** Mapping of the header. */
+    private MappedByteBuffer header;
+    /** Mappings of the slots; slot i lives in chunk i >>> chunkShift. */
+    private MappedByteBuffer[] chunks;
+    /** log2 of the number of slots per chunk. */
+    private int chunkShift;
+    /** Number of slots; always a power of two. */
+    private int capacity;
+    /** Current number of key-value mappings in this map. */
+    private int size;
+    /** The threshold at which to resize (capacity * loadFactor). */
+    private int threshold;
+    private boolean closed;
+
+    /**
+     * Opens the map stored in the given file, or creates an empty one with the default initial capacity (1024) and
+     * load factor (0.75) if the file does not exist.
+     *
+     * @param file file holding the table
+     * @param keySize width of every key, in bytes
+     * @param valueSize width of every value, in bytes
+     * @throws IOException if the file cannot be created, read or mapped
+     * @throws IllegalArgumentException if the widths are non-positive or do not match those of an existing file
+     */
+    public MappedHashMap(Path file, int keySize, int valueSize) throws IOException {
+        this(file, keySize, valueSize, DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Opens the map stored in the given file, or creates an empty one with the specified initial capacity and load
+     * factor if the file does not exist. The capacity of an existing file is kept.
+     *
+     * @param file file holding the table
+     * @param keySize width of every key, in bytes
+     * @param valueSize width of every value, in bytes
+     * @param initialCapacity initial number of slots for a new file (will be rounded up to a power of two)
+     * @param loadFactor load factor threshold for resizing; must be below 1 so a free slot always exists
+     * @throws IOException if the file cannot be created, read or mapped
+     * @throws IllegalArgumentException if the widths or initialCapacity are non-positive, loadFactor is not in
+     *                                  (0, 1), or the file exists but is not a table with the same widths
+     */
+    public MappedHashMap(Path file, int keySize, int valueSize, int initialCapacity, float loadFactor)
+            throws IOException {
+        if (file == null) {
+            throw new NullPointerException("File must not be null");
+        }
+        if (keySize <= 0 || valueSize <= 0) {
+            throw new IllegalArgumentException("Key and value sizes must be positive");
+        }
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        if (loadFactor <= 0 || loadFactor >= 1 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1 (exclusive)");
+        }
+        this.file = file;
+        this.keySize = keySize;
+        this.valueSize = valueSize;
+        this.slotSize = TAG_SIZE + keySize + valueSize;
+        this.loadFactor = loadFactor;
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            create(file, Math.max(2, HashMap.tableSizeFor(initialCapacity)));
+        }
+        map(file);
+        this.capacity = header.getInt(CAPACITY_OFFSET);
+        this.size = header.getInt(SIZE_OFFSET);
+        this.threshold = (int) (capacity * loadFactor);
+    }
+
+    /** Writes an empty table of the given capacity to the file, replacing any previous content. */
+    private void create(Path target, int cap) throws IOException {
+        try (FileChannel ch = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Mapping extends the file with zeros, so every slot starts out empty
+            MappedByteBuffer head = ch.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) cap * slotSize);
+            head.order(ByteOrder.nativeOrder());
+            head.putInt(MAGIC_OFFSET, MAGIC);
+            head.putInt(VERSION_OFFSET, VERSION);
+            head.putInt(KEY_SIZE_OFFSET, keySize);
+            head.putInt(VALUE_SIZE_OFFSET, valueSize);
+            head.putInt(CAPACITY_OFFSET, cap);
+            head.putInt(SIZE_OFFSET, 0);
+            head.force();
+        }
+    }
+
+    /**
+     * Maps the header and the slot chunks of the given table file, after checking that its header describes a table
+     * with this map's key and value widths.
+     */
+    private void map(Path source) throws IOException {
+        channel = FileChannel.open(source, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() < HEADER_SIZE) {
+            channel.close();
+            throw new IllegalArgumentException("Not a MappedHashMap file: " + source);
+        }
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.order(ByteOrder.nativeOrder());
+        if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+            channel.close();
+            throw new IllegalArgumentException("Not a MappedHashMap file: " + source);
+        }
+        int storedKeySize = header.getInt(KEY_SIZE_OFFSET);
+        int storedValueSize = header.getInt(VALUE_SIZE_OFFSET);
+        if (storedKeySize != keySize || storedValueSize != valueSize) {
+            channel.close();
+            throw new IllegalArgumentException("File stores " + storedKeySize + "-byte keys and " + storedValueSize
+                    + "-byte values, not " + keySize + " and " + valueSize);
+        }
+        int cap = header.getInt(CAPACITY_OFFSET);
+        if (Integer.bitCount(cap) != 1 || cap > MAXIMUM_CAPACITY
+                || channel.size() < HEADER_SIZE + (long) cap * slotSize) {
+            channel.close();
+            throw new IllegalArgumentException("Corrupt MappedHashMap file: " + source);
+        }
+        int slotsPerChunk = (int) Math.min(cap, Long.highestOneBit(MAX_CHUNK_BYTES / slotSize));
+        chunkShift = Integer.numberOfTrailingZeros(slotsPerChunk);
+        chunks = new MappedByteBuffer[cap / slotsPerChunk];
+        for (int c = 0; c < chunks.length; c++) {
+            long position = HEADER_SIZE + ((long) c << chunkShift) * slotSize;
+            chunks[c] = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) slotsPerChunk * slotSize);
+            chunks[c].order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /**
+     * Computes the hash for a given key. Linear probing is sensitive to clustered hash codes, so the key's hash code
+     * is scrambled with a Fibonacci multiplier before the usual spread.
+     */
+    private static int hash(byte[] key) {
+        return HashMap.spread(Arrays.hashCode(key) * 0x9E3779B9);
+    }
+
+    private MappedByteBuffer chunk(int slot) {
+        return chunks[slot >>> chunkShift];
+    }
+
+    /** Byte offset of the given slot within its chunk. */
+    private int offset(int slot) {
+        return (slot & ((1 << chunkShift) - 1)) * slotSize;
+    }
+
+    private void checkKey(byte[] key) {
+        if (key.length != keySize) {
+            throw new IllegalArgumentException("Key must be " + keySize + " bytes, got " + key.length);
+        }
+    }
+
+    private void checkValue(byte[] value) {
+        if (value.length != valueSize) {
+            throw new IllegalArgumentException("Value must be " + valueSize + " bytes, got " + value.length);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("MappedHashMap is closed");
+        }
+    }
+
+    /**
+     * Puts the key-value pair into the map. If the key already exists, its value is replaced.
+     *
+     * @param key key to insert, exactly keySize bytes
+     * @param value value to associate with the key, exactly valueSize bytes
+     * @return true if the key was not present before
+     * @throws IllegalArgumentException if key or value has the wrong width
+     * @throws IllegalStateException if the map is closed or cannot grow any further
+     * @throws IOException if growing the table fails
+     */
+    public boolean put(byte[] key, byte[] value) throws IOException {
+        ensureOpen();
+        checkKey(key);
+        checkValue(value);
+        int tag = hash(key) | OCCUPIED;
+        int mask = capacity - 1;
+        int slot = tag & mask;
+        // Probe until we find the key or an empty slot
+        int t;
+        while ((t = chunk(slot).getInt(offset(slot))) != 0) {
+            if (t == tag && keyEquals(slot, key)) {
+                writeBytes(slot, TAG_SIZE + keySize, value);
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        writeBytes(slot, TAG_SIZE, key);
+        writeBytes(slot, TAG_SIZE + keySize, value);
+        chunk(slot).putInt(offset(slot), tag);
+        header.putInt(SIZE_OFFSET, ++size);
+        if (size > threshold) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * Copies the value associated with the given key into out, without allocating.
+     *
+     * @param key key to look up, exactly keySize bytes
+     * @param out array of at least valueSize bytes receiving the value
+     * @return true if the key was found
+     * @throws IllegalArgumentException if key has the wrong width or out is too short
+     * @throws IllegalStateException if the map is closed
+     */
+    public boolean get(byte[] key, byte[] out) {
+        ensureOpen();
+        checkKey(key);
+        if (out.length < valueSize) {
+            throw new IllegalArgumentException("Output must hold " + valueSize + " bytes, got " + out.length);
+        }
+        int slot = indexOf(key);
+        if (slot < 0) {
+            return false;
+        }
+        MappedByteBuffer buffer = chunk(slot);
+        int base = offset(slot) + TAG_SIZE + keySize;
+        for (int i = 0; i < valueSize; i++) {
+            out[i] = buffer.get(base + i);
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the value associated with the given key, copied into a new array.
+     *
+     * @param key key to look up, exactly keySize bytes
+     * @return the value if found, or null if not found
+     * @throws IllegalArgumentException if key has the wrong width
+     * @throws IllegalStateException if the map is closed
+     */
+    public byte[] get(byte[] key) {
+        byte[] out = new byte[valueSize];
+        return get(key, out) ? out : null;
+    }
+
+    /**
+     * Removes the key (and its corresponding value) from this map if present.
+     *
+     * @param key key whose mapping is to be removed, exactly keySize bytes
+     * @return true if the key was present
+     * @throws IllegalArgumentException if key has the wrong width
+     * @throws IllegalStateException if the map is closed
+     */
+    public boolean remove(byte[] key) {
+        ensureOpen();
+        checkKey(key);
+        int slot = indexOf(key);
+        if (slot < 0) {
+            return false;
+        }
+        shiftSlots(slot);
+        header.putInt(SIZE_OFFSET, --size);
+        return true;
+    }
+
+    /**
+     * Checks whether the map contains the specified key.
+     *
+     * @param key key whose presence is to be tested, exactly keySize bytes
+     * @return true if the map contains a mapping for the key
+     * @throws IllegalArgumentException if key has the wrong width
+     * @throws IllegalStateException if the map is closed
+     */
+    public boolean containsKey(byte[] key) {
+        ensureOpen();
+        checkKey(key);
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns the number of key-value mappings in this map.
+     *
+     * @return current size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this map contains no key-value mappings.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of slots of the table.
+     *
+     * @return current capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Removes all mappings from this map. The capacity remains unchanged.
+     *
+     * @throws IllegalStateException if the map is closed
+     */
+    public void clear() {
+        ensureOpen();
+        for (int slot = 0; slot < capacity; slot++) {
+            chunk(slot).putInt(offset(slot), 0);
+        }
+        size = 0;
+        header.putInt(SIZE_OFFSET, 0);
+    }
+
+    /**
+     * Flushes all changes made to the mapped file to the storage device.
+     *
+     * @throws IllegalStateException if the map is closed
+     */
+    public void force() {
+        ensureOpen();
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Closes the file. Changes already made stay in the page cache and reach the file even without force(), unless
+     * the machine itself crashes. Closing an already closed map has no effect.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            channel.close();
+            chunks = null;
+            header = null;
+        }
+    }
+
+    /**
+     * Returns the slot holding the given key, or -1 if the key is absent.
+     */
+    private int indexOf(byte[] key) {
+        int tag = hash(key) | OCCUPIED;
+        int mask = capacity - 1;
+        int slot = tag & mask;
+        int t;
+        while ((t = chunk(slot).getInt(offset(slot))) != 0) {
+            if (t == tag && keyEquals(slot, key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private boolean keyEquals(int slot, byte[] key) {
+        MappedByteBuffer buffer = chunk(slot);
+        int base = offset(slot) + TAG_SIZE;
+        for (int i = 0; i < keySize; i++) {
+            if (buffer.get(base + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeBytes(int slot, int position, byte[] bytes) {
+        MappedByteBuffer buffer = chunk(slot);
+        int base = offset(slot) + position;
+        for (int i = 0; i < bytes.length; i++) {
+            buffer.put(base + i, bytes[i]);
+        }
+    }
+
+    /** Copies the whole content of slot from into slot to. */
+    private void copySlot(int from, int to) {
+        MappedByteBuffer source = chunk(from);
+        MappedByteBuffer target = chunk(to);
+        int sourceBase = offset(from);
+        int targetBase = offset(to);
+        for (int i = 0; i < slotSize; i++) {
+            target.put(targetBase + i, source.get(sourceBase + i));
+        }
+    }
+
+    /**
+     * Empties the given slot and shifts later entries of the same probe cluster back into the gap, so that every
+     * remaining key is still reachable from its home slot without tombstones.
+     */
+    private void shiftSlots(int pos) {
+        int mask = capacity - 1;
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            while (true) {
+                int t = chunk(pos).getInt(offset(pos));
+                if (t == 0) {
+                    chunk(last).putInt(offset(last), 0);
+                    return;
+                }
+                int home = t & mask;
+                // The entry may move into the gap only if its home slot is not cyclically within (last, pos]
+                if (last <= pos ? (last >= home || home > pos) : (last >= home && home > pos)) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            copySlot(pos, last);
+        }
+    }
+
+    /**
+     * Doubles the capacity: writes every entry into a new file next to the current one, then moves the new file over
+     * the old one and maps it.
+     */
+    private void resize() throws IOException {
+        if (capacity == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("MappedHashMap cannot grow beyond " + MAXIMUM_CAPACITY + " slots");
+        }
+        Path resized = file.resolveSibling(file.getFileName() + ".resize");
+        int newCapacity = capacity << 1; // double capacity
+        create(resized, newCapacity);
+
+        FileChannel oldChannel = channel;
+        MappedByteBuffer[] oldChunks = chunks;
+        int oldShift = chunkShift;
+        int oldCapacity = capacity;
+        map(resized);
+        capacity = newCapacity;
+        int mask = newCapacity - 1;
+        int oldSlotMask = (1 << oldShift) - 1;
+        for (int i = 0; i < oldCapacity; i++) {
+            MappedByteBuffer source = oldChunks[i >>> oldShift];
+            int sourceBase = (i & oldSlotMask) * slotSize;
+            int tag = source.getInt(sourceBase);
+            if (tag != 0) {
+                int slot = tag & mask;
+                while (chunk(slot).getInt(offset(slot)) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                MappedByteBuffer target = chunk(slot);
+                int targetBase = offset(slot);
+                for (int b = 0; b < slotSize; b++) {
+                    target.put(targetBase + b, source.get(sourceBase + b));
+                }
+            }
+        }
+        header.putInt(SIZE_OFFSET, size);
+        threshold = (int) (newCapacity * loadFactor);
+        // Make the new table durable before it replaces the old one
+        force();
+        oldChannel.close();
+        Files.move(resized, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) throws IOException {
+        Path file = args.length > 0 ? Paths.get(args[0]) : Files.createTempFile("mapped-hash-map", ".bin");
+        Files.deleteIfExists(file);
+
+        try (MappedHashMap map = new MappedHashMap(file, 8, 4, 16, 0.75f)) {
+            System.out.println("Putting entries:");
+            for (long i = 0; i < 100; i++) {
+                map.put(longKey(i), intValue((int) (i * i)));
+            }
+            System.out.println("Size after inserts: " + map.size());         // 100
+            System.out.println("Capacity after resize: " + map.capacity());  // 256
+            System.out.println("Removing 7: " + map.remove(longKey(7)));     // true
+            System.out.println("Contains 7? " + map.containsKey(longKey(7))); // false
+            map.force();
+        }
+
+        System.out.println("\nReopening the file:");
+        try (MappedHashMap map = new MappedHashMap(file, 8, 4)) {
+            System.out.println("Size after reopen: " + map.size());          // 99
+            byte[] out = new byte[4];
+            map.get(longKey(12), out);
+            System.out.println("12 -> " + java.nio.ByteBuffer.wrap(out).getInt()); // 144
+            map.clear();
+            System.out.println("Is empty after clear? " + map.isEmpty());    // true
+        }
+        Files.deleteIfExists(file);
+    }
+
+    private static byte[] longKey(long key) {
+        return java.nio.ByteBuffer.allocate(8).putLong(key).array();
+    }
+
+    private static byte[] intValue(int value) {
+        return java.nio.ByteBuffer.allocate(4).putInt(value).array();
+    }
+}
+```
@@ -7,8 +7,11 @@ package data_structures;
  * enqueue, and removal of entities from the front terminal position, known as dequeue.
  * This makes the queue a First-In-First-Out (FIFO) data structure.
  *
+ * The elements are kept in an {@link ArrayDeque}, so enqueue and dequeue allocate nothing except when the array has
+ * to double.
+ *
  * Complexity:
- *   enqueue:    O(1)
+ *   enqueue:    O(1) amortized
  *   dequeue:    O(1)
  *   peek:       O(1)
  *   isEmpty:    O(1)
@@ -18,30 +21,12 @@ package data_structures;
  */
 public class Queue<T> {
 
-    /**
-     * Inner node class for singly linked list.
-     */
-    private static class Node<E> {
-        E data;
-        Node<E> next;
-
-        Node(E data) {
-            this.data = data;
-        }
-    }
-
-    /** Reference to the head (front) node. */
-    private Node<T> head;
-    /** Reference to the tail (rear) node. */
-    private Node<T> tail;
-    /** Number of elements in the queue. */
-    private int size;
+    /** The elements, front first. */
+    private final ArrayDeque<T> elements;
 
     /** Constructs an empty queue. */
     public Queue() {
-        head = null;
-        tail = null;
-        size = 0;
+        elements = new ArrayDeque<>();
     }
 
     /**
@@ -50,15 +35,7 @@ public class Queue<T> {
      * @param value the element to enqueue
      */
     public void enqueue(T value) {
-        Node<T> newNode = new Node<>(value);
-        if (isEmpty()) {
-            head = newNode;
-            tail = newNode;
-        } else {
-            tail.next = newNode;
-            tail = newNode;
-        }
-        size++;
+        elements.addLast(value);
     }
 
     /**
@@ -67,17 +44,7 @@ public class Queue<T> {
      * @return the element at the front, or null if the queue is empty
      */
     public T dequeue() {
-        if (isEmpty()) {
-            return null;
-        }
-        T result = head.data;
-        head = head.next;
-        size--;
-        if (head == null) {
-            // Queue is now empty, so tail must also be null
-            tail = null;
-        }
-        return result;
+        return elements.pollFirst();
     }
 
     /**
@@ -86,7 +53,7 @@ public class Queue<T> {
      * @return the element at the front, or null if the queue is empty
      */
     public T peek() {
-        return isEmpty() ? null : head.data;
+        return elements.peekFirst();
     }
 
     /**
@@ -95,7 +62,7 @@ public class Queue<T> {
      * @return true if empty, false otherwise
      */
     public boolean isEmpty() {
-        return size == 0;
+        return elements.isEmpty();
     }
 
     /**
@@ -104,24 +71,14 @@ public class Queue<T> {
      * @return the current size
      */
     public int size() {
-        return size;
+        return elements.size();
     }
 
     /**
      * Removes all elements from this queue. After calling this, size() returns 0.
      */
     public void clear() {
-        // Help garbage collection by unlinking all nodes
-        Node<T> current = head;
-        while (current != null) {
-            Node<T> next = current.next;
-            current.data = null;
-            current.next = null;
-            current = next;
-        }
-        head = null;
-        tail = null;
-        size = 0;
+        elements.clear();
     }
 
     /**
@@ -132,18 +89,7 @@ public class Queue<T> {
      */
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("[");
-        Node<T> current = head;
-        while (current != null) {
-            sb.append(current.data);
-            current = current.next;
-            if (current != null) {
-                sb.append(", ");
-            }
-        }
-        sb.append("]");
-        return sb.toString();
+        return elements.toString();
     }
 
     // -------------------------------------------------------------------------
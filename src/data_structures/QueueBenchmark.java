@@ -0,0 +1,229 @@
+package data_structures;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class QueueBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /** Keeps results alive so the JIT cannot eliminate the measured loops. */
+    private static long sink;
+
+    private static void report(String label, int ops, long nanos) {
+        System.out.printf("  %-40s %10.2f ns/op%n", label, (double) nanos / ops);
+    }
+
+    /** Bytes the current thread allocates while running body once, after warming it up. */
+    private static long allocatedBytes(Runnable body) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long id = Thread.currentThread().getId();
+        body.run();
+        long before = threads.getThreadAllocatedBytes(id);
+        body.run();
+        return threads.getThreadAllocatedBytes(id) - before;
+    }
+
+    private static void reportAllocating(String label, int ops, Runnable body) {
+        long nanos = time(body);
+        System.out.printf("  %-40s %10.2f ns/op %8.2f bytes/op%n", label, (double) nanos / ops,
+                (double) allocatedBytes(body) / ops);
+    }
+
+    private static long time(Runnable body) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            body.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            body.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Single-threaded push/pop and enqueue/dequeue cycles, as the parser and scheduler run them: bursts that fill to
+     * depth and drain again, and a steady state that holds depth elements. LinkedList without a pool allocates a node
+     * per element as Stack and Queue did before they moved onto ArrayDeque, so it stands in for the old
+     * implementation. The values are small cached Integers, so only the containers' own allocations are counted.
+     */
+    private static void benchCycles(int depth, int ops) {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Stack and Queue cycles, depth = " + depth + ", " + ops + " elements per round");
+        System.out.println("*********************");
+
+        int bursts = ops / depth;
+        reportAllocating("node per element: push/pop bursts", 2 * ops, () -> {
+            LinkedList<Integer> nodes = new LinkedList<>();
+            for (int b = 0; b < bursts; b++) {
+                for (int i = 0; i < depth; i++) {
+                    nodes.addFirst(i & 127);
+                }
+                for (int i = 0; i < depth; i++) {
+                    sink += nodes.removeFirst();
+                }
+            }
+        });
+        Stack<Integer> stack = new Stack<>();
+        reportAllocating("Stack: push/pop bursts", 2 * ops, () -> {
+            for (int b = 0; b < bursts; b++) {
+                for (int i = 0; i < depth; i++) {
+                    stack.push(i & 127);
+                }
+                for (int i = 0; i < depth; i++) {
+                    sink += stack.pop();
+                }
+            }
+        });
+
+        LinkedList<Integer> nodes = new LinkedList<>();
+        Queue<Integer> queue = new Queue<>();
+        for (int i = 0; i < depth; i++) {
+            nodes.addLast(i & 127);
+            queue.enqueue(i & 127);
+        }
+        reportAllocating("node per element: enqueue/dequeue", 2 * ops, () -> {
+            for (int i = 0; i < ops; i++) {
+                nodes.addLast(i & 127);
+                sink += nodes.removeFirst();
+            }
+        });
+        reportAllocating("Queue: enqueue/dequeue", 2 * ops, () -> {
+            for (int i = 0; i < ops; i++) {
+                queue.enqueue(i & 127);
+                sink += queue.dequeue();
+            }
+        });
+    }
+
+    /** The operations the pipeline stages use, so one driver can run against either queue. */
+    private interface SharedQueue {
+        void enqueue(Integer value);
+
+        Integer dequeue();
+    }
+
+    /**
+     * Starts producers threads that enqueue total elements between them and consumers threads that dequeue until all
+     * of them have been taken, polling again when they find the queue empty. Returns the wall time from start to the
+     * last element consumed.
+     */
+    private static long runPipeline(SharedQueue queue, int producers, int consumers, int total)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(producers + consumers);
+        AtomicInteger consumed = new AtomicInteger();
+        int perProducer = total / producers;
+        int expected = perProducer * producers;
+        long[] sums = new long[consumers];
+        for (int p = 0; p < producers; p++) {
+            Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        queue.enqueue(i & 127);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+            producer.start();
+        }
+        for (int c = 0; c < consumers; c++) {
+            int id = c;
+            Thread consumer = new Thread(() -> {
+                long sum = 0;
+                try {
+                    start.await();
+                    while (consumed.get() < expected) {
+                        Integer value = queue.dequeue();
+                        if (value != null) {
+                            sum += value;
+                            consumed.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                sums[id] = sum;
+                done.countDown();
+            });
+            consumer.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        for (long sum : sums) {
+            sink += sum;
+        }
+        return elapsed;
+    }
+
+    /** Compares a Queue behind one lock (what the pipeline stages do today) with ConcurrentQueue. */
+    private static void benchConcurrent(int n) throws InterruptedException {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Producer/consumer throughput, " + n + " elements per round");
+        System.out.println("*********************");
+
+        int[][] ratios = {{1, 1}, {1, 4}, {4, 1}, {2, 2}, {4, 4}, {8, 8}};
+        for (int[] ratio : ratios) {
+            int producers = ratio[0];
+            int consumers = ratio[1];
+            long lockedBest = Long.MAX_VALUE;
+            long lockFreeBest = Long.MAX_VALUE;
+            for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                Queue<Integer> plain = new Queue<>();
+                Object lock = new Object();
+                long locked = runPipeline(new SharedQueue() {
+                    public void enqueue(Integer value) {
+                        synchronized (lock) {
+                            plain.enqueue(value);
+                        }
+                    }
+
+                    public Integer dequeue() {
+                        synchronized (lock) {
+                            return plain.dequeue();
+                        }
+                    }
+                }, producers, consumers, n);
+
+                ConcurrentQueue<Integer> concurrent = new ConcurrentQueue<>();
+                long lockFree = runPipeline(new SharedQueue() {
+                    public void enqueue(Integer value) {
+                        concurrent.enqueue(value);
+                    }
+
+                    public Integer dequeue() {
+                        return concurrent.dequeue();
+                    }
+                }, producers, consumers, n);
+
+                if (round >= WARMUP_ROUNDS) {
+                    lockedBest = Math.min(lockedBest, locked);
+                    lockFreeBest = Math.min(lockFreeBest, lockFree);
+                }
+            }
+            String shape = producers + "P/" + consumers + "C";
+            report("synchronized Queue, " + shape, n, lockedBest);
+            report("ConcurrentQueue, " + shape, n, lockFreeBest);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        benchCycles(1_000, n);
+        benchConcurrent(n);
+
+        System.out.println();
+        System.out.println("(sink " + sink + ")");
+    }
+}
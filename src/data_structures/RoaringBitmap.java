@@ -0,0 +1,1384 @@
+```java
+package data_structures;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of 32-bit integers in the style of Roaring bitmaps. Values are partitioned by their high 16 bits
+ * into containers, each holding the low 16 bits of up to 65536 values in whichever of three forms is smaller:
+ *
+ *   Container   Used for                         Storage
+ *   array       at most 4096 values              sorted char[] (2 bytes per value)
+ *   bitmap      more than 4096 values            long[1024], one bit per possible value (8 KiB)
+ *   run         long stretches of consecutive    sorted (start, length - 1) char pairs (4 bytes per run)
+ *               values (after addRange or runOptimize)
+ *
+ * A dense range of document IDs therefore costs a few bytes per run or one bit per value, instead of the roughly
+ * 40 bytes per element that a {@link Set}{@code <Integer>} spends on its Node and boxed Integer. and, or and andNot
+ * work container by container, on 64 values at a time for bitmap containers.
+ *
+ * Values are treated as unsigned: iteration and toArray() return 0 ... Integer.MAX_VALUE first and then the negative
+ * values, -2^31 ... -1.
+ *
+ * serialize() writes a little-endian form that can be read back with deserialize(), or queried in place with the
+ * static contains(ByteBuffer, int), for example on a MappedByteBuffer, without copying it onto the heap. The layout
+ * is an 8-byte header (magic, container count), one 12-byte descriptor per container (high bits, type, cardinality,
+ * offset of its data) sorted by high bits, then the container data. It is specific to this class and is not the
+ * portable format of the Roaring libraries.
+ *
+ * Complexity (c = number of containers, at most 65536):
+ *
+ *   Algorithm         Worst Case
+ *   contains          O(log c + log 4096)
+ *   add / remove      O(log c + 4096)        (shifting an array or run container)
+ *   and / or / andNot O(c1 + c2) container operations, each O(4096) at most or 1024 word operations
+ *   cardinality       O(c)
+ */
+public class RoaringBitmap {
+    /** Largest number of values an array container holds before it is converted to a bitmap. */
+    private static final int MAX_ARRAY_CARDINALITY = 4096;
+    /** 64-bit words of a bitmap container, one bit for each of the 65536 possible low halves. */
+    private static final int BITMAP_WORDS = 1024;
+    /** Bytes of a serialized bitmap container. */
+    private static final int BITMAP_BYTES = BITMAP_WORDS * 8;
+    /** Identifies serialized bitmaps ("RBM1"). */
+    private static final int MAGIC = 0x52424D31;
+    /** Bytes of the serialized header: magic and container count. */
+    private static final int HEADER_SIZE = 8;
+    /** Bytes of a serialized container descriptor: high bits, type, cardinality and data offset. */
+    private static final int DESCRIPTOR_SIZE = 12;
+    private static final int ARRAY = 0;
+    private static final int BITMAP = 1;
+    private static final int RUN = 2;
+
+    /** High 16 bits of the values in each container, sorted; only the first size entries are used. */
+    private char[] keys;
+    /** Containers holding the low 16 bits, at the same index as their key. */
+    private Container[] containers;
+    /** Number of containers. */
+    private int size;
+
+    /**
+     * Constructs an empty bitmap.
+     */
+    public RoaringBitmap() {
+        this(4);
+    }
+
+    private RoaringBitmap(int containerCapacity) {
+        this.keys = new char[Math.max(1, containerCapacity)];
+        this.containers = new Container[Math.max(1, containerCapacity)];
+    }
+
+    /**
+     * Creates a bitmap holding the given values.
+     *
+     * @param values values to add
+     * @return a new bitmap
+     */
+    public static RoaringBitmap of(int... values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds the given value if it is not already present.
+     *
+     * @param value value to add
+     * @return true if the bitmap did not already contain the value
+     */
+    public boolean add(int value) {
+        char high = (char) (value >>> 16);
+        int i = indexOf(high);
+        if (i < 0) {
+            insertContainer(-i - 1, high, new ArrayContainer(4).add((char) value));
+            return true;
+        }
+        Container container = containers[i];
+        int before = container.cardinality();
+        containers[i] = container.add((char) value);
+        return containers[i].cardinality() != before;
+    }
+
+    /**
+     * Adds every value in [start, end), where both bounds are unsigned 32-bit positions. Each container covered by
+     * the range is merged with a single run, so adding a dense range is cheap and keeps it compact.
+     *
+     * @param start first value to add, between 0 and 2^32
+     * @param end one past the last value to add, between start and 2^32
+     * @throws IllegalArgumentException if the bounds are out of order or out of range
+     */
+    public void addRange(long start, long end) {
+        if (start < 0 || start > end || end > 1L << 32) {
+            throw new IllegalArgumentException("Range must satisfy 0 <= start <= end <= 2^32, got [" + start + ", "
+                    + end + ")");
+        }
+        if (start == end) {
+            return;
+        }
+        long last = end - 1;
+        int firstHigh = (int) (start >>> 16);
+        int lastHigh = (int) (last >>> 16);
+        for (int high = firstHigh; high <= lastHigh; high++) {
+            int first = high == firstHigh ? (int) (start & 0xFFFF) : 0;
+            int lastLow = high == lastHigh ? (int) (last & 0xFFFF) : 0xFFFF;
+            RunContainer range = new RunContainer(2);
+            range.append(first, lastLow);
+            int i = indexOf((char) high);
+            if (i < 0) {
+                insertContainer(-i - 1, (char) high, range);
+            } else {
+                containers[i] = or(containers[i], range);
+            }
+        }
+    }
+
+    /**
+     * Removes the given value if it is present.
+     *
+     * @param value value to remove
+     * @return true if the bitmap contained the value
+     */
+    public boolean remove(int value) {
+        int i = indexOf((char) (value >>> 16));
+        if (i < 0) {
+            return false;
+        }
+        Container container = containers[i];
+        int before = container.cardinality();
+        container = container.remove((char) value);
+        if (container.cardinality() == 0) {
+            removeContainer(i);
+        } else {
+            containers[i] = container;
+        }
+        return container.cardinality() != before;
+    }
+
+    /**
+     * Returns true if this bitmap contains the given value.
+     *
+     * @param value value whose presence is to be tested
+     * @return true if the value is present
+     */
+    public boolean contains(int value) {
+        int i = indexOf((char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    /**
+     * Returns the number of values in this bitmap, which can exceed Integer.MAX_VALUE.
+     *
+     * @return the cardinality
+     */
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Returns true if this bitmap contains no values.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values from this bitmap.
+     */
+    public void clear() {
+        Arrays.fill(containers, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns a new bitmap holding the values present in both this bitmap and the other one.
+     *
+     * @param other bitmap to intersect with (not modified)
+     * @return a new bitmap
+     * @throws NullPointerException if other is null
+     */
+    public RoaringBitmap and(RoaringBitmap other) {
+        requireBitmap(other);
+        RoaringBitmap result = new RoaringBitmap(Math.min(size, other.size));
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], and(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap holding the values present in this bitmap, the other one, or both.
+     *
+     * @param other bitmap to unite with (not modified)
+     * @return a new bitmap
+     * @throws NullPointerException if other is null
+     */
+    public RoaringBitmap or(RoaringBitmap other) {
+        requireBitmap(other);
+        RoaringBitmap result = new RoaringBitmap(size + other.size);
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.append(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.append(keys[i], or(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap holding the values of this bitmap that are not in the other one.
+     *
+     * @param other bitmap whose values are to be excluded (not modified)
+     * @return a new bitmap
+     * @throws NullPointerException if other is null
+     */
+    public RoaringBitmap andNot(RoaringBitmap other) {
+        requireBitmap(other);
+        RoaringBitmap result = new RoaringBitmap(size);
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.appendIfNotEmpty(keys[i], andNot(containers[i], other.containers[j]));
+            } else {
+                result.append(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts every container to whichever of the array, bitmap and run forms is smallest. Worth calling once after
+     * a bitmap has been filled value by value, since only addRange creates run containers on its own.
+     *
+     * @return true if any container changed form
+     */
+    public boolean runOptimize() {
+        boolean changed = false;
+        for (int i = 0; i < size; i++) {
+            Container optimized = optimize(containers[i]);
+            if (optimized != containers[i]) {
+                containers[i] = optimized;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the values of this bitmap in unsigned order.
+     *
+     * @return a new array of the values
+     * @throws IllegalStateException if the bitmap holds more values than an array can
+     */
+    public int[] toArray() {
+        long cardinality = cardinality();
+        if (cardinality > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Bitmap holds " + cardinality + " values, too many for an array");
+        }
+        int[] values = new int[(int) cardinality];
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            position = containers[i].fill(keys[i] << 16, values, position);
+        }
+        return values;
+    }
+
+    /**
+     * Performs the given action for each value of this bitmap, in unsigned order.
+     *
+     * @param action action to perform
+     * @throws NullPointerException if action is null
+     */
+    public void forEach(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException("Action must not be null");
+        }
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns the number of bytes serialize() writes.
+     *
+     * @return the serialized size
+     */
+    public int serializedSizeInBytes() {
+        int bytes = HEADER_SIZE + DESCRIPTOR_SIZE * size;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].serializedSize();
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes this bitmap at the buffer's position and advances the position past it. The buffer's byte order is
+     * ignored: the serialized form is always little-endian.
+     *
+     * @param buffer buffer to write to
+     * @throws IllegalArgumentException if the buffer has fewer than serializedSizeInBytes() bytes remaining
+     */
+    public void serialize(ByteBuffer buffer) {
+        int bytes = serializedSizeInBytes();
+        if (buffer.remaining() < bytes) {
+            throw new IllegalArgumentException("Buffer has " + buffer.remaining() + " bytes remaining, need " + bytes);
+        }
+        ByteBuffer out = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int base = buffer.position();
+        out.putInt(base, MAGIC);
+        out.putInt(base + 4, size);
+        int offset = HEADER_SIZE + DESCRIPTOR_SIZE * size;
+        for (int i = 0; i < size; i++) {
+            Container container = containers[i];
+            int descriptor = base + HEADER_SIZE + DESCRIPTOR_SIZE * i;
+            out.putChar(descriptor, keys[i]);
+            out.putChar(descriptor + 2, (char) container.type());
+            out.putInt(descriptor + 4, container.cardinality());
+            out.putInt(descriptor + 8, offset);
+            container.write(out, base + offset);
+            offset += container.serializedSize();
+        }
+        buffer.position(base + offset);
+    }
+
+    /**
+     * Reads a bitmap written by serialize() from the buffer's position and advances the position past it.
+     *
+     * @param buffer buffer to read from
+     * @return a new bitmap, independent of the buffer
+     * @throws IllegalArgumentException if the buffer does not hold a serialized bitmap at its position
+     */
+    public static RoaringBitmap deserialize(ByteBuffer buffer) {
+        ByteBuffer in = littleEndian(buffer);
+        int base = buffer.position();
+        int count = checkHeader(in, base);
+        RoaringBitmap bitmap = new RoaringBitmap(count);
+        int end = base + HEADER_SIZE + DESCRIPTOR_SIZE * count;
+        for (int i = 0; i < count; i++) {
+            int descriptor = base + HEADER_SIZE + DESCRIPTOR_SIZE * i;
+            char key = in.getChar(descriptor);
+            int type = in.getChar(descriptor + 2);
+            int cardinality = in.getInt(descriptor + 4);
+            int position = base + in.getInt(descriptor + 8);
+            Container container;
+            if (type == ARRAY) {
+                char[] values = new char[cardinality];
+                for (int j = 0; j < cardinality; j++) {
+                    values[j] = in.getChar(position + 2 * j);
+                }
+                container = new ArrayContainer(values, cardinality);
+            } else if (type == BITMAP) {
+                long[] words = new long[BITMAP_WORDS];
+                for (int j = 0; j < BITMAP_WORDS; j++) {
+                    words[j] = in.getLong(position + 8 * j);
+                }
+                container = new BitmapContainer(words, cardinality);
+            } else if (type == RUN) {
+                int runCount = in.getChar(position);
+                char[] runs = new char[2 * runCount];
+                for (int j = 0; j < runs.length; j++) {
+                    runs[j] = in.getChar(position + 2 + 2 * j);
+                }
+                container = new RunContainer(runs, runCount, cardinality);
+            } else {
+                throw new IllegalArgumentException("Unknown container type " + type);
+            }
+            bitmap.append(key, container);
+            end = Math.max(end, position + container.serializedSize());
+        }
+        buffer.position(end);
+        return bitmap;
+    }
+
+    /**
+     * Tests whether a bitmap serialized at the buffer's position contains the given value, reading only the bytes it
+     * needs: a binary search over the container descriptors and then one over the container's data. Lets a
+     * memory-mapped bitmap be queried without deserializing it. The buffer's position is not changed.
+     *
+     * @param serialized buffer holding a serialized bitmap at its position
+     * @param value value whose presence is to be tested
+     * @return true if the value is present
+     * @throws IllegalArgumentException if the buffer does not hold a serialized bitmap at its position
+     */
+    public static boolean contains(ByteBuffer serialized, int value) {
+        ByteBuffer in = littleEndian(serialized);
+        int base = serialized.position();
+        int count = checkHeader(in, base);
+        char high = (char) (value >>> 16);
+        char low = (char) value;
+        int lo = 0;
+        int hi = count - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int descriptor = base + HEADER_SIZE + DESCRIPTOR_SIZE * mid;
+            char key = in.getChar(descriptor);
+            if (key < high) {
+                lo = mid + 1;
+            } else if (key > high) {
+                hi = mid - 1;
+            } else {
+                int type = in.getChar(descriptor + 2);
+                int position = base + in.getInt(descriptor + 8);
+                if (type == BITMAP) {
+                    return (in.getLong(position + 8 * (low >>> 6)) & (1L << low)) != 0;
+                }
+                if (type == ARRAY) {
+                    return searchChars(in, position, 2, in.getInt(descriptor + 4), low) >= 0;
+                }
+                int run = searchChars(in, position + 2, 4, in.getChar(position), low);
+                if (run >= 0) {
+                    return true;
+                }
+                run = -run - 2; // the run starting before low, if any
+                return run >= 0 && low - in.getChar(position + 2 + 4 * run) <= in.getChar(position + 4 + 4 * run);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Binary search over count chars stored stride bytes apart starting at position, with the same return
+     * convention as Arrays.binarySearch.
+     */
+    private static int searchChars(ByteBuffer in, int position, int stride, int count, char target) {
+        int lo = 0;
+        int hi = count - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char value = in.getChar(position + stride * mid);
+            if (value < target) {
+                lo = mid + 1;
+            } else if (value > target) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    private static ByteBuffer littleEndian(ByteBuffer buffer) {
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? buffer : buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /** Validates the header at base and returns the container count. */
+    private static int checkHeader(ByteBuffer in, int base) {
+        if (in.limit() - base < HEADER_SIZE || in.getInt(base) != MAGIC) {
+            throw new IllegalArgumentException("Buffer does not hold a serialized RoaringBitmap at position " + base);
+        }
+        return in.getInt(base + 4);
+    }
+
+    @Override
+    public String toString() {
+        int[] counts = new int[3];
+        for (int i = 0; i < size; i++) {
+            counts[containers[i].type()]++;
+        }
+        return "RoaringBitmap{cardinality=" + cardinality() + ", containers: " + counts[ARRAY] + " array, "
+                + counts[BITMAP] + " bitmap, " + counts[RUN] + " run}";
+    }
+
+    // -------------------------------------------------------------------------
+    // Container index
+    // -------------------------------------------------------------------------
+
+    private static void requireBitmap(RoaringBitmap other) {
+        if (other == null) {
+            throw new NullPointerException("Bitmap must not be null");
+        }
+    }
+
+    /** Binary search for the container with the given high bits, with the Arrays.binarySearch return convention. */
+    private int indexOf(char high) {
+        // The last container is the usual target when values are added in increasing order
+        if (size > 0 && keys[size - 1] == high) {
+            return size - 1;
+        }
+        return search(keys, size, high);
+    }
+
+    /**
+     * Binary search over the first count values, with the Arrays.binarySearch return convention. Each step picks
+     * the next half with a conditional move rather than a branch: the outcome of each comparison is a coin flip for
+     * random lookups, and mispredicted branches would otherwise dominate the cost of a search.
+     */
+    private static int search(char[] values, int count, char target) {
+        if (count == 0) {
+            return -1;
+        }
+        int base = 0;
+        for (int n = count; n > 1; n -= n >>> 1) {
+            int middle = base + (n >>> 1);
+            base = values[middle] <= target ? middle : base;
+        }
+        char value = values[base];
+        return value == target ? base : -(base + (value < target ? 1 : 0) + 1);
+    }
+
+    private void insertContainer(int index, char high, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = high;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    /** Adds a container after all existing ones; high must be larger than every key present. */
+    private void append(char high, Container container) {
+        insertContainer(size, high, container);
+    }
+
+    private void appendIfNotEmpty(char high, Container container) {
+        if (container.cardinality() > 0) {
+            append(high, container);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Containers
+    // -------------------------------------------------------------------------
+
+    /**
+     * Holds the low 16 bits of the values sharing one high half. add and remove may return a container of another
+     * form, which then replaces this one.
+     */
+    private abstract static class Container {
+        abstract int type();
+
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        /** Number of runs of consecutive values, which decides whether the run form would be smaller. */
+        abstract int numberOfRuns();
+
+        /** Sets the bit of every value of this container in the given words. */
+        abstract void fillBitmap(long[] words);
+
+        /** Returns the values in increasing order, in an array of exactly cardinality() elements. */
+        abstract char[] values();
+
+        /** Writes high | value for each value into out from position on; returns the next free position. */
+        abstract int fill(int high, int[] out, int position);
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract int serializedSize();
+
+        abstract void write(ByteBuffer out, int position);
+
+        abstract Container copy();
+    }
+
+    /** Sorted array of values; used for at most MAX_ARRAY_CARDINALITY values. */
+    private static final class ArrayContainer extends Container {
+        char[] content;
+        int cardinality;
+
+        ArrayContainer(int capacity) {
+            this.content = new char[capacity];
+        }
+
+        ArrayContainer(char[] content, int cardinality) {
+            this.content = content;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int type() {
+            return ARRAY;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return search(content, cardinality, value) >= 0;
+        }
+
+        @Override
+        Container add(char value) {
+            int i = Arrays.binarySearch(content, 0, cardinality, value);
+            if (i >= 0) {
+                return this;
+            }
+            if (cardinality == MAX_ARRAY_CARDINALITY) {
+                return toBitmap(this).add(value);
+            }
+            i = -i - 1;
+            if (cardinality == content.length) {
+                content = Arrays.copyOf(content, Math.min(MAX_ARRAY_CARDINALITY, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(content, i, content, i + 1, cardinality - i);
+            content[i] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int i = Arrays.binarySearch(content, 0, cardinality, value);
+            if (i >= 0) {
+                System.arraycopy(content, i + 1, content, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        int numberOfRuns() {
+            int runs = cardinality == 0 ? 0 : 1;
+            for (int i = 1; i < cardinality; i++) {
+                if (content[i] != content[i - 1] + 1) {
+                    runs++;
+                }
+            }
+            return runs;
+        }
+
+        @Override
+        void fillBitmap(long[] words) {
+            for (int i = 0; i < cardinality; i++) {
+                words[content[i] >>> 6] |= 1L << content[i];
+            }
+        }
+
+        @Override
+        char[] values() {
+            return Arrays.copyOf(content, cardinality);
+        }
+
+        @Override
+        int fill(int high, int[] out, int position) {
+            for (int i = 0; i < cardinality; i++) {
+                out[position++] = high | content[i];
+            }
+            return position;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | content[i]);
+            }
+        }
+
+        @Override
+        int serializedSize() {
+            return 2 * cardinality;
+        }
+
+        @Override
+        void write(ByteBuffer out, int position) {
+            for (int i = 0; i < cardinality; i++) {
+                out.putChar(position + 2 * i, content[i]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(content, cardinality), cardinality);
+        }
+    }
+
+    /** One bit per possible value; used for more than MAX_ARRAY_CARDINALITY values. */
+    private static final class BitmapContainer extends Container {
+        final long[] words;
+        int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int type() {
+            return BITMAP;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Container add(char value) {
+            long word = words[value >>> 6];
+            long updated = word | (1L << value);
+            if (updated != word) {
+                words[value >>> 6] = updated;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long word = words[value >>> 6];
+            long updated = word & ~(1L << value);
+            if (updated != word) {
+                words[value >>> 6] = updated;
+                cardinality--;
+                if (cardinality <= MAX_ARRAY_CARDINALITY) {
+                    return new ArrayContainer(values(), cardinality);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        int numberOfRuns() {
+            int runs = 0;
+            long carry = 0;
+            for (long word : words) {
+                // A run starts at every set bit whose lower neighbour is clear
+                runs += Long.bitCount(word & ~((word << 1) | carry));
+                carry = word >>> 63;
+            }
+            return runs;
+        }
+
+        @Override
+        void fillBitmap(long[] target) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                target[i] |= words[i];
+            }
+        }
+
+        @Override
+        char[] values() {
+            char[] values = new char[cardinality];
+            int position = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[position++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                }
+            }
+            return values;
+        }
+
+        @Override
+        int fill(int high, int[] out, int position) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    out[position++] = high | (i << 6) | Long.numberOfTrailingZeros(word);
+                }
+            }
+            return position;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                }
+            }
+        }
+
+        @Override
+        int serializedSize() {
+            return BITMAP_BYTES;
+        }
+
+        @Override
+        void write(ByteBuffer out, int position) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                out.putLong(position + 8 * i, words[i]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+    }
+
+    /**
+     * Sorted, non-overlapping, non-adjacent runs of consecutive values, stored as (start, length - 1) pairs so that
+     * a run of all 65536 values fits in a char.
+     */
+    private static final class RunContainer extends Container {
+        char[] runs;
+        int runCount;
+        int cardinality;
+
+        RunContainer(int capacity) {
+            this.runs = new char[2 * Math.max(1, capacity)];
+        }
+
+        RunContainer(char[] runs, int runCount, int cardinality) {
+            this.runs = runs;
+            this.runCount = runCount;
+            this.cardinality = cardinality;
+        }
+
+        int start(int run) {
+            return runs[2 * run];
+        }
+
+        int end(int run) {
+            return runs[2 * run] + runs[2 * run + 1];
+        }
+
+        /** Index of the last run starting at or before value, or -1 if there is none. */
+        int find(int value) {
+            int lo = 0;
+            int hi = runCount - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (runs[2 * mid] <= value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return lo - 1;
+        }
+
+        /**
+         * Adds [start, end] after every run present, merging it into the last run if they overlap or touch. start
+         * must not be smaller than the start of the last run.
+         */
+        void append(int start, int end) {
+            if (runCount > 0) {
+                int lastStart = start(runCount - 1);
+                int lastEnd = end(runCount - 1);
+                if (start <= lastEnd + 1) {
+                    if (end > lastEnd) {
+                        runs[2 * runCount - 1] = (char) (end - lastStart);
+                        cardinality += end - lastEnd;
+                    }
+                    return;
+                }
+            }
+            if (2 * runCount == runs.length) {
+                runs = Arrays.copyOf(runs, runs.length * 2);
+            }
+            runs[2 * runCount] = (char) start;
+            runs[2 * runCount + 1] = (char) (end - start);
+            runCount++;
+            cardinality += end - start + 1;
+        }
+
+        private void insertRun(int index, int start, int end) {
+            if (2 * runCount == runs.length) {
+                runs = Arrays.copyOf(runs, runs.length * 2);
+            }
+            System.arraycopy(runs, 2 * index, runs, 2 * index + 2, 2 * (runCount - index));
+            runs[2 * index] = (char) start;
+            runs[2 * index + 1] = (char) (end - start);
+            runCount++;
+        }
+
+        private void removeRun(int index) {
+            System.arraycopy(runs, 2 * index + 2, runs, 2 * index, 2 * (runCount - index - 1));
+            runCount--;
+        }
+
+        @Override
+        int type() {
+            return RUN;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            int run = find(value);
+            return run >= 0 && value <= end(run);
+        }
+
+        @Override
+        Container add(char value) {
+            int run = find(value);
+            if (run >= 0 && value <= end(run)) {
+                return this;
+            }
+            cardinality++;
+            boolean extendsLeft = run >= 0 && value == end(run) + 1;
+            boolean extendsRight = run + 1 < runCount && value + 1 == start(run + 1);
+            if (extendsLeft && extendsRight) {
+                runs[2 * run + 1] = (char) (end(run + 1) - start(run));
+                removeRun(run + 1);
+            } else if (extendsLeft) {
+                runs[2 * run + 1]++;
+            } else if (extendsRight) {
+                runs[2 * run + 2] = value;
+                runs[2 * run + 3]++;
+            } else {
+                insertRun(run + 1, value, value);
+            }
+            return optimize(this);
+        }
+
+        @Override
+        Container remove(char value) {
+            int run = find(value);
+            if (run < 0 || value > end(run)) {
+                return this;
+            }
+            cardinality--;
+            int start = start(run);
+            int end = end(run);
+            if (start == end) {
+                removeRun(run);
+            } else if (value == start) {
+                runs[2 * run] = (char) (value + 1);
+                runs[2 * run + 1]--;
+            } else if (value == end) {
+                runs[2 * run + 1]--;
+            } else {
+                runs[2 * run + 1] = (char) (value - 1 - start);
+                insertRun(run + 1, value + 1, end);
+            }
+            return optimize(this);
+        }
+
+        @Override
+        int numberOfRuns() {
+            return runCount;
+        }
+
+        @Override
+        void fillBitmap(long[] words) {
+            for (int run = 0; run < runCount; run++) {
+                setRange(words, start(run), end(run));
+            }
+        }
+
+        @Override
+        char[] values() {
+            char[] values = new char[cardinality];
+            int position = 0;
+            for (int run = 0; run < runCount; run++) {
+                for (int value = start(run), end = end(run); value <= end; value++) {
+                    values[position++] = (char) value;
+                }
+            }
+            return values;
+        }
+
+        @Override
+        int fill(int high, int[] out, int position) {
+            for (int run = 0; run < runCount; run++) {
+                for (int value = start(run), end = end(run); value <= end; value++) {
+                    out[position++] = high | value;
+                }
+            }
+            return position;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int run = 0; run < runCount; run++) {
+                for (int value = start(run), end = end(run); value <= end; value++) {
+                    action.accept(high | value);
+                }
+            }
+        }
+
+        @Override
+        int serializedSize() {
+            return 2 + 4 * runCount;
+        }
+
+        @Override
+        void write(ByteBuffer out, int position) {
+            out.putChar(position, (char) runCount);
+            for (int i = 0; i < 2 * runCount; i++) {
+                out.putChar(position + 2 + 2 * i, runs[i]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new RunContainer(Arrays.copyOf(runs, 2 * runCount), runCount, cardinality);
+        }
+
+        RunContainer or(RunContainer other) {
+            RunContainer result = new RunContainer(runCount + other.runCount);
+            int i = 0;
+            int j = 0;
+            while (i < runCount || j < other.runCount) {
+                if (j == other.runCount || (i < runCount && start(i) <= other.start(j))) {
+                    result.append(start(i), end(i));
+                    i++;
+                } else {
+                    result.append(other.start(j), other.end(j));
+                    j++;
+                }
+            }
+            return result;
+        }
+
+        RunContainer and(RunContainer other) {
+            RunContainer result = new RunContainer(Math.max(runCount, other.runCount));
+            int i = 0;
+            int j = 0;
+            while (i < runCount && j < other.runCount) {
+                int start = Math.max(start(i), other.start(j));
+                int end = Math.min(end(i), other.end(j));
+                if (start <= end) {
+                    result.append(start, end);
+                }
+                if (end(i) < other.end(j)) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return result;
+        }
+
+        RunContainer andNot(RunContainer other) {
+            RunContainer result = new RunContainer(runCount + other.runCount);
+            int j = 0;
+            for (int i = 0; i < runCount; i++) {
+                int start = start(i);
+                int end = end(i);
+                while (j < other.runCount && other.end(j) < start) {
+                    j++;
+                }
+                // Cut out every run of other that overlaps [start, end]
+                while (j < other.runCount && other.start(j) <= end) {
+                    if (other.start(j) > start) {
+                        result.append(start, other.start(j) - 1);
+                    }
+                    start = other.end(j) + 1;
+                    if (other.end(j) >= end) {
+                        break;
+                    }
+                    j++;
+                }
+                if (start <= end) {
+                    result.append(start, end);
+                }
+            }
+            return result;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Container conversions and operations
+    // -------------------------------------------------------------------------
+
+    /** Sets the bits first ... last (inclusive) of the given words. */
+    private static void setRange(long[] words, int first, int last) {
+        int firstWord = first >>> 6;
+        int lastWord = last >>> 6;
+        long firstMask = -1L << first;
+        long lastMask = -1L >>> (63 - (last & 63));
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        Arrays.fill(words, firstWord + 1, lastWord, -1L);
+        words[lastWord] |= lastMask;
+    }
+
+    /** Clears the bits first ... last (inclusive) of the given words. */
+    private static void clearRange(long[] words, int first, int last) {
+        int firstWord = first >>> 6;
+        int lastWord = last >>> 6;
+        long firstMask = -1L << first;
+        long lastMask = -1L >>> (63 - (last & 63));
+        if (firstWord == lastWord) {
+            words[firstWord] &= ~(firstMask & lastMask);
+            return;
+        }
+        words[firstWord] &= ~firstMask;
+        Arrays.fill(words, firstWord + 1, lastWord, 0L);
+        words[lastWord] &= ~lastMask;
+    }
+
+    /** Returns a new array of words with the bits of the given container set. */
+    private static long[] toWords(Container container) {
+        if (container instanceof BitmapContainer) {
+            return ((BitmapContainer) container).words.clone();
+        }
+        long[] words = new long[BITMAP_WORDS];
+        container.fillBitmap(words);
+        return words;
+    }
+
+    /** Wraps the given words in a bitmap container, or an array container if few enough bits are set. */
+    private static Container fromWords(long[] words) {
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+        return cardinality > MAX_ARRAY_CARDINALITY ? bitmap : new ArrayContainer(bitmap.values(), cardinality);
+    }
+
+    private static BitmapContainer toBitmap(Container container) {
+        return new BitmapContainer(toWords(container), container.cardinality());
+    }
+
+    private static RunContainer toRun(Container container) {
+        RunContainer run = new RunContainer(container.numberOfRuns());
+        for (char value : container.values()) {
+            run.append(value, value);
+        }
+        return run;
+    }
+
+    /** Returns the container in the smallest of its three possible forms (itself if it already has it). */
+    private static Container optimize(Container container) {
+        int cardinality = container.cardinality();
+        int plainSize = cardinality <= MAX_ARRAY_CARDINALITY ? 2 * cardinality : BITMAP_BYTES;
+        if (2 + 4 * container.numberOfRuns() < plainSize) {
+            return container instanceof RunContainer ? container : toRun(container);
+        }
+        if (cardinality <= MAX_ARRAY_CARDINALITY) {
+            return container instanceof ArrayContainer
+                    ? container : new ArrayContainer(container.values(), cardinality);
+        }
+        return container instanceof BitmapContainer ? container : toBitmap(container);
+    }
+
+    /** Keeps (or, with keep false, drops) the values of the array that are in the other container. */
+    private static Container filter(ArrayContainer array, Container other, boolean keep) {
+        char[] values = new char[array.cardinality];
+        int count = 0;
+        for (int i = 0; i < array.cardinality; i++) {
+            if (other.contains(array.content[i]) == keep) {
+                values[count++] = array.content[i];
+            }
+        }
+        return new ArrayContainer(values, count);
+    }
+
+    private static Container and(Container a, Container b) {
+        if (a instanceof ArrayContainer) {
+            return filter((ArrayContainer) a, b, true);
+        }
+        if (b instanceof ArrayContainer) {
+            return filter((ArrayContainer) b, a, true);
+        }
+        if (a instanceof RunContainer && b instanceof RunContainer) {
+            return optimize(((RunContainer) a).and((RunContainer) b));
+        }
+        long[] words = toWords(a);
+        long[] other = b instanceof BitmapContainer ? ((BitmapContainer) b).words : toWords(b);
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            words[i] &= other[i];
+        }
+        return fromWords(words);
+    }
+
+    private static Container or(Container a, Container b) {
+        if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+            ArrayContainer x = (ArrayContainer) a;
+            ArrayContainer y = (ArrayContainer) b;
+            if (x.cardinality + y.cardinality > MAX_ARRAY_CARDINALITY) {
+                long[] words = new long[BITMAP_WORDS];
+                x.fillBitmap(words);
+                y.fillBitmap(words);
+                return fromWords(words);
+            }
+            char[] merged = new char[x.cardinality + y.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < x.cardinality && j < y.cardinality) {
+                char u = x.content[i];
+                char v = y.content[j];
+                merged[count++] = u <= v ? u : v;
+                if (u <= v) {
+                    i++;
+                }
+                if (v <= u) {
+                    j++;
+                }
+            }
+            while (i < x.cardinality) {
+                merged[count++] = x.content[i++];
+            }
+            while (j < y.cardinality) {
+                merged[count++] = y.content[j++];
+            }
+            return new ArrayContainer(merged, count);
+        }
+        if (!(a instanceof BitmapContainer) && !(b instanceof BitmapContainer)) {
+            // Runs and arrays: merge as runs, then pick the smallest form
+            RunContainer x = a instanceof RunContainer ? (RunContainer) a : toRun(a);
+            RunContainer y = b instanceof RunContainer ? (RunContainer) b : toRun(b);
+            return optimize(x.or(y));
+        }
+        long[] words = toWords(a instanceof BitmapContainer ? a : b);
+        Container other = a instanceof BitmapContainer ? b : a;
+        if (other instanceof BitmapContainer) {
+            long[] otherWords = ((BitmapContainer) other).words;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] |= otherWords[i];
+            }
+        } else {
+            other.fillBitmap(words);
+        }
+        return fromWords(words);
+    }
+
+    private static Container andNot(Container a, Container b) {
+        if (a instanceof ArrayContainer) {
+            return filter((ArrayContainer) a, b, false);
+        }
+        if (a instanceof RunContainer && b instanceof RunContainer) {
+            return optimize(((RunContainer) a).andNot((RunContainer) b));
+        }
+        long[] words = toWords(a);
+        if (b instanceof BitmapContainer) {
+            long[] other = ((BitmapContainer) b).words;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] &= ~other[i];
+            }
+        } else if (b instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) b;
+            for (int i = 0; i < array.cardinality; i++) {
+                words[array.content[i] >>> 6] &= ~(1L << array.content[i]);
+            }
+        } else {
+            RunContainer run = (RunContainer) b;
+            for (int i = 0; i < run.runCount; i++) {
+                clearRange(words, run.start(i), run.end(i));
+            }
+        }
+        Container result = fromWords(words);
+        return a instanceof RunContainer ? optimize(result) : result;
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+
+        System.out.println("Adding values:");
+        System.out.println("Add 7: " + bitmap.add(7));           // true
+        System.out.println("Add 7 again: " + bitmap.add(7));     // false (duplicate)
+        System.out.println("Add 70000: " + bitmap.add(70000));   // true (second container)
+        System.out.println("Add -1: " + bitmap.add(-1));         // true (sorts last, as 2^32 - 1)
+        System.out.println("Values: " + Arrays.toString(bitmap.toArray())); // [7, 70000, -1]
+
+        System.out.println("\nContains check:");
+        System.out.println("Contains 70000? " + bitmap.contains(70000)); // true
+        System.out.println("Contains 8? " + bitmap.contains(8));         // false
+
+        System.out.println("\nDense range of document IDs:");
+        RoaringBitmap documents = new RoaringBitmap();
+        documents.addRange(0, 1_000_000);
+        System.out.println(documents);                                           // 16 run containers
+        System.out.println("Serialized bytes: " + documents.serializedSizeInBytes()); // 8 + 16 * 18 = 296
+
+        System.out.println("\nSet operations:");
+        RoaringBitmap evens = new RoaringBitmap();
+        for (int i = 0; i < 200_000; i += 2) {
+            evens.add(i);
+        }
+        RoaringBitmap firstThousand = new RoaringBitmap();
+        firstThousand.addRange(0, 1000);
+        System.out.println("evens: " + evens);                                                  // 1 array, 3 bitmap
+        System.out.println("evens and [0, 1000): " + evens.and(firstThousand).cardinality());   // 500
+        System.out.println("evens or [0, 1000): " + evens.or(firstThousand).cardinality());     // 100500
+        System.out.println("[0, 1000) andNot evens: " + firstThousand.andNot(evens).cardinality()); // 500
+
+        System.out.println("\nSerialization:");
+        ByteBuffer buffer = ByteBuffer.allocate(evens.serializedSizeInBytes());
+        evens.serialize(buffer);
+        buffer.flip();
+        System.out.println("Contains 1234 (serialized)? " + RoaringBitmap.contains(buffer, 1234)); // true
+        System.out.println("Contains 1235 (serialized)? " + RoaringBitmap.contains(buffer, 1235)); // false
+        RoaringBitmap copy = RoaringBitmap.deserialize(buffer);
+        System.out.println("Deserialized cardinality: " + copy.cardinality()); // 100000
+
+        System.out.println("\nRemoving and clearing:");
+        System.out.println("Remove 70000: " + bitmap.remove(70000)); // true
+        System.out.println("Remove 70000 again: " + bitmap.remove(70000)); // false
+        bitmap.clear();
+        System.out.println("Is empty? " + bitmap.isEmpty()); // true
+    }
+}
+```
+
+### Explanation of Key Points
+
+1. **Containers**
+
+   * A value's high 16 bits pick its container and its low 16 bits are stored inside it, so each container covers 65536 consecutive values.
+   * Array containers hold up to 4096 sorted `char`s; past that a bitmap of 1024 `long`s (8 KiB) is smaller, so the container converts. Removing values converts a bitmap back once it holds 4096 or fewer.
+   * Run containers store `(start, length - 1)` pairs and are created by `addRange`, by `runOptimize()`, and by operations on runs. A run container that gets fragmented converts to whichever plain form is smaller.
+
+2. **Set Operations**
+
+   * `and`, `or` and `andNot` walk the two sorted container lists together and combine only containers with the same high bits.
+   * Bitmap-with-bitmap combines 64 values per `long` operation; an array on either side of `and` (or on the left of `andNot`) is simply filtered with `contains`; run-with-run works on intervals.
+
+3. **Serialized Form**
+
+   * Header, fixed-size descriptors with data offsets, then container data, all little-endian.
+   * `RoaringBitmap.contains(ByteBuffer, int)` binary searches the descriptors and then the container's data directly in the buffer, so a `MappedByteBuffer` can be queried without copying the bitmap onto the heap.
+
+4. **Example `main(...)`**
+   Demonstrates adding and testing values, a compressed dense range, the set operations, serialization and in-place lookups, removal, and clearing.
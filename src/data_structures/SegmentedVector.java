@@ -0,0 +1,343 @@
+```java
+package data_structures;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A growable list that stores its elements in fixed-size chunks instead of one contiguous array. A small spine array
+ * holds the chunks; element i lives at spine[i >>> chunkShift][i & chunkMask], so get and set stay O(1).
+ *
+ * Appending never copies elements: when the last chunk is full, a new chunk is allocated and linked into the spine.
+ * Only the spine is ever copied (it doubles like a Vector's array, but holds one reference per chunk), so growing
+ * to n elements needs n plus one chunk of memory at any moment, where {@link Vector} needs up to 2.5n while it copies
+ * into the larger array. The cost is an extra indirection per access and no cheap insertion in the middle.
+ *
+ * Removing from the end releases chunks as they empty, keeping one spare chunk so that a size oscillating around a
+ * chunk boundary does not allocate and free a chunk on every call.
+ *
+ * Complexity:
+ *
+ *   Operation           Average        Worst Case
+ *   add(element)        O(1)           O(n / chunkSize)  (spine growth; no element is copied)
+ *   get(index)          O(1)           O(1)
+ *   set(index, element) O(1)           O(1)
+ *   removeLast()        O(1)           O(1)
+ *   remove(index)       O(n)           O(n)
+ *   clear()             O(1)           O(1)
+ *
+ * @param <T> the type of elements stored in the vector
+ */
+public class SegmentedVector<T> {
+    /** Default number of elements per chunk (16K references: 64 KiB with compressed oops). */
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 14;
+    /** Initial number of slots in the spine. */
+    private static final int INITIAL_SPINE_LENGTH = 8;
+
+    /** The chunks. Slots below chunkCount are in use; spine[chunkCount] may hold an empty spare; the rest are null. */
+    private Object[][] spine;
+    /** Number of chunks in use. */
+    private int chunkCount;
+    /** Number of elements currently in the vector. */
+    private int size;
+    /** log2 of the chunk size. */
+    private final int chunkShift;
+    /** chunkSize - 1, to take an index within a chunk. */
+    private final int chunkMask;
+
+    /**
+     * Constructs an empty SegmentedVector with chunks of DEFAULT_CHUNK_SIZE (16384) elements.
+     */
+    public SegmentedVector() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs an empty SegmentedVector with the given chunk size.
+     *
+     * @param chunkSize number of elements per chunk (will be rounded up to a power of two)
+     * @throws IllegalArgumentException if chunkSize is non-positive or larger than 2^30
+     */
+    public SegmentedVector(int chunkSize) {
+        if (chunkSize <= 0 || chunkSize > (1 << 30)) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and 2^30: " + chunkSize);
+        }
+        this.chunkShift = 32 - Integer.numberOfLeadingZeros(chunkSize - 1);
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.spine = new Object[INITIAL_SPINE_LENGTH][];
+    }
+
+    /**
+     * Returns the number of elements in this vector.
+     *
+     * @return the size of the vector
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this vector contains no elements.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements per chunk.
+     *
+     * @return the chunk size, a power of two
+     */
+    public int chunkSize() {
+        return chunkMask + 1;
+    }
+
+    /**
+     * Returns the number of elements the chunks in use can hold (not counting the spare).
+     *
+     * @return the current capacity
+     */
+    public long capacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    /**
+     * Adds the specified element to the end of this vector. Allocates a new chunk if the last one is full; existing
+     * elements are never copied.
+     *
+     * @param value the element to add
+     * @return true (as specified by Collection.add)
+     * @throws IllegalStateException if the vector already holds Integer.MAX_VALUE elements
+     */
+    public boolean add(T value) {
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("SegmentedVector is full");
+        }
+        int chunk = size >>> chunkShift;
+        if (chunk == chunkCount) {
+            addChunk();
+        }
+        spine[chunk][size & chunkMask] = value;
+        size++;
+        return true;
+    }
+
+    /** Puts one more chunk in use, reusing the spare if there is one and doubling the spine if it is full. */
+    private void addChunk() {
+        if (chunkCount == spine.length) {
+            spine = Arrays.copyOf(spine, spine.length << 1);
+        }
+        if (spine[chunkCount] == null) {
+            spine[chunkCount] = new Object[chunkMask + 1];
+        }
+        chunkCount++;
+    }
+
+    /**
+     * Returns the element at the specified position in this vector.
+     *
+     * @param index index of the element to return (0 ≤ index < size)
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        rangeCheck(index);
+        return (T) spine[index >>> chunkShift][index & chunkMask];
+    }
+
+    /**
+     * Replaces the element at the specified position in this vector with the specified element.
+     *
+     * @param index index of the element to replace (0 ≤ index < size)
+     * @param value element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T set(int index, T value) {
+        rangeCheck(index);
+        Object[] chunk = spine[index >>> chunkShift];
+        T oldValue = (T) chunk[index & chunkMask];
+        chunk[index & chunkMask] = value;
+        return oldValue;
+    }
+
+    /**
+     * Removes and returns the last element. A chunk left empty is kept as the spare, and any older spare is freed.
+     *
+     * @return the element that was removed
+     * @throws IllegalStateException if the vector is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T removeLast() {
+        if (size == 0) {
+            throw new IllegalStateException("SegmentedVector is empty");
+        }
+        size--;
+        Object[] chunk = spine[size >>> chunkShift];
+        T oldValue = (T) chunk[size & chunkMask];
+        chunk[size & chunkMask] = null; // help garbage collection
+        releaseUnusedChunks();
+        return oldValue;
+    }
+
+    /**
+     * Removes the element at the specified position in this vector. Shifts any subsequent elements to the left, one
+     * chunk at a time.
+     *
+     * @param index the index of the element to be removed (0 ≤ index < size)
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        rangeCheck(index);
+        int chunk = index >>> chunkShift;
+        int offset = index & chunkMask;
+        T oldValue = (T) spine[chunk][offset];
+        int lastChunk = (size - 1) >>> chunkShift;
+        for (; chunk <= lastChunk; chunk++, offset = 0) {
+            Object[] current = spine[chunk];
+            int end = chunk == lastChunk ? ((size - 1) & chunkMask) + 1 : chunkMask + 1;
+            System.arraycopy(current, offset + 1, current, offset, end - offset - 1);
+            // The first element of the next chunk moves into the last slot of this one
+            current[end - 1] = chunk < lastChunk ? spine[chunk + 1][0] : null;
+        }
+        size--;
+        releaseUnusedChunks();
+        return oldValue;
+    }
+
+    /** Takes chunks that no element reaches out of use. The first of them becomes the spare; the rest are freed. */
+    private void releaseUnusedChunks() {
+        int needed = (size + chunkMask) >>> chunkShift;
+        if (needed == chunkCount) {
+            return;
+        }
+        // Every slot past size is already null, so spine[needed] can serve as the spare as it is
+        for (int i = needed + 1; i <= chunkCount && i < spine.length; i++) {
+            spine[i] = null;
+        }
+        chunkCount = needed;
+    }
+
+    /**
+     * Returns true if this vector contains the specified element.
+     *
+     * @param value element whose presence in this vector is to be tested
+     * @return true if this vector contains the element
+     */
+    public boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this vector,
+     * or -1 if this vector does not contain the element.
+     *
+     * @param value element to search for
+     * @return the index of the first occurrence, or -1 if not found
+     */
+    public int indexOf(Object value) {
+        for (int chunk = 0, base = 0; chunk < chunkCount; chunk++, base += chunkMask + 1) {
+            Object[] current = spine[chunk];
+            int end = Math.min(chunkMask + 1, size - base);
+            for (int i = 0; i < end; i++) {
+                if (value == null ? current[i] == null : value.equals(current[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Performs the given action on every element in order, walking each chunk as a plain array.
+     *
+     * @param action action to perform on each element
+     * @throws NullPointerException if action is null
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException("Action must not be null");
+        }
+        for (int chunk = 0, base = 0; chunk < chunkCount; chunk++, base += chunkMask + 1) {
+            Object[] current = spine[chunk];
+            int end = Math.min(chunkMask + 1, size - base);
+            for (int i = 0; i < end; i++) {
+                action.accept((T) current[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes all of the elements from this vector and frees every chunk.
+     */
+    public void clear() {
+        spine = new Object[INITIAL_SPINE_LENGTH][];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns a string representation of the vector in the form [a, b, c, ...].
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        forEach(value -> sb.append(value).append(", "));
+        sb.setLength(sb.length() - 2);
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /** Checks if the given index is in range for get/set/remove (0 ≤ index < size). */
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) {
+        SegmentedVector<String> vector = new SegmentedVector<>(4);
+
+        System.out.println("Add elements: A .. J (chunks of " + vector.chunkSize() + ")");
+        for (char c = 'A'; c <= 'J'; c++) {
+            vector.add(String.valueOf(c));
+        }
+        System.out.println("Vector: " + vector);                  // [A, B, C, D, E, F, G, H, I, J]
+        System.out.println("Capacity: " + vector.capacity());     // 12 (three chunks)
+        System.out.println("Get index 5: " + vector.get(5));      // F
+
+        System.out.println("\nRemove index 2 (shifts across chunks): " + vector.remove(2)); // C
+        System.out.println("Vector: " + vector);                  // [A, B, D, E, F, G, H, I, J]
+
+        System.out.println("\nSet index 0 to Z: replaced " + vector.set(0, "Z")); // A
+        System.out.println("Index of 'H': " + vector.indexOf("H"));               // 6
+
+        System.out.println("\nRemove last five");
+        for (int i = 0; i < 5; i++) {
+            vector.removeLast();
+        }
+        System.out.println("Vector: " + vector);                  // [Z, B, D, E]
+        System.out.println("Capacity: " + vector.capacity());     // 4 (plus one spare chunk)
+
+        System.out.println("\nClear vector");
+        vector.clear();
+        System.out.println("Is empty? " + vector.isEmpty());      // true
+    }
+}
+```
@@ -2,7 +2,14 @@
 package data_structures;
 
 import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * An abstract data type that can store certain values, without any particular order, and no repeated values.
@@ -18,10 +25,19 @@ import java.util.List;
  *   add          O(1)         O(n)          (all items hash to the same bucket)
  *   remove       O(1)         O(n)
  *   contains     O(1)         O(n)
+ *   union        O(n + m)                   (n, m = sizes of the two sets)
+ *   intersect    O(min(n, m))
+ *   difference   O(n)
+ *   addAll       O(m)
+ *   retainAll    O(min(n, m)) if the other set is smaller, otherwise O(n + k)
+ *   iteration    O(n + k)
+ *
+ * The set is Iterable: iterator(), forEach(), spliterator() and stream() walk the table in place, without copying
+ * the elements, and are fail-fast if the set is modified during the walk.
  *
  * @param <T> the type of elements stored in the set (must implement hashCode() and equals())
  */
-public class Set<T> {
+public class Set<T> implements Iterable<T> {
     /** Default initial capacity (number of buckets). Must be a power of two. */
     private static final int DEFAULT_INITIAL_CAPACITY = 16;
     /** Default load factor before resizing. */
@@ -35,6 +51,10 @@ public class Set<T> {
     private int threshold;
     /** Load factor for deciding when to resize. */
     private final float loadFactor;
+    /** Turns elements into hashes; chosen at construction. */
+    private final HashStrategy hashStrategy;
+    /** Number of adds, removes and resizes so far; lets iterators detect modification during a walk. */
+    private int modCount;
 
     /**
      * Node class for storing a value in each bucket's linked list.
@@ -57,6 +77,7 @@ public class Set<T> {
     @SuppressWarnings("unchecked")
     public Set() {
         this.loadFactor = DEFAULT_LOAD_FACTOR;
+        this.hashStrategy = HashStrategy.SPREAD;
         this.table = (Node<T>[]) new Node[DEFAULT_INITIAL_CAPACITY];
         this.threshold = (int) (DEFAULT_INITIAL_CAPACITY * loadFactor);
         this.size = 0;
@@ -75,6 +96,7 @@ public class Set<T> {
         }
         int cap = tableSizeFor(initialCapacity);
         this.loadFactor = DEFAULT_LOAD_FACTOR;
+        this.hashStrategy = HashStrategy.SPREAD;
         this.table = (Node<T>[]) new Node[cap];
         this.threshold = (int) (cap * loadFactor);
         this.size = 0;
@@ -87,16 +109,33 @@ public class Set<T> {
      * @param loadFactor load factor threshold for resizing
      * @throws IllegalArgumentException if initialCapacity is non-positive or loadFactor is non-positive
      */
-    @SuppressWarnings("unchecked")
     public Set(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, HashStrategy.SPREAD);
+    }
+
+    /**
+     * Constructs an empty Set with the specified initial capacity, load factor and hash strategy.
+     *
+     * @param initialCapacity initial number of buckets (will be rounded up to a power of two)
+     * @param loadFactor load factor threshold for resizing
+     * @param hashStrategy how elements are hashed, e.g. HashStrategy.seeded() for elements from untrusted clients
+     * @throws IllegalArgumentException if initialCapacity is non-positive or loadFactor is non-positive
+     * @throws NullPointerException if hashStrategy is null
+     */
+    @SuppressWarnings("unchecked")
+    public Set(int initialCapacity, float loadFactor, HashStrategy hashStrategy) {
         if (initialCapacity <= 0) {
             throw new IllegalArgumentException("Initial capacity must be positive");
         }
         if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
             throw new IllegalArgumentException("Load factor must be positive");
         }
+        if (hashStrategy == null) {
+            throw new NullPointerException("Hash strategy must not be null");
+        }
         int cap = tableSizeFor(initialCapacity);
         this.loadFactor = loadFactor;
+        this.hashStrategy = hashStrategy;
         this.table = (Node<T>[]) new Node[cap];
         this.threshold = (int) (cap * loadFactor);
         this.size = 0;
@@ -116,12 +155,11 @@ public class Set<T> {
     }
 
     /**
-     * Computes the hash for a given value, applying a supplemental mix to reduce collisions.
+     * Computes the hash for a given value with the set's hash strategy (by default, a supplemental mix to reduce
+     * collisions).
      */
     private int hash(Object value) {
-        int h = (value == null) ? 0 : value.hashCode();
-        // Spread bits (from Java 8 HashMap implementation)
-        return h ^ (h >>> 16);
+        return hashStrategy.hash(value);
     }
 
     /**
@@ -145,6 +183,7 @@ public class Set<T> {
         Node<T> newNode = new Node<>(h, value, table[index]);
         table[index] = newNode;
         size++;
+        modCount++;
 
         // Check if resizing is needed
         if (size > threshold) {
@@ -160,14 +199,20 @@ public class Set<T> {
      * @return true if this set contains the element
      */
     public boolean contains(Object value) {
-        int h = hash(value);
+        return findNode(hash(value), value) != null;
+    }
+
+    /**
+     * Finds the node holding the given value, whose hash under this set's strategy is already known.
+     */
+    private Node<T> findNode(int h, Object value) {
         int index = (table.length - 1) & h;
         for (Node<T> node = table[index]; node != null; node = node.next) {
             if (node.hash == h && (value == node.value || (value != null && value.equals(node.value)))) {
-                return true;
+                return node;
             }
         }
-        return false;
+        return null;
     }
 
     /**
@@ -177,7 +222,13 @@ public class Set<T> {
      * @return true if the set contained the specified element
      */
     public boolean remove(Object value) {
-        int h = hash(value);
+        return removeHashed(hash(value), value);
+    }
+
+    /**
+     * Removes the given value, whose hash under this set's strategy is already known.
+     */
+    private boolean removeHashed(int h, Object value) {
         int index = (table.length - 1) & h;
         Node<T> prev = null;
         Node<T> curr = table[index];
@@ -190,6 +241,7 @@ public class Set<T> {
                     prev.next = curr.next;
                 }
                 size--;
+                modCount++;
                 return true;
             }
             prev = curr;
@@ -225,10 +277,12 @@ public class Set<T> {
             table[i] = null;
         }
         size = 0;
+        modCount++;
     }
 
     /**
      * Returns a List of all elements in this set. Order is not guaranteed.
+     * The elements are copied; use iterator(), forEach() or stream() to walk a large set without allocating a List.
      *
      * @return List of elements
      */
@@ -243,12 +297,453 @@ public class Set<T> {
     }
 
     /**
-     * Doubles the capacity of the table and rehashes all existing elements.
+     * Returns the strategy this set hashes its elements with.
+     *
+     * @return the hash strategy chosen at construction
+     */
+    public HashStrategy hashStrategy() {
+        return hashStrategy;
+    }
+
+    // -------------------------------------------------------------------------
+    // Iteration
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns an iterator over the elements of this set that walks the table in place, without copying. The iterator
+     * is fail-fast: adding or removing elements through the set while it is in use, or growing its table (as addAll
+     * may even when every element is already present), makes it throw ConcurrentModificationException. It does not
+     * support remove().
+     *
+     * @return iterator over the elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new TableIterator();
+    }
+
+    /**
+     * Performs the given action on every element, walking the table in place.
+     *
+     * @param action action to perform on each element
+     * @throws NullPointerException if action is null
+     * @throws ConcurrentModificationException if the action adds or removes elements
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException("Action must not be null");
+        }
+        int expectedModCount = modCount;
+        Node<T>[] tab = table;
+        for (int i = 0; i < tab.length && modCount == expectedModCount; i++) {
+            for (Node<T> node = tab[i]; node != null; node = node.next) {
+                action.accept(node.value);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a spliterator over the elements of this set. It splits by ranges of buckets, so that parallel streams
+     * scan the set on several threads without copying it. The set must not be modified while the spliterator is in
+     * use.
+     *
+     * @return spliterator over the elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new TableSpliterator();
+    }
+
+    /**
+     * Returns a sequential stream over the elements of this set, backed by spliterator().
+     *
+     * @return stream of the elements
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the elements of this set. Each worker walks its own range of buckets.
+     *
+     * @return parallel stream of the elements
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Walks the elements of the buckets in [index, fence) of the table as it was when the walk started. Base of the
+     * iterator and the spliterator.
+     */
+    private abstract class TableWalker {
+        final Node<T>[] tab;
+        /** Next bucket to visit. */
+        int index;
+        /** One past the last bucket to visit. */
+        int fence;
+        /** Remaining nodes of the bucket being walked. */
+        Node<T> pending;
+        int expectedModCount;
+        /** Element found by the last successful advance(). */
+        T current;
+
+        TableWalker() {
+            this.tab = table;
+            this.fence = table.length;
+            this.expectedModCount = modCount;
+        }
+
+        /** Moves to the next element and stores it in current; returns false once the range is done. */
+        final boolean advance() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            while (pending == null && index < fence) {
+                pending = tab[index++];
+            }
+            if (pending == null) {
+                return false;
+            }
+            current = pending.value;
+            pending = pending.next;
+            return true;
+        }
+    }
+
+    /** Fail-fast iterator behind iterator(). */
+    private final class TableIterator extends TableWalker implements Iterator<T> {
+        /** Whether advance() has already been called for the element next() will return. */
+        private boolean lookedAhead;
+        private boolean hasNext;
+
+        @Override
+        public boolean hasNext() {
+            if (!lookedAhead) {
+                hasNext = advance();
+                lookedAhead = true;
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lookedAhead = false;
+            return current;
+        }
+    }
+
+    /**
+     * Spliterator behind spliterator(). trySplit() hands the lower half of the remaining bucket range to a new
+     * spliterator, so each part walks its own contiguous slice of the table.
+     */
+    private final class TableSpliterator extends TableWalker implements Spliterator<T> {
+        /** Estimated number of elements in the range, assuming they are spread evenly over the table. */
+        private long estimate;
+
+        TableSpliterator() {
+            this.estimate = size;
+        }
+
+        private TableSpliterator(TableSpliterator parent, int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = parent.expectedModCount;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            // Only split between buckets, never inside the bucket being walked
+            if (pending != null || lo >= mid) {
+                return null;
+            }
+            TableSpliterator prefix = new TableSpliterator(this, lo, mid);
+            index = mid;
+            estimate >>>= 1;
+            prefix.estimate = estimate;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action must not be null");
+            }
+            if (!advance()) {
+                return false;
+            }
+            action.accept(current);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action must not be null");
+            }
+            while (advance()) {
+                action.accept(current);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Bulk operations
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns a new set holding the elements that are in this set, the other set, or both. The result is sized once
+     * for both sets, so it never resizes; it copies the larger set and then adds the elements of the smaller one.
+     *
+     * @param other set to unite with (not modified)
+     * @return a new set with this set's load factor and hash strategy
+     * @throws NullPointerException if other is null
+     */
+    public Set<T> union(Set<? extends T> other) {
+        requireSet(other);
+        Set<T> result = new Set<>(capacityFor(combinedSize(other), loadFactor), loadFactor, hashStrategy);
+        Set<? extends T> larger = size >= other.size ? this : other;
+        result.copyFrom(larger);
+        result.addFrom(larger == this ? other : this);
+        return result;
+    }
+
+    /**
+     * Returns a new set holding the elements that are in both this set and the other set. Only the smaller set is
+     * iterated, each element being looked up in the larger one, and the result is sized for the smaller set.
+     *
+     * @param other set to intersect with (not modified)
+     * @return a new set with this set's load factor and hash strategy
+     * @throws NullPointerException if other is null
+     */
+    public Set<T> intersect(Set<?> other) {
+        requireSet(other);
+        Set<T> result = new Set<>(capacityFor(Math.min(size, other.size), loadFactor), loadFactor, hashStrategy);
+        if (size <= other.size) {
+            for (Node<T> bucket : table) {
+                for (Node<T> node = bucket; node != null; node = node.next) {
+                    if (other.findNode(other.hashOf(this, node), node.value) != null) {
+                        result.insertUnique(node.hash, node.value);
+                    }
+                }
+            }
+        } else {
+            for (Node<?> bucket : other.table) {
+                for (Node<?> node = bucket; node != null; node = node.next) {
+                    // Insert this set's copy of the element, which is the one typed T
+                    Node<T> match = findNode(hashOf(other, node), node.value);
+                    if (match != null) {
+                        result.insertUnique(match.hash, match.value);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set holding the elements of this set that are not in the other set. If the other set is the
+     * smaller one, this set is copied (reusing the cached hashes) and the other set's elements are removed from the
+     * copy; otherwise each element of this set is looked up in the other.
+     *
+     * @param other set whose elements are to be excluded (not modified)
+     * @return a new set with this set's load factor and hash strategy
+     * @throws NullPointerException if other is null
+     */
+    public Set<T> difference(Set<?> other) {
+        requireSet(other);
+        Set<T> result = new Set<>(capacityFor(size, loadFactor), loadFactor, hashStrategy);
+        if (other.size < size) {
+            result.copyFrom(this);
+            for (Node<?> bucket : other.table) {
+                for (Node<?> node = bucket; node != null; node = node.next) {
+                    result.removeHashed(hashOf(other, node), node.value);
+                }
+            }
+            return result;
+        }
+        for (Node<T> bucket : table) {
+            for (Node<T> node = bucket; node != null; node = node.next) {
+                if (other.findNode(other.hashOf(this, node), node.value) == null) {
+                    result.insertUnique(node.hash, node.value);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds every element of the other set to this one. The table is grown once up front for the combined size, so
+     * no resize happens while the elements are added.
+     *
+     * @param other set whose elements are to be added (not modified)
+     * @return true if this set changed
+     * @throws NullPointerException if other is null
+     */
+    public boolean addAll(Set<? extends T> other) {
+        requireSet(other);
+        int before = size;
+        int target = capacityFor(combinedSize(other), loadFactor);
+        if (target > table.length) {
+            resize(target);
+        }
+        addFrom(other);
+        return size != before;
+    }
+
+    /**
+     * Removes every element of this set that is not in the other set. If the other set is smaller, the table is
+     * rebuilt from the other set's matches, at the capacity the result needs, so the cost depends on the smaller
+     * set only; otherwise the buckets of this set are filtered in place.
+     *
+     * @param other set whose elements are to be retained (not modified)
+     * @return true if this set changed
+     * @throws NullPointerException if other is null
      */
     @SuppressWarnings("unchecked")
+    public boolean retainAll(Set<?> other) {
+        requireSet(other);
+        int before = size;
+        if (other.size < size) {
+            Node<T>[] retained = (Node<T>[]) new Node[capacityFor(other.size, loadFactor)];
+            int mask = retained.length - 1;
+            int count = 0;
+            for (Node<?> bucket : other.table) {
+                for (Node<?> node = bucket; node != null; node = node.next) {
+                    Node<T> match = findNode(hashOf(other, node), node.value);
+                    if (match != null) {
+                        int index = mask & match.hash;
+                        retained[index] = new Node<>(match.hash, match.value, retained[index]);
+                        count++;
+                    }
+                }
+            }
+            table = retained;
+            threshold = (int) (retained.length * loadFactor);
+            size = count;
+            modCount++;
+            return size != before;
+        }
+        for (int i = 0; i < table.length; i++) {
+            Node<T> prev = null;
+            for (Node<T> node = table[i]; node != null; node = node.next) {
+                if (other.findNode(other.hashOf(this, node), node.value) != null) {
+                    prev = node;
+                } else if (prev == null) {
+                    table[i] = node.next;
+                    size--;
+                } else {
+                    prev.next = node.next;
+                    size--;
+                }
+            }
+        }
+        if (size != before) {
+            modCount++;
+        }
+        return size != before;
+    }
+
+    private static void requireSet(Set<?> other) {
+        if (other == null) {
+            throw new NullPointerException("Set must not be null");
+        }
+    }
+
+    private int combinedSize(Set<?> other) {
+        return (int) Math.min(1 << 30, (long) size + other.size);
+    }
+
+    /**
+     * Smallest power-of-two number of buckets that holds expectedSize elements without resizing.
+     */
+    private static int capacityFor(int expectedSize, float loadFactor) {
+        int capacity = 1;
+        while (capacity < (1 << 30) && (int) (capacity * loadFactor) < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Hash of a node of the given set under this set's strategy. Nodes cache their hash, so when both sets hash
+     * the same way the element's hashCode() is not called again.
+     */
+    private int hashOf(Set<?> owner, Node<?> node) {
+        return owner.hashStrategy == hashStrategy ? node.hash : hash(node.value);
+    }
+
+    /**
+     * Inserts every element of the source set, which must not share any element with this set, skipping the
+     * duplicate check. The caller must have sized the table for the result.
+     */
+    private void copyFrom(Set<? extends T> source) {
+        for (Node<? extends T> bucket : source.table) {
+            for (Node<? extends T> node = bucket; node != null; node = node.next) {
+                insertUnique(hashOf(source, node), node.value);
+            }
+        }
+    }
+
+    /**
+     * Adds every element of the source set that is not already present. The caller must have sized the table for
+     * the result.
+     */
+    private void addFrom(Set<? extends T> source) {
+        for (Node<? extends T> bucket : source.table) {
+            for (Node<? extends T> node = bucket; node != null; node = node.next) {
+                int h = hashOf(source, node);
+                if (findNode(h, node.value) == null) {
+                    insertUnique(h, node.value);
+                }
+            }
+        }
+    }
+
+    /** Links a new node at the head of its bucket, without checking for duplicates or resizing. */
+    private void insertUnique(int h, T value) {
+        int index = (table.length - 1) & h;
+        table[index] = new Node<>(h, value, table[index]);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Doubles the capacity of the table and rehashes all existing elements.
+     */
     private void resize() {
-        int oldCapacity = table.length;
-        int newCapacity = oldCapacity << 1; // double capacity
+        resize(table.length << 1); // double capacity
+    }
+
+    /**
+     * Grows the table to the given power-of-two capacity and rehashes all existing elements.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int newCapacity) {
+        // Rehashing reorders the buckets, so iterators over the old table must fail fast
+        modCount++;
         Node<T>[] oldTable = table;
         table = (Node<T>[]) new Node[newCapacity];
         threshold = (int) (newCapacity * loadFactor);
@@ -287,7 +782,7 @@ public class Set<T> {
         System.out.println("Size after removals: " + set.size());         // 1
 
         System.out.println("\nCurrent elements in set:");
-        for (String s : set.elements()) {
+        for (String s : set) {
             System.out.println(s);
         }
 
@@ -297,6 +792,44 @@ public class Set<T> {
         }
         System.out.println("Size after bulk add: " + set.size());
         System.out.println("Capacity after resize (approx): " + set.table.length);
+        System.out.println("Keys starting with \"key1\": "
+                + set.parallelStream().filter(s -> s.startsWith("key1")).count()); // 11
+
+        System.out.println("\nSeeded hashing (\"Aa\" and \"BB\" share a hashCode):");
+        Set<String> seeded = new Set<>(16, 0.75f, HashStrategy.seeded());
+        seeded.add("Aa");
+        seeded.add("BB");
+        System.out.println("Contains \"BB\"? " + seeded.contains("BB")); // true
+        System.out.println("Strategy: " + seeded.hashStrategy());
+
+        System.out.println("\nSet algebra:");
+        Set<Integer> evens = new Set<>();
+        Set<Integer> small = new Set<>();
+        for (int i = 0; i < 10; i += 2) {
+            evens.add(i);
+        }
+        small.add(2);
+        small.add(3);
+        System.out.println("evens = " + evens.elements() + ", small = " + small.elements());
+        System.out.println("Union size: " + evens.union(small).size());                       // 6
+        System.out.println("Intersection: " + evens.intersect(small).elements());            // [2]
+        System.out.println("evens minus small size: " + evens.difference(small).size());     // 4
+        System.out.println("retainAll changed evens? " + evens.retainAll(small));            // true
+        System.out.println("evens after retainAll: " + evens.elements());                   // [2]
+        System.out.println("addAll changed evens? " + evens.addAll(small));                  // true
+        System.out.println("evens after addAll size: " + evens.size());                     // 2
+
+        Set<Integer> twelve = new Set<>();
+        for (int i = 0; i < 12; i++) {
+            twelve.add(i);
+        }
+        Iterator<Integer> stale = twelve.iterator();
+        twelve.addAll(twelve.union(small)); // adds nothing, but grows the table for the combined size
+        try {
+            stale.next();
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Iterator after addAll: ConcurrentModificationException");
+        }
 
         System.out.println("\nClearing set:");
         set.clear();
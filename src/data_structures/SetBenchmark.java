@@ -0,0 +1,409 @@
+package data_structures;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+public class SetBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /** Keeps results alive so the JIT cannot eliminate the measured loops. */
+    private static long sink;
+
+    private static void report(String label, long nanos) {
+        System.out.printf("  %-40s %10.1f us%n", label, nanos / 1e3);
+    }
+
+    private static void reportPerOp(String label, int ops, long nanos) {
+        System.out.printf("  %-40s %10.2f ns/op%n", label, (double) nanos / ops);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /** Bytes the current thread allocates while running body once, after warming it up. */
+    private static long allocatedBytes(Runnable body) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long id = Thread.currentThread().getId();
+        body.run();
+        long before = threads.getThreadAllocatedBytes(id);
+        body.run();
+        return threads.getThreadAllocatedBytes(id) - before;
+    }
+
+    private static void reportScan(String label, int n, Runnable scan) {
+        long nanos = time(scan);
+        System.out.printf("  %-40s %10.2f ns/op %12d bytes/scan%n", label, (double) nanos / n, allocatedBytes(scan));
+    }
+
+    private static long time(Runnable body) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            body.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            body.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /** Builds a set of size random ints drawn from [0, range). */
+    private static Set<Integer> randomSet(Random random, int size, int range) {
+        Set<Integer> set = new Set<>();
+        while (set.size() < size) {
+            set.add(random.nextInt(range));
+        }
+        return set;
+    }
+
+    // The loops callers wrote before the bulk operations existed: walk elements() and probe, into a default-sized set
+
+    private static Set<Integer> naiveUnion(Set<Integer> a, Set<Integer> b) {
+        Set<Integer> result = new Set<>();
+        for (Integer value : a.elements()) {
+            result.add(value);
+        }
+        for (Integer value : b.elements()) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    private static Set<Integer> naiveIntersect(Set<Integer> a, Set<Integer> b) {
+        Set<Integer> result = new Set<>();
+        for (Integer value : a.elements()) {
+            if (b.contains(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    private static Set<Integer> naiveDifference(Set<Integer> a, Set<Integer> b) {
+        Set<Integer> result = new Set<>();
+        for (Integer value : a.elements()) {
+            if (!b.contains(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compares the bulk operations with the elements()-and-probe loops for a large set of n elements and a small set
+     * of n / ratio elements, drawn so that about half of the small set's elements are also in the large one.
+     */
+    private static void benchRatio(int n, int ratio) {
+        Random random = new Random(42);
+        Set<Integer> large = randomSet(random, n, 2 * n);
+        Set<Integer> small = randomSet(random, Math.max(1, n / ratio), 2 * n);
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Large " + large.size() + " vs small " + small.size() + " (1:" + ratio + ")");
+        System.out.println("*********************");
+
+        report("naive union", time(() -> sink += naiveUnion(large, small).size()));
+        report("union", time(() -> sink += large.union(small).size()));
+        report("naive intersect (large probes small)", time(() -> sink += naiveIntersect(large, small).size()));
+        report("intersect", time(() -> sink += large.intersect(small).size()));
+        report("naive difference large \\ small", time(() -> sink += naiveDifference(large, small).size()));
+        report("difference large \\ small", time(() -> sink += large.difference(small).size()));
+        report("naive difference small \\ large", time(() -> sink += naiveDifference(small, large).size()));
+        report("difference small \\ large", time(() -> sink += small.difference(large).size()));
+        // The in-place operations need a fresh copy per run; the copy is timed separately and included in both
+        report("copy (union with empty set)", time(() -> sink += large.union(new Set<>()).size()));
+        report("copy + addAll(small)", time(() -> {
+            Set<Integer> copy = large.union(new Set<>());
+            copy.addAll(small);
+            sink += copy.size();
+        }));
+        report("copy + retainAll(small)", time(() -> {
+            Set<Integer> copy = large.union(new Set<>());
+            copy.retainAll(small);
+            sink += copy.size();
+        }));
+    }
+
+    /** Compares copying elements() with the in-place iterator, forEach and streams for a full scan of n elements. */
+    private static void benchScan(int n) {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Full scans of " + n + " elements");
+        System.out.println("*********************");
+
+        Set<Integer> set = new Set<>();
+        for (int i = 0; i < n; i++) {
+            set.add(i);
+        }
+        reportScan("elements() copy", n, () -> {
+            long sum = 0;
+            for (Integer value : set.elements()) {
+                sum += value;
+            }
+            sink += sum;
+        });
+        reportScan("iterator()", n, () -> {
+            long sum = 0;
+            for (Iterator<Integer> it = set.iterator(); it.hasNext(); ) {
+                sum += it.next();
+            }
+            sink += sum;
+        });
+        reportScan("forEach(Consumer)", n, () -> {
+            long[] sum = {0};
+            set.forEach(value -> sum[0] += value);
+            sink += sum[0];
+        });
+        reportScan("stream()", n, () -> sink += set.stream().mapToLong(Integer::longValue).sum());
+        // Allocation is counted on the calling thread only; the pool workers' share is not included
+        reportScan("parallelStream()", n, () -> sink += set.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    /** Draws n IDs from [offset, offset + range) in stretches of runLength consecutive IDs. */
+    private static int[] documentIds(Random random, int n, int offset, int range, int runLength) {
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i += runLength) {
+            int start = offset + random.nextInt(range - runLength + 1);
+            for (int j = 0; j < runLength && i + j < n; j++) {
+                ids[i + j] = start + j;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Compares RoaringBitmap with Set<Integer> on n document IDs drawn from [0, n / density) in stretches of
+     * runLength consecutive IDs: heap footprint, contains, and the set operations against a second, offset set of
+     * the same shape. The bitmap is also serialized to a memory-mapped file and queried in place.
+     */
+    private static void benchBitmap(int n, double density, int runLength) throws IOException {
+        int range = (int) (n / density);
+        Random random = new Random(42);
+        int[] ids = documentIds(random, n, 0, range, runLength);
+        int[] otherIds = documentIds(random, n, range / 2, range, runLength);
+        int[] probes = new int[n];
+        for (int i = 0; i < n; i++) {
+            probes[i] = random.nextInt(2 * range);
+        }
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.printf("RoaringBitmap vs Set<Integer>, %,d IDs in [0, %,d), runs of %d%n", n, range, runLength);
+        System.out.println("*********************");
+
+        long heapBefore = usedHeap();
+        Set<Integer> set = new Set<>();
+        for (int id : ids) {
+            set.add(id);
+        }
+        long setBytes = usedHeap() - heapBefore;
+        heapBefore = usedHeap();
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int id : ids) {
+            bitmap.add(id);
+        }
+        bitmap.runOptimize();
+        long bitmapBytes = usedHeap() - heapBefore;
+        System.out.printf("  %-40s %10.2f bytes/value%n", "Set<Integer> heap", (double) setBytes / set.size());
+        System.out.printf("  %-40s %10.2f bytes/value%n", "RoaringBitmap heap", (double) bitmapBytes / set.size());
+        System.out.printf("  %-40s %10.2f bytes/value  %s%n", "RoaringBitmap serialized",
+                (double) bitmap.serializedSizeInBytes() / set.size(), bitmap);
+
+        Set<Integer> otherSet = new Set<>();
+        RoaringBitmap otherBitmap = new RoaringBitmap();
+        for (int id : otherIds) {
+            otherSet.add(id);
+            otherBitmap.add(id);
+        }
+        otherBitmap.runOptimize();
+
+        reportPerOp("Set.contains", n, time(() -> {
+            long hits = 0;
+            for (int probe : probes) {
+                if (set.contains(probe)) {
+                    hits++;
+                }
+            }
+            sink += hits;
+        }));
+        reportPerOp("RoaringBitmap.contains", n, time(() -> {
+            long hits = 0;
+            for (int probe : probes) {
+                if (bitmap.contains(probe)) {
+                    hits++;
+                }
+            }
+            sink += hits;
+        }));
+
+        Path file = Files.createTempFile("bitmap", ".bin");
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, bitmap.serializedSizeInBytes());
+                bitmap.serialize(mapped);
+                mapped.flip();
+                reportPerOp("RoaringBitmap.contains (mapped file)", n, time(() -> {
+                    long hits = 0;
+                    for (int probe : probes) {
+                        if (RoaringBitmap.contains(mapped, probe)) {
+                            hits++;
+                        }
+                    }
+                    sink += hits;
+                }));
+            }
+        } finally {
+            Files.delete(file);
+        }
+
+        report("Set.intersect", time(() -> sink += set.intersect(otherSet).size()));
+        report("RoaringBitmap.and", time(() -> sink += bitmap.and(otherBitmap).cardinality()));
+        report("Set.union", time(() -> sink += set.union(otherSet).size()));
+        report("RoaringBitmap.or", time(() -> sink += bitmap.or(otherBitmap).cardinality()));
+        report("Set.difference", time(() -> sink += set.difference(otherSet).size()));
+        report("RoaringBitmap.andNot", time(() -> sink += bitmap.andNot(otherBitmap).cardinality()));
+    }
+
+    /** The operations the concurrent benchmark needs, so every set can run the same workload. */
+    private interface SharedSet {
+        boolean add(Integer value);
+
+        boolean contains(Integer value);
+
+        boolean remove(Integer value);
+    }
+
+    /**
+     * Runs totalOps deduplication steps split across the given number of threads: each draws an event ID, adds it if
+     * unseen (the workers' check-then-add), and one step in ten expires an ID; returns elapsed nanos.
+     */
+    private static long runThreads(SharedSet set, int threads, int totalOps, int idRange) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        int opsPerThread = totalOps / threads;
+        long[] fresh = new long[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            Thread worker = new Thread(() -> {
+                Random random = new Random(id);
+                long added = 0;
+                try {
+                    start.await();
+                    for (int i = 0; i < opsPerThread; i++) {
+                        Integer event = random.nextInt(idRange);
+                        if (random.nextInt(10) == 0) {
+                            set.remove(event);
+                        } else if (!set.contains(event) && set.add(event)) {
+                            added++;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                fresh[id] = added;
+                done.countDown();
+            });
+            worker.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        for (long f : fresh) {
+            sink += f;
+        }
+        return elapsed;
+    }
+
+    /** Compares a Set behind one lock (what the workers use today) with ConcurrentSet under growing contention. */
+    private static void benchConcurrent(int n) throws InterruptedException {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Concurrent deduplication, " + n + " events over " + (n / 4) + " IDs, 10% expiries");
+        System.out.println("*********************");
+
+        int idRange = Math.max(1, n / 4);
+        for (int threads : new int[]{1, 4, 16, 64}) {
+            long lockedBest = Long.MAX_VALUE;
+            long lockFreeBest = Long.MAX_VALUE;
+            for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                Set<Integer> plain = new Set<>();
+                Object lock = new Object();
+                long locked = runThreads(new SharedSet() {
+                    public boolean add(Integer value) {
+                        synchronized (lock) {
+                            return plain.add(value);
+                        }
+                    }
+
+                    public boolean contains(Integer value) {
+                        synchronized (lock) {
+                            return plain.contains(value);
+                        }
+                    }
+
+                    public boolean remove(Integer value) {
+                        synchronized (lock) {
+                            return plain.remove(value);
+                        }
+                    }
+                }, threads, n, idRange);
+
+                ConcurrentSet<Integer> concurrent = new ConcurrentSet<>();
+                long lockFree = runThreads(new SharedSet() {
+                    public boolean add(Integer value) {
+                        return concurrent.add(value);
+                    }
+
+                    public boolean contains(Integer value) {
+                        return concurrent.contains(value);
+                    }
+
+                    public boolean remove(Integer value) {
+                        return concurrent.remove(value);
+                    }
+                }, threads, n, idRange);
+
+                if (round >= WARMUP_ROUNDS) {
+                    lockedBest = Math.min(lockedBest, locked);
+                    lockFreeBest = Math.min(lockFreeBest, lockFree);
+                }
+            }
+            System.out.printf("  %2d threads  synchronized Set %8.2f Mops/s   ConcurrentSet %8.2f Mops/s%n",
+                    threads, n * 1e3 / lockedBest, n * 1e3 / lockFreeBest);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        for (int ratio : new int[]{1, 10, 100, 1000}) {
+            benchRatio(n, ratio);
+        }
+        benchScan(n);
+        for (double density : new double[]{0.9, 0.1, 0.001}) {
+            benchBitmap(n, density, 1);
+        }
+        benchBitmap(n, 0.5, 1000);
+        benchConcurrent(n);
+
+        System.out.println();
+        System.out.println("(sink " + sink + ")");
+    }
+}
@@ -9,9 +9,12 @@ package data_structures;
  * The order in which elements come off a stack gives rise to its alternative name, LIFO (last in, first out).
  * Additionally, a peek operation may give access to the top without modifying the stack.
  *
+ * The elements are kept in an {@link ArrayDeque} with the top at its front, so push and pop allocate nothing
+ * except when the array has to double.
+ *
  * Complexity:
  *   Space:       O(n)
- *   push:        O(1)
+ *   push:        O(1) amortized
  *   pop:         O(1)
  *   peek:        O(1)
  *   isEmpty:     O(1)
@@ -21,27 +24,12 @@ package data_structures;
  */
 public class Stack<T> {
 
-    /**
-     * Internal node class representing an element in the stack.
-     */
-    private static class Node<E> {
-        E data;
-        Node<E> next;
-
-        Node(E data) {
-            this.data = data;
-        }
-    }
-
-    /** Reference to the top node of the stack. */
-    private Node<T> top;
-    /** Number of elements currently in the stack. */
-    private int size;
+    /** The elements, top first. */
+    private final ArrayDeque<T> elements;
 
     /** Constructs an empty stack. */
     public Stack() {
-        top = null;
-        size = 0;
+        elements = new ArrayDeque<>();
     }
 
     /**
@@ -50,10 +38,7 @@ public class Stack<T> {
      * @param value the element to push
      */
     public void push(T value) {
-        Node<T> newNode = new Node<>(value);
-        newNode.next = top;
-        top = newNode;
-        size++;
+        elements.addFirst(value);
     }
 
     /**
@@ -62,13 +47,7 @@ public class Stack<T> {
      * @return the element that was on top, or null if the stack is empty
      */
     public T pop() {
-        if (isEmpty()) {
-            return null;
-        }
-        T value = top.data;
-        top = top.next;
-        size--;
-        return value;
+        return elements.pollFirst();
     }
 
     /**
@@ -77,7 +56,7 @@ public class Stack<T> {
      * @return the element on top, or null if the stack is empty
      */
     public T peek() {
-        return isEmpty() ? null : top.data;
+        return elements.peekFirst();
     }
 
     /**
@@ -86,7 +65,7 @@ public class Stack<T> {
      * @return true if empty, false otherwise
      */
     public boolean isEmpty() {
-        return size == 0;
+        return elements.isEmpty();
     }
 
     /**
@@ -95,20 +74,14 @@ public class Stack<T> {
      * @return the current size
      */
     public int size() {
-        return size;
+        return elements.size();
     }
 
     /**
      * Removes all elements from this stack. After calling this, size() returns 0.
      */
     public void clear() {
-        while (top != null) {
-            Node<T> nextNode = top.next;
-            top.data = null;
-            top.next = null;
-            top = nextNode;
-        }
-        size = 0;
+        elements.clear();
     }
 
     /**
@@ -119,18 +92,7 @@ public class Stack<T> {
      */
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("[");
-        Node<T> current = top;
-        while (current != null) {
-            sb.append(current.data);
-            current = current.next;
-            if (current != null) {
-                sb.append(", ");
-            }
-        }
-        sb.append("]");
-        return sb.toString();
+        return elements.toString();
     }
 
     // -------------------------------------------------------------------------
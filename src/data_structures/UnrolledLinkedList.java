@@ -0,0 +1,572 @@
+```java
+package data_structures;
+
+import java.util.function.Consumer;
+
+/**
+ * A linked list whose nodes each hold a small array of elements instead of a single one. Walking the list touches
+ * one node per nodeCapacity elements, and the elements of a node sit next to each other in memory, so scans and
+ * positional lookups chase far fewer pointers than {@link LinkedList} and allocate one node per block of elements
+ * rather than one per element.
+ *
+ * Inserting into a full node splits it into two half-full nodes, and removing from a node that drops below half
+ * either merges it with its successor (when both fit in one node) or borrows elements from the successor to even the
+ * two out, so nodes in the middle of the list stay at least half full. Appending at either end starts a fresh node
+ * instead of splitting, so a list built by addLast or addFirst has full nodes.
+ *
+ * Complexity (b = nodeCapacity):
+ *
+ *   Operation        Worst Case
+ *   addFirst         O(b)
+ *   addLast          O(1)
+ *   removeFirst      O(b)
+ *   removeLast       O(b)    (O(1) unless the tail node has to merge)
+ *   get(index)       O(n/b)  (walks from whichever end is closer)
+ *   add(index)       O(n/b + b)
+ *   removeAt(index)  O(n/b + b)
+ *   contains/search  O(n)    (one node per b elements)
+ *   size             O(1)
+ *   isEmpty          O(1)
+ *
+ * @param <T> the type of elements stored in the list
+ */
+public class UnrolledLinkedList<T> {
+    /** Smallest number of elements a node may be configured to hold. */
+    public static final int MIN_NODE_CAPACITY = 32;
+    /** Largest number of elements a node may be configured to hold. */
+    public static final int MAX_NODE_CAPACITY = 128;
+    /** Default number of elements per node. */
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    /**
+     * Inner class representing a node: a block of up to nodeCapacity elements in elements[0 .. count - 1].
+     */
+    private static class Node {
+        final Object[] elements;
+        int count;
+        Node prev;
+        Node next;
+
+        Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+
+    /** Reference to the first node (head) of the list. */
+    private Node head;
+    /** Reference to the last node (tail) of the list. */
+    private Node tail;
+    /** Number of elements currently in the list. */
+    private int size;
+    /** Number of nodes currently linked. */
+    private int nodeCount;
+    /** Number of elements each node can hold. */
+    private final int nodeCapacity;
+    /** Index of the first element of the node last returned by nodeAt. */
+    private int offset;
+
+    /** Constructs an empty list with DEFAULT_NODE_CAPACITY (64) elements per node. */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the given number of elements per node.
+     *
+     * @param nodeCapacity elements per node, between MIN_NODE_CAPACITY (32) and MAX_NODE_CAPACITY (128)
+     * @throws IllegalArgumentException if nodeCapacity is out of range
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY || nodeCapacity > MAX_NODE_CAPACITY) {
+            throw new IllegalArgumentException("Node capacity must be between " + MIN_NODE_CAPACITY + " and "
+                    + MAX_NODE_CAPACITY + ": " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Inserts an element at the front of the list. Starts a new head node if the current one is full.
+     *
+     * @param value the element to add
+     */
+    public void addFirst(T value) {
+        if (head == null || head.count == nodeCapacity) {
+            linkBefore(head);
+        }
+        insertInto(head, 0, value);
+    }
+
+    /**
+     * Inserts an element at the end of the list. Starts a new tail node if the current one is full.
+     *
+     * @param value the element to add
+     */
+    public void addLast(T value) {
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(tail);
+        }
+        tail.elements[tail.count++] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * @return the removed element, or null if the list is empty
+     */
+    public T removeFirst() {
+        if (isEmpty()) {
+            return null;  // nothing to remove
+        }
+        return removeFrom(head, 0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * @return the removed element, or null if the list is empty
+     */
+    public T removeLast() {
+        if (isEmpty()) {
+            return null;
+        }
+        return removeFrom(tail, tail.count - 1);
+    }
+
+    /**
+     * Returns (but does not remove) the first element.
+     *
+     * @return the first element, or null if empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekFirst() {
+        return isEmpty() ? null : (T) head.elements[0];
+    }
+
+    /**
+     * Returns (but does not remove) the last element.
+     *
+     * @return the last element, or null if empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekLast() {
+        return isEmpty() ? null : (T) tail.elements[tail.count - 1];
+    }
+
+    /**
+     * Returns true if the list contains the specified value.
+     *
+     * @param value the value to search for
+     * @return true if found, false otherwise
+     */
+    public boolean contains(T value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value,
+     * or -1 if the list does not contain the value.
+     *
+     * @param value the value to search for
+     * @return index of the value, or -1 if not found
+     */
+    public int indexOf(T value) {
+        int base = 0;
+        for (Node node = head; node != null; base += node.count, node = node.next) {
+            Object[] elements = node.elements;
+            for (int i = 0; i < node.count; i++) {
+                if (value == null ? elements[i] == null : value.equals(elements[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the first occurrence of the specified value from the list.
+     *
+     * @param value the value to remove
+     * @return true if an element was removed, false if not found
+     */
+    public boolean remove(T value) {
+        for (Node node = head; node != null; node = node.next) {
+            Object[] elements = node.elements;
+            for (int i = 0; i < node.count; i++) {
+                if (value == null ? elements[i] == null : value.equals(elements[i])) {
+                    removeFrom(node, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the element at the specified index (0-based).
+     *
+     * @param index 0-based position
+     * @return the element, or throws IndexOutOfBoundsException if index < 0 or >= size
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkElementIndex(index);
+        Node node = nodeAt(index);
+        return (T) node.elements[index - offset];
+    }
+
+    /**
+     * Replaces the element at the specified index (0-based).
+     *
+     * @param index 0-based position
+     * @param value the element to store
+     * @return the element previously at that position
+     * @throws IndexOutOfBoundsException if index < 0 or index ≥ size
+     */
+    @SuppressWarnings("unchecked")
+    public T set(int index, T value) {
+        checkElementIndex(index);
+        Node node = nodeAt(index);
+        T oldValue = (T) node.elements[index - offset];
+        node.elements[index - offset] = value;
+        return oldValue;
+    }
+
+    /**
+     * Inserts the specified value at the given index (0-based).
+     * Shifts the element currently at that position (if any) and any subsequent elements to the right.
+     * A full node is split in two before the insert.
+     *
+     * @param index 0-based position where to insert (0 ≤ index ≤ size)
+     * @param value the element to insert
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public void add(int index, T value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == 0) {
+            addFirst(value);
+            return;
+        }
+        if (index == size) {
+            addLast(value);
+            return;
+        }
+        Node node = nodeAt(index);
+        int position = index - offset;
+        if (node.count == nodeCapacity) {
+            split(node);
+            if (position > node.count) {
+                position -= node.count;
+                node = node.next;
+            }
+        }
+        insertInto(node, position, value);
+    }
+
+    /**
+     * Removes the element at the specified index and returns it.
+     *
+     * @param index 0-based position to remove (0 ≤ index < size)
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if index < 0 or index ≥ size
+     */
+    public T removeAt(int index) {
+        checkElementIndex(index);
+        Node node = nodeAt(index);
+        return removeFrom(node, index - offset);
+    }
+
+    /**
+     * Performs the given action on every element in order, walking each node's array directly.
+     *
+     * @param action action to perform on each element
+     * @throws NullPointerException if action is null
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException("Action must not be null");
+        }
+        for (Node node = head; node != null; node = node.next) {
+            Object[] elements = node.elements;
+            for (int i = 0; i < node.count; i++) {
+                action.accept((T) elements[i]);
+            }
+        }
+    }
+
+    /**
+     * Finds the node holding the element at index, walking from whichever end is closer, and leaves the index of
+     * that node's first element in offset.
+     */
+    private Node nodeAt(int index) {
+        if (index < (size >> 1)) {
+            Node node = head;
+            int base = 0;
+            while (index >= base + node.count) {
+                base += node.count;
+                node = node.next;
+            }
+            offset = base;
+            return node;
+        }
+        Node node = tail;
+        int base = size - tail.count;
+        while (index < base) {
+            node = node.prev;
+            base -= node.count;
+        }
+        offset = base;
+        return node;
+    }
+
+    /** Shifts elements[position ..] of a node that has room one slot right and stores value at position. */
+    private void insertInto(Node node, int position, T value) {
+        System.arraycopy(node.elements, position, node.elements, position + 1, node.count - position);
+        node.elements[position] = value;
+        node.count++;
+        size++;
+    }
+
+    /** Moves the upper half of a full node into a new node linked right after it. */
+    private void split(Node node) {
+        Node right = linkAfter(node);
+        int keep = node.count >> 1;
+        int move = node.count - keep;
+        System.arraycopy(node.elements, keep, right.elements, 0, move);
+        clearSlots(node, keep, node.count);
+        right.count = move;
+        node.count = keep;
+    }
+
+    /**
+     * Removes elements[position] from a node. If that leaves the node less than half full, merges it with its
+     * successor when both fit in one node, or else borrows from the successor until both are about equally full.
+     * An empty node is unlinked.
+     */
+    @SuppressWarnings("unchecked")
+    private T removeFrom(Node node, int position) {
+        Object[] elements = node.elements;
+        T oldValue = (T) elements[position];
+        System.arraycopy(elements, position + 1, elements, position, node.count - position - 1);
+        elements[--node.count] = null; // help garbage collection
+        size--;
+
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < nodeCapacity >> 1 && node.next != null) {
+            Node next = node.next;
+            if (node.count + next.count <= nodeCapacity) {
+                // Merge: the successor's elements move into this node and the successor goes away
+                System.arraycopy(next.elements, 0, elements, node.count, next.count);
+                node.count += next.count;
+                unlink(next);
+            } else {
+                // Borrow: take elements from the front of the successor until both hold about the same
+                int move = (next.count - node.count) >> 1;
+                System.arraycopy(next.elements, 0, elements, node.count, move);
+                System.arraycopy(next.elements, move, next.elements, 0, next.count - move);
+                clearSlots(next, next.count - move, next.count);
+                node.count += move;
+                next.count -= move;
+            }
+        } else if (node.count < nodeCapacity >> 1 && node.prev != null
+                && node.prev.count + node.count <= nodeCapacity) {
+            // The tail node underflowed: fold it into its predecessor
+            Node prev = node.prev;
+            System.arraycopy(elements, 0, prev.elements, prev.count, node.count);
+            prev.count += node.count;
+            unlink(node);
+        }
+        return oldValue;
+    }
+
+    /** Nulls out elements[from .. to - 1] of a node so that moved elements are not kept reachable. */
+    private static void clearSlots(Node node, int from, int to) {
+        for (int i = from; i < to; i++) {
+            node.elements[i] = null;
+        }
+    }
+
+    /** Links a new empty node after the given node (or as the only node if it is null) and returns it. */
+    private Node linkAfter(Node node) {
+        Node newNode = new Node(nodeCapacity);
+        if (node == null) {
+            head = newNode;
+            tail = newNode;
+        } else {
+            newNode.prev = node;
+            newNode.next = node.next;
+            if (node.next == null) {
+                tail = newNode;
+            } else {
+                node.next.prev = newNode;
+            }
+            node.next = newNode;
+        }
+        nodeCount++;
+        return newNode;
+    }
+
+    /** Links a new empty node before the given node (or as the only node if it is null) and returns it. */
+    private Node linkBefore(Node node) {
+        if (node == null) {
+            return linkAfter(null);
+        }
+        Node newNode = new Node(nodeCapacity);
+        newNode.next = node;
+        newNode.prev = node.prev;
+        if (node.prev == null) {
+            head = newNode;
+        } else {
+            node.prev.next = newNode;
+        }
+        node.prev = newNode;
+        nodeCount++;
+        return newNode;
+    }
+
+    /** Unlinks a node from the chain. */
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        nodeCount--;
+    }
+
+    /** Helper to check if index is in [0, size-1]. */
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the current size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the list contains no elements.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of nodes currently linked.
+     *
+     * @return the node count
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the number of elements each node can hold.
+     *
+     * @return the node capacity
+     */
+    public int nodeCapacity() {
+        return nodeCapacity;
+    }
+
+    /**
+     * Removes all elements from the list. After calling this, size() returns 0.
+     */
+    public void clear() {
+        // Help GC by unlinking all nodes
+        Node current = head;
+        while (current != null) {
+            Node next = current.next;
+            current.prev = null;
+            current.next = null;
+            current = next;
+        }
+        head = null;
+        tail = null;
+        size = 0;
+        nodeCount = 0;
+    }
+
+    /**
+     * Returns a string representation of the list in the form [a, b, c, ...].
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        forEach(value -> sb.append(value).append(", "));
+        sb.setLength(sb.length() - 2);
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // Example usage / quick test
+    // -------------------------------------------------------------------------
+    public static void main(String[] args) {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(32);
+
+        System.out.println("Add at end: 0 .. 99");
+        for (int i = 0; i < 100; i++) {
+            list.addLast(i);
+        }
+        System.out.println("Size: " + list.size());              // 100
+        System.out.println("Nodes: " + list.nodeCount());        // 4 (32 + 32 + 32 + 4)
+
+        System.out.println("\nAdd at index 10: -1 (splits the full first node)");
+        list.add(10, -1);
+        System.out.println("Get index 10: " + list.get(10));     // -1
+        System.out.println("Get index 11: " + list.get(11));     // 10
+        System.out.println("Nodes: " + list.nodeCount());        // 5
+
+        System.out.println("\nAdd at front: -2");
+        list.addFirst(-2);
+        System.out.println("First: " + list.peekFirst());        // -2
+        System.out.println("Index of 50: " + list.indexOf(50));  // 52
+        System.out.println("Contains 100? " + list.contains(100)); // false
+
+        System.out.println("\nRemove index 0 .. 59 one by one from the front (merges nodes)");
+        for (int i = 0; i < 60; i++) {
+            list.removeAt(0);
+        }
+        System.out.println("Size: " + list.size());              // 42
+        System.out.println("First: " + list.peekFirst());        // 58
+        System.out.println("Nodes: " + list.nodeCount());        // 3
+
+        System.out.println("\nRemove first: " + list.removeFirst()); // 58
+        System.out.println("Remove last: " + list.removeLast());     // 99
+        System.out.println("Remove value 70: " + list.remove((Integer) 70)); // true
+        System.out.println("Remove value 100 (not in list): " + list.remove((Integer) 100)); // false
+        System.out.println("Size: " + list.size());              // 39
+
+        System.out.println("\nClear list");
+        list.clear();
+        System.out.println("List after clear: " + list);         // []
+        System.out.println("Is empty? " + list.isEmpty());       // true
+    }
+}
+```
@@ -1,7 +1,20 @@
 ```java
 package data_structures;
 
+import java.util.AbstractList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A random access, variable-size list data structure that allows elements to be added or removed.
@@ -12,22 +25,55 @@ import java.util.Arrays;
  *   Operation           Average        Worst Case
  *   add(element)        O(1)           O(n)       (when resizing occurs)
  *   add(index, element) O(n)           O(n)
+ *   addAll(i, batch)    O(n + k)       O(n + k)   (one shift for k new elements)
  *   remove(index)       O(n)           O(n)
+ *   removeRange(a, b)   O(n)           O(n)       (one shift)
+ *   removeIf(filter)    O(n)           O(n)       (filter pass, then one compacting pass)
  *   get(index)          O(1)           O(1)
  *   set(index, element) O(1)           O(1)
  *   size()              O(1)           O(1)
  *   isEmpty()           O(1)           O(1)
  *   clear()             O(n)           O(n)       (nulling references for GC)
+ *   trimToSize()        O(n)           O(n)
+ *   sort(comparator)    O(n log n)     O(n log n) (parallelSort: O(n log n / p) on p cores)
+ *   indexOf(element)    O(n)           O(n)       (parallelIndexOf: O(n / p) on p cores)
+ *
+ * The parallel methods run on the fork-join pool of the calling thread (the common pool unless called from inside
+ * another ForkJoinPool), so their parallelism can be chosen by submitting the call to a pool of the desired size.
+ * parallelSort is the exception when the common pool has a single worker: Arrays.parallelSort then sorts
+ * sequentially regardless of the caller's pool.
+ *
+ * How much the array grows when it is full is decided by a {@link GrowthPolicy} (1.5× by default). With auto-shrink
+ * enabled, once removals leave the array no more than a quarter full it is reallocated at twice the size, never below
+ * the initial capacity. Because shrinking leaves the array half full, neither the next add nor the next remove can
+ * trigger another resize right away, so a size oscillating around a boundary does not thrash. capacity(),
+ * wastedCapacity() and the resize counters show what a policy costs in footprint and in copying.
  *
  * @param <T> the type of elements stored in the Vector
  */
-public class Vector<T> {
+public class Vector<T> implements Cloneable {
     /** Default initial capacity of the underlying array. */
     private static final int DEFAULT_CAPACITY = 10;
+    /** Smallest size for which parallelIndexOf() splits the work; also the smallest range one task scans. */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
     /** Underlying array storing the elements. */
     private T[] elements;
     /** Number of elements currently in the Vector. */
     private int size;
+    /** Number of structural changes (size changes) so far; lets subList views detect them. */
+    private int modCount;
+    /** Decides the new capacity when the array is full; chosen at construction. */
+    private final GrowthPolicy growthPolicy;
+    /** Whether removals shrink a mostly empty array; chosen at construction. */
+    private final boolean autoShrink;
+    /** Capacity that auto-shrink never goes below: the capacity the Vector was constructed with. */
+    private final int minimumCapacity;
+    /** Number of times the array was reallocated larger. */
+    private long growCount;
+    /** Number of times the array was reallocated smaller (auto-shrink or trimToSize). */
+    private long shrinkCount;
+    /** Total number of elements copied by all reallocations. */
+    private long copiedElements;
 
     /**
      * Constructs an empty Vector with default initial capacity.
@@ -37,6 +83,9 @@ public class Vector<T> {
         // We can't create a generic array directly; use Object[] and cast.
         this.elements = (T[]) new Object[DEFAULT_CAPACITY];
         this.size = 0;
+        this.growthPolicy = GrowthPolicy.ONE_AND_A_HALF;
+        this.autoShrink = false;
+        this.minimumCapacity = DEFAULT_CAPACITY;
     }
 
     /**
@@ -45,13 +94,32 @@ public class Vector<T> {
      * @param initialCapacity the initial capacity of the Vector
      * @throws IllegalArgumentException if initialCapacity is negative
      */
-    @SuppressWarnings("unchecked")
     public Vector(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.ONE_AND_A_HALF, false);
+    }
+
+    /**
+     * Constructs an empty Vector with the specified initial capacity, growth policy and shrink mode.
+     *
+     * @param initialCapacity the initial capacity of the Vector, also the floor for auto-shrink
+     * @param growthPolicy decides the new capacity whenever the array is full
+     * @param autoShrink whether removals shrink the array once it is no more than a quarter full
+     * @throws IllegalArgumentException if initialCapacity is negative
+     * @throws NullPointerException if growthPolicy is null
+     */
+    @SuppressWarnings("unchecked")
+    public Vector(int initialCapacity, GrowthPolicy growthPolicy, boolean autoShrink) {
         if (initialCapacity < 0) {
             throw new IllegalArgumentException("Initial capacity must be non-negative: " + initialCapacity);
         }
+        if (growthPolicy == null) {
+            throw new NullPointerException("Growth policy must not be null");
+        }
         this.elements = (T[]) new Object[Math.max(initialCapacity, DEFAULT_CAPACITY)];
         this.size = 0;
+        this.growthPolicy = growthPolicy;
+        this.autoShrink = autoShrink;
+        this.minimumCapacity = elements.length;
     }
 
     /**
@@ -74,20 +142,106 @@ public class Vector<T> {
 
     /**
      * Ensures that the Vector can hold at least the specified number of elements
-     * without further resizing.
+     * without further resizing. The new capacity is chosen by the growth policy.
      *
      * @param minCapacity the desired minimum capacity
+     * @throws IllegalStateException if the growth policy returns less than minCapacity
      */
     public void ensureCapacity(int minCapacity) {
         if (minCapacity > elements.length) {
-            int newCapacity = elements.length + (elements.length >> 1); // 1.5× growth
+            int newCapacity = growthPolicy.grow(elements.length, minCapacity);
             if (newCapacity < minCapacity) {
-                newCapacity = minCapacity;
+                throw new IllegalStateException("Growth policy " + growthPolicy + " returned " + newCapacity
+                        + " for a required capacity of " + minCapacity);
             }
-            elements = Arrays.copyOf(elements, newCapacity);
+            reallocate(newCapacity);
+            growCount++;
+        }
+    }
+
+    /**
+     * Shrinks the array to exactly the current size, releasing all unused capacity. Later adds grow it again
+     * through the growth policy.
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            reallocate(size);
+            shrinkCount++;
         }
     }
 
+    /** Copies the elements into a new array of the given capacity, which must be at least size. */
+    private void reallocate(int newCapacity) {
+        elements = Arrays.copyOf(elements, newCapacity);
+        copiedElements += size;
+    }
+
+    /**
+     * After a removal, if auto-shrink is on and the array is no more than a quarter full, reallocates it at twice the
+     * size, so the Vector can double before it has to grow again.
+     */
+    private void shrinkIfSparse() {
+        if (autoShrink && size <= elements.length >> 2 && elements.length > minimumCapacity) {
+            reallocate(Math.max(minimumCapacity, size << 1));
+            shrinkCount++;
+        }
+    }
+
+    /**
+     * Returns the length of the underlying array.
+     *
+     * @return the current capacity
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Returns the number of allocated but unused slots, capacity() - size().
+     *
+     * @return the wasted capacity
+     */
+    public int wastedCapacity() {
+        return elements.length - size;
+    }
+
+    /**
+     * Returns how many times the array has been reallocated larger.
+     *
+     * @return the number of grows
+     */
+    public long growCount() {
+        return growCount;
+    }
+
+    /**
+     * Returns how many times the array has been reallocated smaller, by auto-shrink or trimToSize().
+     *
+     * @return the number of shrinks
+     */
+    public long shrinkCount() {
+        return shrinkCount;
+    }
+
+    /**
+     * Returns the total number of elements copied by all reallocations so far, the work the growth and shrink
+     * settings trade against wasted capacity.
+     *
+     * @return the number of copied elements
+     */
+    public long copiedElements() {
+        return copiedElements;
+    }
+
+    /**
+     * Returns the growth policy chosen at construction.
+     *
+     * @return the growth policy
+     */
+    public GrowthPolicy growthPolicy() {
+        return growthPolicy;
+    }
+
     /**
      * Adds the specified element to the end of this Vector.
      *
@@ -97,6 +251,7 @@ public class Vector<T> {
     public boolean add(T value) {
         ensureCapacity(size + 1);
         elements[size++] = value;
+        modCount++;
         return true;
     }
 
@@ -115,6 +270,42 @@ public class Vector<T> {
         System.arraycopy(elements, index, elements, index + 1, size - index);
         elements[index] = value;
         size++;
+        modCount++;
+    }
+
+    /**
+     * Appends all elements of the batch, growing the array at most once and copying them in one block.
+     *
+     * @param batch the elements to append
+     * @throws NullPointerException if batch is null
+     */
+    public void addAll(T[] batch) {
+        addAll(size, batch);
+    }
+
+    /**
+     * Inserts all elements of the batch at the specified position, in batch order. The elements from index onward are
+     * shifted right once, by the batch length, rather than once per inserted element.
+     *
+     * @param index index at which to insert the first element of the batch (0 ≤ index ≤ size)
+     * @param batch the elements to insert
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NullPointerException if batch is null
+     */
+    public void addAll(int index, T[] batch) {
+        rangeCheckForAdd(index);
+        if (batch == null) {
+            throw new NullPointerException("Batch must not be null");
+        }
+        int count = batch.length;
+        if (count == 0) {
+            return;
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(elements, index, elements, index + count, size - index);
+        System.arraycopy(batch, 0, elements, index, count);
+        size += count;
+        modCount++;
     }
 
     /**
@@ -159,9 +350,72 @@ public class Vector<T> {
             System.arraycopy(elements, index + 1, elements, index, numMoved);
         }
         elements[--size] = null; // help garbage collection
+        modCount++;
+        shrinkIfSparse();
         return oldValue;
     }
 
+    /**
+     * Removes the elements in [fromIndex, toIndex), shifting the elements after the range left once.
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex index after the last element to remove
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        rangeCheckForRange(fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null); // help garbage collection
+        size = newSize;
+        modCount++;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Removes every element that matches the filter, moving each kept element at most once. The filter is applied to
+     * every element before any is moved, so if the filter throws, the Vector is left unchanged.
+     *
+     * @param filter predicate returning true for elements to remove
+     * @return true if any element was removed
+     * @throws NullPointerException if filter is null
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("Filter must not be null");
+        }
+        int first = 0;
+        while (first < size && !filter.test(elements[first])) {
+            first++;
+        }
+        if (first == size) {
+            return false;
+        }
+        // Mark the remaining matches before writing anything, so a throwing filter cannot leave the array half
+        // compacted; the second pass moves elements without calling the filter again
+        BitSet removed = new BitSet(size - first);
+        removed.set(0);
+        for (int i = first + 1; i < size; i++) {
+            if (filter.test(elements[i])) {
+                removed.set(i - first);
+            }
+        }
+        int write = first;
+        for (int read = first + 1; read < size; read++) {
+            if (!removed.get(read - first)) {
+                elements[write++] = elements[read];
+            }
+        }
+        Arrays.fill(elements, write, size, null); // help garbage collection
+        size = write;
+        modCount++;
+        shrinkIfSparse();
+        return true;
+    }
+
     /**
      * Removes the first occurrence of the specified element from this Vector, if it is present.
      *
@@ -204,15 +458,317 @@ public class Vector<T> {
         return -1;
     }
 
+    /**
+     * Returns the index of the first occurrence of the specified element, like indexOf(), but scans ranges of the
+     * array in parallel. Ranges that start after an occurrence already found are skipped, so an early match ends
+     * the search early. Vectors smaller than PARALLEL_THRESHOLD are scanned sequentially.
+     *
+     * @param value element to search for
+     * @return the index of the first occurrence, or -1 if not found
+     */
+    public int parallelIndexOf(Object value) {
+        if (size < PARALLEL_THRESHOLD) {
+            return indexOf(value);
+        }
+        AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        new IndexOfTask(elements, value, 0, size, found).invoke();
+        int index = found.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+
+    /**
+     * Returns true if this Vector contains the specified element, searching in parallel like parallelIndexOf().
+     *
+     * @param value element whose presence in this Vector is to be tested
+     * @return true if this Vector contains the element
+     */
+    public boolean parallelContains(Object value) {
+        return parallelIndexOf(value) >= 0;
+    }
+
+    /**
+     * Scans [from, to) of the array for a value, splitting in halves down to PARALLEL_THRESHOLD. found holds the
+     * smallest matching index seen so far, which lets tasks whose range starts after it return at once.
+     */
+    private static final class IndexOfTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] array;
+        private final Object value;
+        private final int from;
+        private final int to;
+        private final AtomicInteger found;
+
+        IndexOfTask(Object[] array, Object value, int from, int to, AtomicInteger found) {
+            this.array = array;
+            this.value = value;
+            this.from = from;
+            this.to = to;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            if (from >= found.get()) {
+                return;
+            }
+            if (to - from > PARALLEL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new IndexOfTask(array, value, from, mid, found),
+                        new IndexOfTask(array, value, mid, to, found));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                if (value == null ? array[i] == null : value.equals(array[i])) {
+                    found.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts the elements with the given comparator. The sort is stable.
+     *
+     * @param comparator the comparator to order elements by, or null for their natural ordering
+     * @throws ClassCastException if comparator is null and the elements are not mutually Comparable
+     */
+    public void sort(Comparator<? super T> comparator) {
+        Arrays.sort(elements, 0, size, comparator);
+        modCount++;
+    }
+
+    /**
+     * Sorts the elements with the given comparator using a parallel merge sort (Arrays.parallelSort) that splits the
+     * array into fork-join tasks. The sort is stable. Small vectors are sorted sequentially, and so is every vector
+     * when the common pool's parallelism (ForkJoinPool.getCommonPoolParallelism()) is 1, as on a single-CPU host,
+     * whatever pool the call runs in; otherwise the tasks run in the caller's pool.
+     *
+     * @param comparator the comparator to order elements by, or null for their natural ordering
+     * @throws ClassCastException if comparator is null and the elements are not mutually Comparable
+     */
+    public void parallelSort(Comparator<? super T> comparator) {
+        Arrays.parallelSort(elements, 0, size, comparator);
+        modCount++;
+    }
+
+    /**
+     * Returns a spliterator over the elements that splits the index range of the array in halves, so that
+     * parallelStream() hands each worker a contiguous slice without copying. It is fail-fast: if the size of the
+     * Vector changes during the traversal, it throws ConcurrentModificationException once the traversal ends.
+     *
+     * @return spliterator over the elements
+     */
+    public Spliterator<T> spliterator() {
+        return new VectorSpliterator(0, -1, 0);
+    }
+
+    /**
+     * Returns a sequential stream over the elements, backed by spliterator().
+     *
+     * @return stream of the elements
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the elements. Each fork-join worker walks its own range of the array.
+     *
+     * @return parallel stream of the elements
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Spliterator behind spliterator(). The fence and expected modCount are bound on first use (late-binding), so
+     * elements added between creating the stream and running it are included.
+     */
+    private final class VectorSpliterator implements Spliterator<T> {
+        /** Next index to visit. */
+        private int index;
+        /** One past the last index to visit; -1 until first use. */
+        private int fence;
+        private int expectedModCount;
+
+        VectorSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new VectorSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action must not be null");
+            }
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+            action.accept(elements[index++]);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action must not be null");
+            }
+            int hi = getFence();
+            T[] array = elements;
+            for (int i = index; i < hi; i++) {
+                action.accept(array[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     /**
      * Removes all of the elements from this Vector. The Vector will be empty after this call returns.
+     * With auto-shrink, the array also goes back to the initial capacity.
      */
+    @SuppressWarnings("unchecked")
     public void clear() {
-        // Null out references for garbage collection
-        for (int i = 0; i < size; i++) {
-            elements[i] = null;
+        if (autoShrink && elements.length > minimumCapacity) {
+            elements = (T[]) new Object[minimumCapacity];
+            shrinkCount++;
+        } else {
+            // Null out references for garbage collection
+            for (int i = 0; i < size; i++) {
+                elements[i] = null;
+            }
         }
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a view of the elements in [fromIndex, toIndex). Reads and writes go straight to this Vector's array,
+     * and adds, removes and clear() on the view shift the backing array once, like the range operations here.
+     * The view is fail-fast: changing the size of this Vector other than through the view makes its next use
+     * throw ConcurrentModificationException.
+     *
+     * @param fromIndex index of the first element of the view
+     * @param toIndex index after the last element of the view
+     * @return a List view of the range
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+     */
+    public List<T> subList(int fromIndex, int toIndex) {
+        rangeCheckForRange(fromIndex, toIndex);
+        return new SubList(fromIndex, toIndex);
+    }
+
+    /** List view of a range of this Vector, behind subList(). */
+    private final class SubList extends AbstractList<T> implements RandomAccess {
+        private final int offset;
+        private int length;
+        private int expectedModCount;
+
+        SubList(int fromIndex, int toIndex) {
+            this.offset = fromIndex;
+            this.length = toIndex - fromIndex;
+            this.expectedModCount = Vector.this.modCount;
+        }
+
+        @Override
+        public T get(int index) {
+            checkForComodification();
+            checkIndex(index, length);
+            return elements[offset + index];
+        }
+
+        @Override
+        public T set(int index, T value) {
+            checkForComodification();
+            checkIndex(index, length);
+            return Vector.this.set(offset + index, value);
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return length;
+        }
+
+        @Override
+        public void add(int index, T value) {
+            checkForComodification();
+            checkIndex(index, length + 1);
+            Vector.this.add(offset + index, value);
+            length++;
+            expectedModCount = Vector.this.modCount;
+            this.modCount++;
+        }
+
+        @Override
+        public T remove(int index) {
+            checkForComodification();
+            checkIndex(index, length);
+            T removed = Vector.this.remove(offset + index);
+            length--;
+            expectedModCount = Vector.this.modCount;
+            this.modCount++;
+            return removed;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            Vector.this.removeRange(offset + fromIndex, offset + toIndex);
+            length -= toIndex - fromIndex;
+            expectedModCount = Vector.this.modCount;
+            this.modCount++;
+        }
+
+        private void checkIndex(int index, int bound) {
+            if (index < 0 || index >= bound) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+            }
+        }
+
+        private void checkForComodification() {
+            if (Vector.this.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
     }
 
     /**
@@ -280,6 +836,13 @@ public class Vector<T> {
         }
     }
 
+    /** Checks that [fromIndex, toIndex) is a valid range (0 ≤ fromIndex ≤ toIndex ≤ size). */
+    private void rangeCheckForRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+    }
+
     // -------------------------------------------------------------------------
     // Example usage / quick test
     // -------------------------------------------------------------------------
@@ -312,10 +875,49 @@ public class Vector<T> {
         System.out.println("\nRemove element 'E': " + vector.remove("E")); // true
         System.out.println("Vector: " + vector);         // [A, C]
 
+        System.out.println("\nBulk and range operations:");
+        vector.addAll(1, new String[]{"X", "Y", "Z"});
+        System.out.println("After addAll(1, [X, Y, Z]): " + vector); // [A, X, Y, Z, C]
+        vector.removeRange(1, 3);
+        System.out.println("After removeRange(1, 3): " + vector);    // [A, Z, C]
+        vector.removeIf(s -> s.equals("Z"));
+        System.out.println("After removeIf(Z): " + vector);          // [A, C]
+        vector.addAll(new String[]{"D", "E", "F"});
+        List<String> middle = vector.subList(1, 4);
+        System.out.println("subList(1, 4): " + middle);              // [C, D, E]
+        middle.clear();
+        System.out.println("After clearing the view: " + vector);    // [A, F]
+        vector.set(1, "C");
+
         System.out.println("\nConvert to array:");
         Object[] arr = vector.toArray();
         System.out.println(Arrays.toString(arr));        // [A, C]
 
+        System.out.println("\nSorting and parallel operations:");
+        Vector<Integer> numbers = new Vector<>();
+        for (int i = 0; i < 100_000; i++) {
+            numbers.add((i * 7919) % 100_000);
+        }
+        numbers.parallelSort(Comparator.reverseOrder());
+        System.out.println("First after parallelSort(reverseOrder): " + numbers.get(0));        // 99999
+        System.out.println("parallelIndexOf(12345): " + numbers.parallelIndexOf(12345));        // 87654
+        System.out.println("Sum via parallelStream: "
+                + numbers.parallelStream().mapToLong(Integer::longValue).sum());                // 4999950000
+
+        System.out.println("\nGrowth policy and auto-shrink:");
+        Vector<Integer> buffer = new Vector<>(16, GrowthPolicy.DOUBLING, true);
+        for (int i = 0; i < 1000; i++) {
+            buffer.add(i);
+        }
+        System.out.println("After 1000 adds: capacity " + buffer.capacity() + ", wasted " + buffer.wastedCapacity()
+                + ", grows " + buffer.growCount());                // capacity 1024, wasted 24, grows 6
+        buffer.removeRange(100, 1000);
+        System.out.println("After removing 900: capacity " + buffer.capacity()
+                + ", shrinks " + buffer.shrinkCount());            // capacity 200, shrinks 1
+        buffer.trimToSize();
+        System.out.println("After trimToSize: capacity " + buffer.capacity()
+                + ", copied " + buffer.copiedElements());          // capacity 100
+
         System.out.println("\nClear vector");
         vector.clear();
         System.out.println("Is empty? " + vector.isEmpty()); // true
@@ -0,0 +1,650 @@
+package data_structures;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+public class VectorBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /** Keeps results alive so the JIT cannot eliminate the measured loops. */
+    private static long sink;
+
+    private static void report(String label, int ops, long nanos) {
+        System.out.printf("  %-40s %10.2f ns/op%n", label, (double) nanos / ops);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long peakResidentKilobytes() {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc/self/status"))) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // not Linux
+        }
+        return -1;
+    }
+
+    /** Runs body once and returns the most heap it had in use at any point, as the heap pools' peak usage. */
+    private static long peakHeap(Runnable body) {
+        usedHeap();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+        body.run();
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static long time(Runnable body) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            body.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            body.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /** Compares Vector<Integer> with IntVector for appending, random reads, sequential sums and footprint. */
+    private static void benchInt(int n) {
+        int[] values = new Random(42).ints(n).toArray();
+        int[] positions = new Random(7).ints(n, 0, n).toArray();
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Vector<Integer> vs IntVector, n = " + n);
+        System.out.println("*********************");
+
+        report("Vector<Integer>.add", n, time(() -> {
+            Vector<Integer> vector = new Vector<>();
+            for (int value : values) {
+                vector.add(value);
+            }
+            sink += vector.size();
+        }));
+        report("IntVector.add", n, time(() -> {
+            IntVector vector = new IntVector();
+            for (int value : values) {
+                vector.add(value);
+            }
+            sink += vector.size();
+        }));
+        report("IntVector.addAll(int[])", n, time(() -> {
+            IntVector vector = new IntVector();
+            vector.addAll(values);
+            sink += vector.size();
+        }));
+
+        long heapBefore = usedHeap();
+        Vector<Integer> boxed = new Vector<>(n);
+        for (int value : values) {
+            boxed.add(value);
+        }
+        long boxedBytes = usedHeap() - heapBefore;
+        heapBefore = usedHeap();
+        IntVector primitive = new IntVector(n);
+        primitive.addAll(values);
+        long primitiveBytes = usedHeap() - heapBefore;
+
+        report("Vector<Integer>.get (random)", n, time(() -> {
+            long sum = 0;
+            for (int position : positions) {
+                sum += boxed.get(position);
+            }
+            sink += sum;
+        }));
+        report("IntVector.get (random)", n, time(() -> {
+            long sum = 0;
+            for (int position : positions) {
+                sum += primitive.get(position);
+            }
+            sink += sum;
+        }));
+        report("Vector<Integer> sum", n, time(() -> {
+            long sum = 0;
+            for (int i = 0; i < boxed.size(); i++) {
+                sum += boxed.get(i);
+            }
+            sink += sum;
+        }));
+        report("IntVector sum", n, time(() -> {
+            long sum = 0;
+            for (int i = 0; i < primitive.size(); i++) {
+                sum += primitive.get(i);
+            }
+            sink += sum;
+        }));
+        report("IntVector sort (copy + sort)", n, time(() -> {
+            IntVector copy = primitive.clone();
+            copy.sort();
+            sink += copy.get(0);
+        }));
+        IntVector sorted = primitive.clone();
+        sorted.sort();
+        report("IntVector.binarySearch", n, time(() -> {
+            long found = 0;
+            for (int value : values) {
+                if (sorted.binarySearch(value) >= 0) {
+                    found++;
+                }
+            }
+            sink += found;
+        }));
+        System.out.printf("  %-40s %10.2f bytes/element%n", "Vector<Integer> heap", (double) boxedBytes / n);
+        System.out.printf("  %-40s %10.2f bytes/element%n", "IntVector heap", (double) primitiveBytes / n);
+        sink += boxed.size() + primitive.size();
+    }
+
+    /** Compares Vector<Long> and Vector<Double> sums with their primitive counterparts. */
+    private static void benchLongDouble(int n) {
+        Random random = new Random(42);
+        Vector<Long> boxedLongs = new Vector<>(n);
+        LongVector longs = new LongVector(n);
+        Vector<Double> boxedDoubles = new Vector<>(n);
+        DoubleVector doubles = new DoubleVector(n);
+        for (int i = 0; i < n; i++) {
+            long l = random.nextLong();
+            double d = random.nextDouble();
+            boxedLongs.add(l);
+            longs.add(l);
+            boxedDoubles.add(d);
+            doubles.add(d);
+        }
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Sums over long and double elements, n = " + n);
+        System.out.println("*********************");
+
+        report("Vector<Long> sum", n, time(() -> {
+            long sum = 0;
+            for (int i = 0; i < boxedLongs.size(); i++) {
+                sum += boxedLongs.get(i);
+            }
+            sink += sum;
+        }));
+        report("LongVector sum", n, time(() -> {
+            long sum = 0;
+            for (int i = 0; i < longs.size(); i++) {
+                sum += longs.get(i);
+            }
+            sink += sum;
+        }));
+        report("Vector<Double> sum", n, time(() -> {
+            double sum = 0;
+            for (int i = 0; i < boxedDoubles.size(); i++) {
+                sum += boxedDoubles.get(i);
+            }
+            sink += (long) sum;
+        }));
+        report("DoubleVector sum", n, time(() -> {
+            double sum = 0;
+            for (int i = 0; i < doubles.size(); i++) {
+                sum += doubles.get(i);
+            }
+            sink += (long) sum;
+        }));
+    }
+
+    /** Builds the Vector that each bulk-operation run starts from. */
+    private static Vector<Integer> fill(Integer[] base) {
+        Vector<Integer> vector = new Vector<>(base.length);
+        vector.addAll(base);
+        return vector;
+    }
+
+    /**
+     * Compares the bulk and range operations with the element-at-a-time loops they replace, on a Vector of n elements
+     * and batches of k. Every run starts from a fresh copy, whose cost is reported on its own.
+     */
+    private static void benchBulk(int n, int k) {
+        Integer[] base = new Random(42).ints(n).boxed().toArray(Integer[]::new);
+        Integer[] batch = new Random(7).ints(k).boxed().toArray(Integer[]::new);
+        int middle = n / 2;
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Bulk operations on " + n + " elements, batches of " + k);
+        System.out.println("*********************");
+
+        report("copy (per element of the Vector)", n, time(() -> sink += fill(base).size()));
+        report("copy + add(index) loop (per inserted)", k, time(() -> {
+            Vector<Integer> vector = fill(base);
+            for (int i = 0; i < k; i++) {
+                vector.add(middle + i, batch[i]);
+            }
+            sink += vector.size();
+        }));
+        report("copy + addAll(index, batch)", k, time(() -> {
+            Vector<Integer> vector = fill(base);
+            vector.addAll(middle, batch);
+            sink += vector.size();
+        }));
+        report("copy + remove(index) loop (per removed)", k, time(() -> {
+            Vector<Integer> vector = fill(base);
+            for (int i = 0; i < k; i++) {
+                vector.remove(middle);
+            }
+            sink += vector.size();
+        }));
+        report("copy + removeRange", k, time(() -> {
+            Vector<Integer> vector = fill(base);
+            vector.removeRange(middle, middle + k);
+            sink += vector.size();
+        }));
+        // Every (n / k)-th element matches, so both remove about k elements spread over the whole Vector
+        int modulus = Math.max(1, n / k);
+        report("copy + remove(index) scan (per element)", n, time(() -> {
+            Vector<Integer> vector = fill(base);
+            for (int i = vector.size() - 1; i >= 0; i--) {
+                if (Math.floorMod(vector.get(i), modulus) == 0) {
+                    vector.remove(i);
+                }
+            }
+            sink += vector.size();
+        }));
+        report("copy + removeIf", n, time(() -> {
+            Vector<Integer> vector = fill(base);
+            vector.removeIf(value -> Math.floorMod(value, modulus) == 0);
+            sink += vector.size();
+        }));
+    }
+
+    /**
+     * Appends n elements under each growth policy, reporting time per append, the resizes and copies it took, and the
+     * unused capacity left at the end. Then runs a buffer that repeatedly fills to n and drains to n / 100, with and
+     * without auto-shrink, reporting the capacity it holds while drained.
+     */
+    private static void benchGrowth(int n) {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Growth policies, " + n + " appends");
+        System.out.println("*********************");
+
+        GrowthPolicy[] policies = {GrowthPolicy.ONE_AND_A_HALF, GrowthPolicy.DOUBLING, GrowthPolicy.additive(65_536),
+                GrowthPolicy.chunked(4_096)};
+        for (GrowthPolicy policy : policies) {
+            AtomicReference<Vector<Integer>> last = new AtomicReference<>();
+            long nanos = time(() -> {
+                Vector<Integer> vector = new Vector<>(0, policy, false);
+                for (int i = 0; i < n; i++) {
+                    vector.add(i);
+                }
+                last.set(vector);
+            });
+            Vector<Integer> vector = last.get();
+            System.out.printf("  %-18s %8.2f ns/op  grows %5d  copied %6.2f per element  wasted %,10d%n", policy,
+                    (double) nanos / n, vector.growCount(), (double) vector.copiedElements() / n,
+                    vector.wastedCapacity());
+        }
+
+        for (boolean autoShrink : new boolean[]{false, true}) {
+            Vector<Integer> buffer = new Vector<>(0, GrowthPolicy.ONE_AND_A_HALF, autoShrink);
+            long nanos = time(() -> {
+                for (int i = buffer.size(); i < n; i++) {
+                    buffer.add(i);
+                }
+                while (buffer.size() > n / 100) {
+                    buffer.remove(buffer.size() - 1);
+                }
+            });
+            System.out.printf("  %-18s %8.2f ns/op  grows %5d  shrinks %3d  capacity when drained %,10d%n",
+                    autoShrink ? "fill/drain shrink" : "fill/drain", (double) nanos / (2 * n), buffer.growCount(),
+                    buffer.shrinkCount(), buffer.capacity());
+        }
+    }
+
+    /** Fills a Vector or SegmentedVector with n references to one shared element, so only the arrays take memory. */
+    private static long fill(String kind, int n) {
+        Integer element = 42;
+        if (kind.equals("SegmentedVector")) {
+            SegmentedVector<Integer> vector = new SegmentedVector<>();
+            for (int i = 0; i < n; i++) {
+                vector.add(element);
+            }
+            return vector.size();
+        }
+        Vector<Integer> vector = new Vector<>();
+        for (int i = 0; i < n; i++) {
+            vector.add(element);
+        }
+        return vector.size();
+    }
+
+    /**
+     * Runs fill(kind, n) in a fresh JVM (main with arguments "footprint kind n") and returns its report. A process's
+     * peak RSS never goes down, so it can only be compared between processes that each did one thing.
+     */
+    private static String footprintInChildJvm(String kind, int n) {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                VectorBenchmark.class.getName(), "footprint", kind, String.valueOf(n));
+        builder.redirectErrorStream(true);
+        try {
+            Process process = builder.start();
+            byte[] output = readAll(process);
+            process.waitFor();
+            return new String(output).trim();
+        } catch (IOException e) {
+            return "footprint not measured: " + e.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "footprint not measured: interrupted";
+        }
+    }
+
+    private static byte[] readAll(Process process) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[4096];
+        for (int read; (read = process.getInputStream().read(chunk)) > 0; ) {
+            buffer.write(chunk, 0, read);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Compares Vector and SegmentedVector filled with n references to one shared element: per-append latency, and
+     * in a child JVM each, peak heap and peak RSS; then random reads.
+     */
+    private static void benchSegmented(int n) {
+        Integer element = 42;
+        int[] positions = new Random(7).ints(n, 0, n).toArray();
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("SegmentedVector vs Vector, " + n + " appends");
+        System.out.println("*********************");
+
+        long[] latencies = new long[n];
+        for (String kind : new String[]{"SegmentedVector", "Vector"}) {
+            boolean segmented = kind.equals("SegmentedVector");
+            for (int round = 0; round < WARMUP_ROUNDS + 1; round++) {
+                if (segmented) {
+                    SegmentedVector<Integer> vector = new SegmentedVector<>();
+                    for (int i = 0; i < n; i++) {
+                        long start = System.nanoTime();
+                        vector.add(element);
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                    sink += vector.size();
+                } else {
+                    Vector<Integer> vector = new Vector<>();
+                    for (int i = 0; i < n; i++) {
+                        long start = System.nanoTime();
+                        vector.add(element);
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                    sink += vector.size();
+                }
+            }
+            Arrays.sort(latencies);
+            System.out.printf("  %-16s add p50 %6d ns  p99 %6d ns  p99.9 %8d ns  max %10d ns%n", kind,
+                    latencies[n / 2], latencies[(int) (n * 0.99)], latencies[(int) (n * 0.999)], latencies[n - 1]);
+            System.out.printf("  %-16s %s%n", kind, footprintInChildJvm(kind, n));
+        }
+
+        SegmentedVector<Integer> segmented = new SegmentedVector<>();
+        Vector<Integer> contiguous = new Vector<>(n);
+        for (int i = 0; i < n; i++) {
+            segmented.add(i);
+            contiguous.add(i);
+        }
+        report("SegmentedVector.get (random)", n, time(() -> {
+            long sum = 0;
+            for (int position : positions) {
+                sum += segmented.get(position);
+            }
+            sink += sum;
+        }));
+        report("Vector.get (random)", n, time(() -> {
+            long sum = 0;
+            for (int position : positions) {
+                sum += contiguous.get(position);
+            }
+            sink += sum;
+        }));
+    }
+
+    /** Times body inside a fork-join pool, so that the parallel methods it calls use that pool's workers. */
+    private static long timeIn(ForkJoinPool pool, Runnable body) {
+        try {
+            return pool.submit(() -> time(body)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Compares the sequential indexOf, sort and element loop with parallelIndexOf, parallelSort and parallelStream on
+     * fork-join pools of 1 to 8 workers, reporting millions of elements processed per second. The searched value is
+     * absent, so every search scans the whole Vector. Arrays.parallelSort falls back to a sequential sort when the
+     * common pool has a single worker (a single-core machine), whatever pool it is called from.
+     */
+    private static void benchParallel(int n) {
+        Integer[] base = new Random(42).ints(n, 0, Integer.MAX_VALUE).boxed().toArray(Integer[]::new);
+        Vector<Integer> vector = new Vector<>(n);
+        vector.addAll(base);
+        Integer absent = -1;
+
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("Parallel operations on " + n + " elements, "
+                + Runtime.getRuntime().availableProcessors() + " available processors");
+        System.out.println("*********************");
+
+        long indexOf = time(() -> sink += vector.indexOf(absent));
+        long sort = time(() -> {
+            Vector<Integer> copy = new Vector<>(n);
+            copy.addAll(base);
+            copy.sort(Comparator.naturalOrder());
+            sink += copy.get(0);
+        });
+        long loop = time(() -> {
+            long sum = 0;
+            for (int i = 0; i < vector.size(); i++) {
+                sum += vector.get(i);
+            }
+            sink += sum;
+        });
+        System.out.printf("  %-12s indexOf %8.1f   sort %7.2f   sum loop %8.1f   Melements/s%n", "sequential",
+                n * 1e3 / indexOf, n * 1e3 / sort, n * 1e3 / loop);
+
+        for (int workers : new int[]{1, 2, 4, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(workers);
+            try {
+                long parallelIndexOf = timeIn(pool, () -> sink += vector.parallelIndexOf(absent));
+                long parallelSort = timeIn(pool, () -> {
+                    Vector<Integer> copy = new Vector<>(n);
+                    copy.addAll(base);
+                    copy.parallelSort(Comparator.naturalOrder());
+                    sink += copy.get(0);
+                });
+                long parallelSum = timeIn(pool, () ->
+                        sink += vector.parallelStream().mapToLong(Integer::longValue).sum());
+                System.out.printf("  %2d workers   indexOf %8.1f   sort %7.2f   stream sum %6.1f   Melements/s%n",
+                        workers, n * 1e3 / parallelIndexOf, n * 1e3 / parallelSort, n * 1e3 / parallelSum);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /** The operations the read-mostly benchmark needs, so both vectors can run the same workload. */
+    private interface SharedVector {
+        void set(int index, Integer value);
+
+        /** Takes a consistent view of the whole vector and sums it. */
+        long scan();
+    }
+
+    /**
+     * Runs the given number of reader threads, each doing readsPerThread scans, while one writer sets an element
+     * about every 50 us until the readers are done. Returns {elapsed nanos, bytes allocated by the readers}.
+     */
+    private static long[] runReaders(SharedVector vector, int size, int readers, int readsPerThread)
+            throws InterruptedException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(readers);
+        long[] allocated = new long[readers];
+        for (int r = 0; r < readers; r++) {
+            int id = r;
+            Thread reader = new Thread(() -> {
+                long total = 0;
+                try {
+                    start.await();
+                    long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+                    for (int i = 0; i < readsPerThread; i++) {
+                        total += vector.scan();
+                    }
+                    allocated[id] = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                synchronized (allocated) {
+                    sink += total;
+                }
+                done.countDown();
+            });
+            reader.start();
+        }
+        Thread writer = new Thread(() -> {
+            Random random = new Random(1);
+            while (done.getCount() > 0) {
+                vector.set(random.nextInt(size), random.nextInt());
+                LockSupport.parkNanos(50_000);
+            }
+        });
+        writer.start();
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        writer.join();
+        long bytes = 0;
+        for (long a : allocated) {
+            bytes += a;
+        }
+        return new long[]{elapsed, bytes};
+    }
+
+    /**
+     * One writer and a growing number of readers over a vector of the given size. Compares the current practice,
+     * cloning a Vector under a lock on every read, with reading a CopyOnWriteVector snapshot.
+     */
+    private static void benchCopyOnWrite(int size) throws InterruptedException {
+        System.out.println();
+        System.out.println("*********************");
+        System.out.println("One writer, many readers, " + size + " elements; each read scans a consistent view");
+        System.out.println("*********************");
+
+        Integer[] values = new Random(42).ints(size).boxed().toArray(Integer[]::new);
+        for (int readers : new int[]{1, 4, 16, 64}) {
+            int readsPerThread = Math.max(1, 4_000 / readers);
+            int reads = readers * readsPerThread;
+
+            Vector<Integer> plain = new Vector<>(size);
+            plain.addAll(values);
+            Object lock = new Object();
+            long[] cloned = runReaders(new SharedVector() {
+                public void set(int index, Integer value) {
+                    synchronized (lock) {
+                        plain.set(index, value);
+                    }
+                }
+
+                public long scan() {
+                    Vector<Integer> copy;
+                    synchronized (lock) {
+                        copy = plain.clone();
+                    }
+                    long sum = 0;
+                    for (int i = 0; i < copy.size(); i++) {
+                        sum += copy.get(i);
+                    }
+                    return sum;
+                }
+            }, size, readers, readsPerThread);
+
+            CopyOnWriteVector<Integer> cow = new CopyOnWriteVector<>(values);
+            long[] snapshot = runReaders(new SharedVector() {
+                public void set(int index, Integer value) {
+                    cow.set(index, value);
+                }
+
+                public long scan() {
+                    CopyOnWriteVector.Snapshot<Integer> view = cow.snapshot();
+                    long sum = 0;
+                    for (int i = 0; i < view.size(); i++) {
+                        sum += view.get(i);
+                    }
+                    return sum;
+                }
+            }, size, readers, readsPerThread);
+
+            System.out.printf("  %2d readers  clone %8.1f reads/ms %9d B/read   snapshot %8.1f reads/ms %5d B/read%n",
+                    readers, reads * 1e6 / cloned[0], cloned[1] / reads, reads * 1e6 / snapshot[0],
+                    snapshot[1] / reads);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length == 3 && args[0].equals("footprint")) {
+            long heapBefore = usedHeap();
+            long rssBefore = peakResidentKilobytes();
+            long heapPeak = peakHeap(() -> sink += fill(args[1], Integer.parseInt(args[2])));
+            System.out.printf("peak heap +%,d kB, peak RSS +%,d kB%n", (heapPeak - heapBefore) / 1024,
+                    peakResidentKilobytes() - rssBefore);
+            return;
+        }
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        benchInt(n);
+        benchLongDouble(n);
+        benchBulk(n, 1_000);
+        benchGrowth(n);
+        benchSegmented(10 * n);
+        benchParallel(n);
+        benchCopyOnWrite(n / 10);
+
+        System.out.println();
+        System.out.println("(sink " + sink + ")");
+    }
+}